@@ -0,0 +1,132 @@
+package com.project.hrbank.diff;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.hrbank.entity.Employee;
+import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.util.diff.ChangeLogFields;
+import com.project.hrbank.util.diff.ChangeLogJsonWriter;
+
+/**
+ * 직원 수정 시 변경 이력 JSON 생성 비용 비교 (기존 Map + ObjectMapper 방식 / FieldDiffEngine).
+ * -prof gc 로 op 당 할당량(gc.alloc.rate.norm)을 함께 확인한다.
+ * 수정 대상 직원은 Trial 단위로 한 번만 만들고, 호출마다 변경/원복 요청을 번갈아 적용해 매번 같은 수의 필드가 바뀌게 한다.
+ * (Level.Invocation 준비 작업은 나노초 단위 측정과 할당량을 왜곡한다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmployeeChangeLogBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final Employee[] requests = new Employee[2];
+	private Employee existing;
+	private int invocation;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		existing = Employee.builder()
+			.employeeNumber("EMP001")
+			.name("홍길동")
+			.email("hong@example.com")
+			.departmentId(1L)
+			.position("대리")
+			.hireDate(LocalDate.of(2020, 3, 2))
+			.status(EmployeeStatus.ACTIVE)
+			.build();
+		requests[0] = Employee.builder()
+			.name("홍길동")
+			.email("gildong.hong@example.com")
+			.departmentId(2L)
+			.position("과장")
+			.hireDate(LocalDate.of(2020, 3, 2))
+			.status(EmployeeStatus.ACTIVE)
+			.build();
+		requests[1] = Employee.builder()
+			.name("홍길동")
+			.email("hong@example.com")
+			.departmentId(1L)
+			.position("대리")
+			.hireDate(LocalDate.of(2020, 3, 2))
+			.status(EmployeeStatus.ACTIVE)
+			.build();
+	}
+
+	@Benchmark
+	public String mapAndObjectMapper() throws JsonProcessingException {
+		Employee requested = nextRequest();
+		List<Map<String, Object>> logData = new ArrayList<>();
+		if (!Objects.equals(existing.getHireDate(), requested.getHireDate())) {
+			logData.add(createLogEntry("hireDate", toStringOrNull(existing.getHireDate()),
+				toStringOrNull(requested.getHireDate())));
+			existing.setHireDate(requested.getHireDate());
+		}
+		if (!Objects.equals(existing.getName(), requested.getName())) {
+			logData.add(createLogEntry("name", existing.getName(), requested.getName()));
+			existing.setName(requested.getName());
+		}
+		if (!Objects.equals(existing.getPosition(), requested.getPosition())) {
+			logData.add(createLogEntry("position", existing.getPosition(), requested.getPosition()));
+			existing.setPosition(requested.getPosition());
+		}
+		if (!Objects.equals(existing.getDepartmentId(), requested.getDepartmentId())) {
+			logData.add(createLogEntry("department", toStringOrNull(existing.getDepartmentId()),
+				toStringOrNull(requested.getDepartmentId())));
+			existing.setDepartmentId(requested.getDepartmentId());
+		}
+		if (!Objects.equals(existing.getEmail(), requested.getEmail())) {
+			logData.add(createLogEntry("email", existing.getEmail(), requested.getEmail()));
+			existing.setEmail(requested.getEmail());
+		}
+		if (!Objects.equals(existing.getStatus(), requested.getStatus())) {
+			logData.add(createLogEntry("status", toStringOrNull(existing.getStatus()),
+				toStringOrNull(requested.getStatus())));
+			existing.setStatus(requested.getStatus());
+		}
+		return objectMapper.writeValueAsString(logData);
+	}
+
+	@Benchmark
+	public String fieldDiffEngine() {
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		ChangeLogFields.EMPLOYEE.apply(existing, nextRequest(), changedValues);
+		return changedValues.toJson();
+	}
+
+	/**
+	 * 변경 요청과 원복 요청을 번갈아 반환. 어느 쪽이든 existing 과 email, 부서, 직급 세 필드가 다르다.
+	 */
+	private Employee nextRequest() {
+		return requests[invocation++ & 1];
+	}
+
+	private static Map<String, Object> createLogEntry(String propertyName, String before, String after) {
+		Map<String, Object> entry = new HashMap<>();
+		entry.put("propertyName", propertyName);
+		entry.put("before", before);
+		entry.put("after", after);
+		return entry;
+	}
+
+	private static String toStringOrNull(Object value) {
+		return value != null ? value.toString() : null;
+	}
+}
@@ -0,0 +1,38 @@
+package com.project.hrbank.config.backup;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+@EnableConfigurationProperties(BackupProperties.class)
+public class BackupConfiguration {
+
+	/**
+	 * 백업 작업 전용 실행기. 동시에 하나의 백업만 실행하므로 스레드 하나와 작은 대기열로 제한한다.
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor backupTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("backup-");
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(60);
+		return executor;
+	}
+
+	/**
+	 * 전체 백업의 employee_id 구간(청크)을 동시에 기록하는 실행기
+	 */
+	@Bean
+	public ThreadPoolTaskExecutor backupChunkExecutor(BackupProperties backupProperties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(backupProperties.parallelism());
+		executor.setMaxPoolSize(backupProperties.parallelism());
+		executor.setThreadNamePrefix("backup-chunk-");
+		return executor;
+	}
+}
@@ -0,0 +1,38 @@
+package com.project.hrbank.config.backup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.project.hrbank.util.provider.BackupCompression;
+
+/**
+ * 백업 동작 설정 (hrBank.backup.*)
+ * @param incremental 증분 백업 설정
+ * @param compression 백업 파일 압축 방식
+ * @param parallelism 전체 백업 시 employee_id 구간을 나눠 동시에 기록할 스레드 수 (0 이면 CPU 코어 수, 최대 4)
+ */
+@ConfigurationProperties(prefix = "hr-bank.backup")
+public record BackupProperties(
+	@DefaultValue Incremental incremental,
+	@DefaultValue("none") BackupCompression compression,
+	@DefaultValue("0") int parallelism
+) {
+
+	private static final int MAX_DEFAULT_PARALLELISM = 4;
+
+	public BackupProperties {
+		if (parallelism <= 0) {
+			parallelism = Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_PARALLELISM);
+		}
+	}
+
+	/**
+	 * @param enabled 증분 백업 사용 여부
+	 * @param maxChainLength 하나의 전체 백업에 연결할 수 있는 최대 증분 백업 수. 초과하면 전체 백업을 수행한다.
+	 */
+	public record Incremental(
+		@DefaultValue("true") boolean enabled,
+		@DefaultValue("23") int maxChainLength
+	) {
+	}
+}
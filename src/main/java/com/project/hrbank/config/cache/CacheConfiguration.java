@@ -0,0 +1,36 @@
+package com.project.hrbank.config.cache;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.project.hrbank.util.cache.CacheInvalidationChannel;
+import com.project.hrbank.util.cache.LocalCacheInvalidationChannel;
+import com.project.hrbank.util.cache.PostgresCacheInvalidationChannel;
+
+@Configuration
+@EnableConfigurationProperties(DepartmentCacheProperties.class)
+public class CacheConfiguration {
+
+	/**
+	 * 같은 JVM 안에서만 전달한다. 여러 인스턴스로 운영하면 다른 인스턴스의 캐시는 TTL 이 지나야 바뀐다.
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "hrBank.cache", name = "invalidation", havingValue = "local",
+		matchIfMissing = true)
+	public CacheInvalidationChannel cacheInvalidationChannel() {
+		return new LocalCacheInvalidationChannel();
+	}
+
+	/**
+	 * PostgreSQL LISTEN/NOTIFY 로 모든 인스턴스에 전달한다.
+	 */
+	@Bean(initMethod = "start")
+	@ConditionalOnProperty(prefix = "hrBank.cache", name = "invalidation", havingValue = "postgres")
+	public CacheInvalidationChannel postgresCacheInvalidationChannel(DataSource dataSource) {
+		return new PostgresCacheInvalidationChannel(dataSource);
+	}
+}
@@ -0,0 +1,18 @@
+package com.project.hrbank.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 부서 캐시 설정 (hrBank.cache.department.*)
+ * @param maxSize 최대 보관 부서 수. 초과하면 가장 오래 사용되지 않은 부서부터 제거한다.
+ * @param ttl 보관 기간. 다른 인스턴스의 무효화 메시지를 놓친 경우에도 이 시간이 지나면 다시 조회한다.
+ */
+@ConfigurationProperties(prefix = "hr-bank.cache.department")
+public record DepartmentCacheProperties(
+	@DefaultValue("1000") int maxSize,
+	@DefaultValue("10m") Duration ttl
+) {
+}
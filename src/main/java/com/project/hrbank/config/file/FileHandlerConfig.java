@@ -5,6 +5,7 @@ import org.springframework.context.annotation.Configuration;
 
 import com.project.hrbank.util.handler.FileHandler;
 import com.project.hrbank.util.handler.impl.CsvFileHandler;
+import com.project.hrbank.util.handler.impl.GzipFileHandler;
 import com.project.hrbank.util.handler.impl.ImageFileHandler;
 import com.project.hrbank.util.handler.impl.LogFileHandler;
 
@@ -24,4 +25,9 @@ public class FileHandlerConfig {
 	public FileHandler logFileHandler() {
 		return new LogFileHandler();
 	}
+
+	@Bean
+	public FileHandler gzipFileHandler() {
+		return new GzipFileHandler();
+	}
 }
@@ -0,0 +1,109 @@
+package com.project.hrbank.config.file;
+
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.project.hrbank.repository.FileRepository;
+import com.project.hrbank.util.factory.FileHandlerFactory;
+import com.project.hrbank.util.storage.ContentAddressedFileStorage;
+import com.project.hrbank.util.storage.FileStorage;
+import com.project.hrbank.util.storage.LocalFileStorage;
+import com.project.hrbank.util.storage.LocalObjectStore;
+import com.project.hrbank.util.storage.ObjectStore;
+import com.project.hrbank.util.storage.ObjectStoreFileStorage;
+import com.project.hrbank.util.storage.S3ObjectStore;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+/**
+ * hrBank.storage.type 에 따라 파일 저장소를 하나만 등록한다.
+ * <ul>
+ *     <li>local: 파일 이름 그대로 로컬 디렉터리에 저장</li>
+ *     <li>content-addressed: 내용 해시로 로컬 디렉터리에 저장</li>
+ *     <li>object-store: 객체 저장소(S3 호환)에 저장</li>
+ *     <li>tiered: content-addressed 로 저장하고, 오래된 백업 파일은 객체 저장소로 옮김</li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties(StorageProperties.class)
+public class FileStorageConfig {
+
+	private static final String STORAGE_TYPE = "${hrBank.storage.type:local}";
+
+	private final String fileDirectory;
+
+	public FileStorageConfig(@Value("${hrBank.repository.file-directory:data}") String fileDirectory) {
+		this.fileDirectory = fileDirectory;
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "hrBank.storage", name = "type", havingValue = "local", matchIfMissing = true)
+	public FileStorage localFileStorage(FileHandlerFactory fileHandlerFactory, FileRepository fileRepository) {
+		return new LocalFileStorage(fileHandlerFactory, fileRepository, fileDirectory);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "hrBank.storage", name = "type", havingValue = "content-addressed")
+	public FileStorage contentAddressedFileStorage(FileRepository fileRepository) {
+		return new ContentAddressedFileStorage(fileRepository, fileDirectory);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "hrBank.storage", name = "type", havingValue = "object-store")
+	public ObjectStoreFileStorage objectStoreFileStorage(ObjectStore objectStore, FileRepository fileRepository) {
+		return new ObjectStoreFileStorage(objectStore, fileRepository);
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "hrBank.storage", name = "type", havingValue = "tiered")
+	public ObjectStoreFileStorage tieredFileStorage(ObjectStore objectStore, FileRepository fileRepository) {
+		return new ObjectStoreFileStorage(new ContentAddressedFileStorage(fileRepository, fileDirectory), objectStore,
+			fileRepository);
+	}
+
+	@Bean
+	@ConditionalOnExpression("'" + STORAGE_TYPE + "' == 'object-store' or '" + STORAGE_TYPE + "' == 'tiered'")
+	public ObjectStore objectStore(StorageProperties storageProperties) {
+		StorageProperties.ObjectStore properties = storageProperties.objectStore();
+		return switch (properties.backend()) {
+			case "s3" -> new S3ObjectStore(s3Client(properties), properties.bucket(),
+				Math.toIntExact(properties.partSize().toBytes()));
+			case "local" -> new LocalObjectStore(properties.localDirectory());
+			default -> throw new IllegalArgumentException("지원하지 않는 객체 저장소입니다: " + properties.backend());
+		};
+	}
+
+	private static S3Client s3Client(StorageProperties.ObjectStore properties) {
+		S3ClientBuilder builder = S3Client.builder()
+			.region(Region.of(properties.region()))
+			.credentialsProvider(credentialsProvider(properties))
+			.serviceConfiguration(S3Configuration.builder()
+				.pathStyleAccessEnabled(properties.pathStyleAccess())
+				.build());
+		if (properties.endpoint() != null && !properties.endpoint().isBlank()) {
+			builder.endpointOverride(URI.create(properties.endpoint()));
+		}
+		return builder.build();
+	}
+
+	private static AwsCredentialsProvider credentialsProvider(StorageProperties.ObjectStore properties) {
+		if (properties.accessKey() == null || properties.accessKey().isBlank()) {
+			return DefaultCredentialsProvider.create();
+		}
+		return StaticCredentialsProvider.create(
+			AwsBasicCredentials.create(properties.accessKey(), properties.secretKey()));
+	}
+}
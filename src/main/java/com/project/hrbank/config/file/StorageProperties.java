@@ -0,0 +1,53 @@
+package com.project.hrbank.config.file;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 파일 저장소 설정 (hrBank.storage.*). 저장 방식 자체는 hrBank.storage.type 으로 고른다.
+ * @param objectStore object-store, tiered 방식에서 쓰는 객체 저장소 설정
+ * @param tiered tiered 방식에서 로컬 파일을 객체 저장소로 옮기는 기준
+ */
+@ConfigurationProperties(prefix = "hr-bank.storage")
+public record StorageProperties(
+	@DefaultValue ObjectStore objectStore,
+	@DefaultValue Tiered tiered
+) {
+
+	/**
+	 * @param backend s3: S3 호환 API, local: 디렉터리를 객체 저장소처럼 사용 (테스트, 로컬 개발용)
+	 * @param bucket 버킷 이름 (s3)
+	 * @param endpoint S3 호환 저장소 주소 (MinIO 등), 비어 있으면 AWS S3
+	 * @param region 리전
+	 * @param accessKey 접근 키, 비어 있으면 기본 자격 증명(환경 변수, 인스턴스 프로파일 등)을 사용
+	 * @param secretKey 비밀 키
+	 * @param pathStyleAccess 버킷을 호스트 대신 경로로 지정할지 여부 (MinIO 는 보통 true)
+	 * @param partSize multipart upload 의 part 크기 (5MB 이상). 업로드 하나가 이만큼의 메모리를 쓴다.
+	 * @param localDirectory local 백엔드의 저장 디렉터리
+	 */
+	public record ObjectStore(
+		@DefaultValue("local") String backend,
+		String bucket,
+		String endpoint,
+		@DefaultValue("ap-northeast-2") String region,
+		String accessKey,
+		String secretKey,
+		@DefaultValue("false") boolean pathStyleAccess,
+		@DefaultValue("8MB") DataSize partSize,
+		@DefaultValue("object-store") String localDirectory
+	) {
+	}
+
+	/**
+	 * @param ageAfter 만들어진 지 이 기간이 지난 백업 파일을 객체 저장소로 옮긴다
+	 * @param batchSize 한 번에 조회해 옮길 파일 수
+	 */
+	public record Tiered(
+		@DefaultValue("7d") Duration ageAfter,
+		@DefaultValue("100") int batchSize
+	) {
+	}
+}
@@ -0,0 +1,22 @@
+package com.project.hrbank.config.paging;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import com.project.hrbank.util.paging.CountMode;
+
+/**
+ * 목록 전체 개수 설정 (hrBank.paging.count.*)
+ * @param defaultMode 요청에 countMode 가 없을 때 사용할 방식
+ * @param ttl CACHED 방식에서 개수를 재사용할 시간
+ * @param cap CAPPED 방식에서 셀 최대 개수
+ */
+@ConfigurationProperties(prefix = "hr-bank.paging.count")
+public record CountProperties(
+	@DefaultValue("CACHED") CountMode defaultMode,
+	@DefaultValue("30s") Duration ttl,
+	@DefaultValue("10000") long cap
+) {
+}
@@ -0,0 +1,9 @@
+package com.project.hrbank.config.paging;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(CountProperties.class)
+public class PagingConfiguration {
+}
@@ -6,17 +6,21 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.project.hrbank.config.paging.DefaultSortField;
+import com.project.hrbank.dto.response.BackupManifestResponse;
 import com.project.hrbank.dto.response.BackupResponse;
 import com.project.hrbank.dto.response.CursorPageResponse;
+import com.project.hrbank.entity.enums.BackupType;
 import com.project.hrbank.entity.enums.Status;
 import com.project.hrbank.service.BackupService;
 import com.project.hrbank.util.IpUtils;
+import com.project.hrbank.util.paging.CountMode;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -32,25 +36,46 @@ public class BackupController {
 	@GetMapping
 	@DefaultSortField("startedAt")
 	public ResponseEntity<CursorPageResponse<BackupResponse>> findAll(
-		@RequestParam(required = false) LocalDateTime cursor,
+		@RequestParam(required = false) String cursor,
 		@RequestParam(required = false) Status status,
 		@RequestParam(required = false, name = "startedAtFrom") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startedAtFrom,
 		@RequestParam(required = false, name = "startedAtTo") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startedAtTo,
 		@RequestParam(required = false, defaultValue = "") String worker,
+		@RequestParam(required = false) CountMode countMode,
 		Pageable pageable
 	) {
 
-		CursorPageResponse<BackupResponse> backupDto = backupService.findAll(cursor, status, startedAtFrom, startedAtTo, worker, pageable);
+		CursorPageResponse<BackupResponse> backupDto = backupService.findAll(cursor, status, startedAtFrom, startedAtTo,
+			worker, pageable, countMode);
 		return ResponseEntity.ok(backupDto);
 	}
 
 	@PostMapping
-	public ResponseEntity<BackupResponse> backup(HttpServletRequest request) {
+	public ResponseEntity<BackupResponse> backup(
+		HttpServletRequest request,
+		@RequestParam(required = false) BackupType type
+	) {
 		String clientIpAddr = ipUtils.extractClientIp(request);
-		BackupResponse backup = backupService.backup(clientIpAddr);
+		BackupResponse backup = backupService.backup(clientIpAddr, type);
 		return ResponseEntity.ok(backup);
 	}
 
+	@GetMapping("/{id}")
+	public ResponseEntity<BackupResponse> findById(@PathVariable Long id) {
+		return ResponseEntity.ok(backupService.findById(id));
+	}
+
+	@GetMapping("/{id}/manifest")
+	public ResponseEntity<BackupManifestResponse> findManifest(@PathVariable Long id) {
+		return ResponseEntity.ok(backupService.findManifest(id));
+	}
+
+	@PostMapping("/{id}/compaction")
+	public ResponseEntity<BackupResponse> compact(@PathVariable Long id, HttpServletRequest request) {
+		String clientIpAddr = ipUtils.extractClientIp(request);
+		return ResponseEntity.ok(backupService.compact(id, clientIpAddr));
+	}
+
 	@GetMapping("/latest")
 	public ResponseEntity<BackupResponse> findLatest() {
 		BackupResponse backupDto = backupService.findLatest();
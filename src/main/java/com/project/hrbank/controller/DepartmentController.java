@@ -1,7 +1,5 @@
 package com.project.hrbank.controller;
 
-import java.time.LocalDateTime;
-
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -17,8 +15,10 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.project.hrbank.config.paging.DefaultSortField;
 import com.project.hrbank.dto.DepartmentDto;
+import com.project.hrbank.dto.response.CacheStatsResponse;
 import com.project.hrbank.dto.response.CursorPageResponse;
 import com.project.hrbank.service.DepartmentService;
+import com.project.hrbank.util.paging.CountMode;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -50,13 +50,15 @@ public class DepartmentController {
 	@GetMapping
 	@DefaultSortField("createdAt")
 	public ResponseEntity<CursorPageResponse<DepartmentDto>> getAllDepartments(
-		@RequestParam(required = false) LocalDateTime cursor,
+		@RequestParam(required = false) String cursor,
 		@RequestParam(defaultValue = "") String nameOrDescription,
+		@RequestParam(required = false) CountMode countMode,
 		Pageable pageable) {
 		CursorPageResponse<DepartmentDto> response = departmentService.getAllDepartments(
 			cursor,
 			nameOrDescription,
-			pageable
+			pageable,
+			countMode
 		);
 		return ResponseEntity.ok(response);
 	}
@@ -72,4 +74,9 @@ public class DepartmentController {
 		departmentService.deleteDepartment(id);
 		return ResponseEntity.noContent().build();
 	}
+
+	@GetMapping("/cache/stats")
+	public ResponseEntity<CacheStatsResponse> getCacheStats() {
+		return ResponseEntity.ok(departmentService.getCacheStats());
+	}
 }
@@ -1,11 +1,11 @@
 package com.project.hrbank.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDate;
 
 import java.util.List;
-import java.util.Map;
 
-import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -22,9 +22,18 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.project.hrbank.dto.request.EmployeeRequestDto;
+import com.project.hrbank.dto.response.CursorPageResponse;
+import com.project.hrbank.dto.response.EmployeeDashboardResponse;
+import com.project.hrbank.dto.response.EmployeeDistributionResponse;
+import com.project.hrbank.dto.response.EmployeeImportResponse;
 import com.project.hrbank.dto.response.EmployeeResponseDto;
+import com.project.hrbank.dto.response.EmployeeTrendResponse;
 import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.entity.enums.TrendUnit;
+import com.project.hrbank.service.EmployeeImportService;
 import com.project.hrbank.service.EmployeeService;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.MatchMode;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +44,7 @@ import lombok.RequiredArgsConstructor;
 public class EmployeeController {
 
 	private final EmployeeService employeeService;
+	private final EmployeeImportService employeeImportService;
 
 	@PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	public ResponseEntity<EmployeeResponseDto> registerEmployee(
@@ -45,19 +55,31 @@ public class EmployeeController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(responseDto);
 	}
 
+	@PostMapping(value = "/import", consumes = "text/csv")
+	public ResponseEntity<EmployeeImportResponse> importEmployeesFromCsv(InputStream inputStream) throws IOException {
+		return ResponseEntity.ok(employeeImportService.importCsv(inputStream));
+	}
+
+	@PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<EmployeeImportResponse> importEmployeesFromJson(InputStream inputStream) throws IOException {
+		return ResponseEntity.ok(employeeImportService.importJson(inputStream));
+	}
+
 	@GetMapping
-	public ResponseEntity<Page<EmployeeResponseDto>> getEmployees(
+	public ResponseEntity<CursorPageResponse<EmployeeResponseDto>> getEmployees(
 		@RequestParam(required = false) String nameOrEmail,
+		@RequestParam(defaultValue = "CONTAINS") MatchMode match,
 		@RequestParam(required = false) String departmentName,
 		@RequestParam(required = false) String position,
 		@RequestParam(required = false) EmployeeStatus status,
-		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(required = false) String cursor,
 		@RequestParam(defaultValue = "30") int size,
 		@RequestParam(defaultValue = "name") String sortField,
-		@RequestParam(defaultValue = "asc") String sortDirection
+		@RequestParam(defaultValue = "asc") String sortDirection,
+		@RequestParam(required = false) CountMode countMode
 	) {
-		Page<EmployeeResponseDto> employees = employeeService.getEmployees(nameOrEmail, departmentName, position,
-			status, page, size, sortField, sortDirection);
+		CursorPageResponse<EmployeeResponseDto> employees = employeeService.getEmployees(nameOrEmail, match,
+			departmentName, position, status, cursor, size, sortField, sortDirection, countMode);
 		return ResponseEntity.ok(employees);
 	}
 
@@ -105,18 +127,37 @@ public class EmployeeController {
 	}
 
 	@GetMapping("/stats/trend")
-	public ResponseEntity<Long> countEmployeesByUnit(@RequestParam String unit) {
-		long count = employeeService.countEmployeesByUnit(unit);
-		return ResponseEntity.ok(count);
+	public ResponseEntity<List<EmployeeTrendResponse>> getEmployeeTrend(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(defaultValue = "month") String unit
+	) {
+		List<EmployeeTrendResponse> trend = employeeService.getEmployeeTrend(from, to, TrendUnit.from(unit));
+		return ResponseEntity.ok(trend);
 	}
 	@GetMapping("/stats/distribution")
-	public ResponseEntity<List<Map<String, Object>>> getEmployeeDistribution(
+	public ResponseEntity<List<EmployeeDistributionResponse>> getEmployeeDistribution(
 		@RequestParam(defaultValue = "department") String groupBy,
 		@RequestParam(defaultValue = "ACTIVE") EmployeeStatus status
 	) {
-		List<Map<String, Object>> distribution = employeeService.getEmployeeDistribution(groupBy, status);
+		List<EmployeeDistributionResponse> distribution = employeeService.getEmployeeDistribution(groupBy, status);
 		return ResponseEntity.ok(distribution);
 	}
 
+	/**
+	 * 대시보드 통계를 한 번에 조회한다. (/count, /stats/trend, /stats/distribution 을 각각 호출하는 대신 사용)
+	 */
+	@GetMapping("/stats/dashboard")
+	public ResponseEntity<EmployeeDashboardResponse> getEmployeeDashboard(
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+		@RequestParam(defaultValue = "month") String unit,
+		@RequestParam(defaultValue = "ACTIVE") EmployeeStatus status
+	) {
+		EmployeeDashboardResponse dashboard = employeeService.getEmployeeDashboard(from, to, TrendUnit.from(unit),
+			status);
+		return ResponseEntity.ok(dashboard);
+	}
+
 
 }
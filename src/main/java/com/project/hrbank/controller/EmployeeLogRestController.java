@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.project.hrbank.dto.response.CursorPageResponse;
 import com.project.hrbank.dto.response.EmployeeLogResponse;
 import com.project.hrbank.service.EmployeeLogService;
+import com.project.hrbank.util.paging.CountMode;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -37,16 +38,17 @@ public class EmployeeLogRestController {
 
 	/**
 	 *
-	 * @param employeeNumber - 사원 번호 검색
-	 * @param memo - 메모 검색
-	 * @param ipAddress - IP 주소 검색
+	 * @param employeeNumber - 사원 번호 검색 (정확히 일치)
+	 * @param memo - 메모 검색 (부분 일치, 대소문자 무시)
+	 * @param ipAddress - IP 주소 검색 (부분 일치)
 	 * @param type - 로그 타입(CREATE || UPDATE || DELETE)
 	 * @param atFrom - 날짜 검색( 시작일 )
 	 * @param atTo - 날짜 검색( 종료일 )
 	 * @param size - 페이지 당 로딩 개수
 	 * @param sortField - 정렬 기준
 	 * @param sortDirection - 정렬 ASC, DESC
-	 * @param cursor
+	 * @param cursor - 이전 페이지의 nextCursor
+	 * @param countMode - 전체 개수 계산 방식(EXACT || CACHED || ESTIMATED || CAPPED)
 	 * @return Log List 반환
 	 */
 	@GetMapping
@@ -61,11 +63,12 @@ public class EmployeeLogRestController {
 		@RequestParam(defaultValue = "30") int size,
 		@RequestParam(defaultValue = "at") String sortField,
 		@RequestParam(defaultValue = "desc") String sortDirection,
-		@RequestParam(required = false) LocalDateTime cursor
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) CountMode countMode
 	) {
 
-		// 정렬 필드 매핑
-		String mappedField = FIELD_MAP.getOrDefault(sortField, "changed_at");
+		// 정렬 필드 매핑 (목록에 없는 값은 그대로 넘겨 서비스에서 거부한다)
+		String mappedField = FIELD_MAP.getOrDefault(sortField, sortField);
 
 		// 정렬 방향 설정
 		Sort.Direction direction = sortDirection.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
@@ -74,7 +77,7 @@ public class EmployeeLogRestController {
 		// Pageable 설정 후 데이터 조회
 		Pageable pageable = PageRequest.of(0, size, sort);
 
-		return service.getLogs(cursor, employeeNumber, memo, ipAddress, type, atFrom, atTo, pageable);
+		return service.getLogs(cursor, employeeNumber, memo, ipAddress, type, atFrom, atTo, pageable, countMode);
 	}
 
 	/**
@@ -89,10 +92,11 @@ public class EmployeeLogRestController {
 
 	/**
 	 *
+	 * @param countMode - 개수 계산 방식 (CAPPED 는 상한을 넘으면 상한 값을 반환)
 	 * @return 변경된 목록 개수 반환
 	 */
 	@GetMapping("/count")
-	public long getLogCount() {
-		return service.getLogCount();
+	public long getLogCount(@RequestParam(required = false) CountMode countMode) {
+		return service.getLogCount(countMode);
 	}
 }
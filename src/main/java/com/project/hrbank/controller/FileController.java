@@ -1,8 +1,12 @@
 package com.project.hrbank.controller;
 
-import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneId;
 
-import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -16,7 +20,9 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.ImageVariant;
 import com.project.hrbank.service.FileService;
+import com.project.hrbank.service.ImageVariantService;
 import com.project.hrbank.util.storage.FileStorage;
 
 import lombok.RequiredArgsConstructor;
@@ -26,22 +32,55 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class FileController {
 
+	private static final Duration VARIANT_MAX_AGE = Duration.ofDays(365);
+
 	private final FileService fileService;
 	private final FileStorage fileStorage;
+	private final ImageVariantService imageVariantService;
 
+	/**
+	 * 파일 다운로드. 메타데이터는 한 번만 조회하고 파일은 경로 기반 Resource 로 내려준다.
+	 * Range 요청(206, 이어받기)과 ETag(체크섬)/Last-Modified 조건부 요청(304)은 Spring MVC 가 처리한다.
+	 * 객체 저장소의 파일은 요청한 구간만 받아 오고, 백업 파일도 저장소에 저장할 때 체크섬을 계산하므로 ETag 가 붙는다.
+	 */
 	@GetMapping("/{id}/download")
-	public ResponseEntity<?> download(@PathVariable Long id) {
+	public ResponseEntity<Resource> download(@PathVariable Long id) {
 		FileEntity fileEntity = fileService.find(id);
-		InputStream fileStream = fileStorage.getFileStream(fileEntity.getId());
-
-		InputStreamResource fileResource = new InputStreamResource(fileStream);
+		Resource fileResource = fileStorage.load(fileEntity);
 
-		return ResponseEntity.ok()
-			.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileEntity.getFileName() + "\"")
-			.contentLength(fileEntity.getSize())
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename(fileEntity.getFileName(), StandardCharsets.UTF_8)
+				.build()
+				.toString())
 			.contentType(MediaType.parseMediaType(fileEntity.getContentType()))
-			.body(fileResource);
+			.cacheControl(CacheControl.noCache().cachePrivate());
+		// 저장된 파일은 수정되지 않으므로 (수정 시 새 파일로 저장) 체크섬을 강한 ETag 로, 생성 시각을 Last-Modified 로 쓴다
+		if (fileEntity.getChecksum() != null) {
+			response.eTag(fileEntity.getChecksum());
+		}
+		if (fileEntity.getCreatedAt() != null) {
+			response.lastModified(fileEntity.getCreatedAt().atZone(ZoneId.systemDefault()));
+		}
+		return response.body(fileResource);
+	}
+
+	/**
+	 * 이미지 축소본 (thumbnail, medium). 처음 요청 시 만들어 캐시하며, 원본이 바뀌면 파일 ID 가 바뀌므로 오래 캐시해도 된다.
+	 */
+	@GetMapping("/{id}/variants/{size}")
+	public ResponseEntity<Resource> downloadVariant(@PathVariable Long id, @PathVariable String size) {
+		ImageVariant variant = ImageVariant.from(size);
+		FileEntity fileEntity = fileService.find(id);
+		Resource variantResource = imageVariantService.getVariant(fileEntity, variant);
 
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(ImageVariantService.VARIANT_CONTENT_TYPE))
+			.cacheControl(CacheControl.maxAge(VARIANT_MAX_AGE).cachePrivate().immutable());
+		if (fileEntity.getChecksum() != null) {
+			response.eTag(fileEntity.getChecksum() + "-" + variant.getDescription());
+		}
+		return response.body(variantResource);
 	}
 
 	@PostMapping("/upload")
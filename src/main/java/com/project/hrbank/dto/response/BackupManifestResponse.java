@@ -0,0 +1,12 @@
+package com.project.hrbank.dto.response;
+
+import java.util.List;
+
+/**
+ * 증분 백업 복원에 필요한 백업 체인
+ * @param backupId 기준 백업 ID
+ * @param base 체인의 시작이 되는 전체 백업
+ * @param deltas base 이후 기준 백업까지 순서대로 적용할 증분 백업 목록
+ */
+public record BackupManifestResponse(Long backupId, BackupResponse base, List<BackupResponse> deltas) {
+}
@@ -3,11 +3,14 @@ package com.project.hrbank.dto.response;
 import java.time.LocalDateTime;
 
 import com.project.hrbank.entity.Backup;
+import com.project.hrbank.entity.enums.BackupType;
 import com.project.hrbank.entity.enums.Status;
 
-public record BackupResponse(Long id, String worker, LocalDateTime startedAt, LocalDateTime endedAt, Status status, Long fileId) {
+public record BackupResponse(Long id, String worker, LocalDateTime startedAt, LocalDateTime endedAt, Status status, Long fileId,
+	BackupType type, Long baseBackupId, long rowsWritten, long bytesWritten) {
 
 	public static BackupResponse toDto(Backup backup) {
-		return new BackupResponse(backup.getId(), backup.getWorker(), backup.getStartedAt(), backup.getEndedAt(), backup.getStatus(), backup.getFileId());
+		return new BackupResponse(backup.getId(), backup.getWorker(), backup.getStartedAt(), backup.getEndedAt(), backup.getStatus(), backup.getFileId(),
+			backup.getType(), backup.getBaseBackupId(), backup.getRowsWritten(), backup.getBytesWritten());
 	}
 }
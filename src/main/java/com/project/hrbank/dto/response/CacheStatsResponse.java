@@ -0,0 +1,27 @@
+package com.project.hrbank.dto.response;
+
+/**
+ * 캐시 사용 통계
+ * @param size 현재 보관 중인 항목 수
+ * @param hitCount 캐시에서 바로 찾은 횟수
+ * @param missCount 저장소를 조회한 횟수
+ * @param hitRate hitCount / (hitCount + missCount)
+ * @param evictionCount 크기 제한 또는 만료로 제거된 항목 수
+ * @param invalidationCount 무효화 메시지로 제거된 항목 수
+ */
+public record CacheStatsResponse(
+	long size,
+	long hitCount,
+	long missCount,
+	double hitRate,
+	long evictionCount,
+	long invalidationCount
+) {
+
+	public static CacheStatsResponse of(long size, long hitCount, long missCount, long evictionCount,
+		long invalidationCount) {
+		long requestCount = hitCount + missCount;
+		double hitRate = requestCount == 0 ? 0 : (double)hitCount / requestCount;
+		return new CacheStatsResponse(size, hitCount, missCount, hitRate, evictionCount, invalidationCount);
+	}
+}
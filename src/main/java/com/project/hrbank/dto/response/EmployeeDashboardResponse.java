@@ -0,0 +1,24 @@
+package com.project.hrbank.dto.response;
+
+import java.util.List;
+import java.util.Map;
+
+import com.project.hrbank.entity.enums.EmployeeStatus;
+
+/**
+ * @param totalCount 전체 직원 수
+ * @param statusCounts 상태별 직원 수 (직원이 없는 상태는 0)
+ * @param hiredCount 입사일 범위 안의 입사자 수
+ * @param trend 기간별 직원 수 추이
+ * @param departmentDistribution 요청한 상태의 부서별 분포
+ * @param positionDistribution 요청한 상태의 직급별 분포
+ */
+public record EmployeeDashboardResponse(
+	long totalCount,
+	Map<EmployeeStatus, Long> statusCounts,
+	long hiredCount,
+	List<EmployeeTrendResponse> trend,
+	List<EmployeeDistributionResponse> departmentDistribution,
+	List<EmployeeDistributionResponse> positionDistribution
+) {
+}
@@ -0,0 +1,9 @@
+package com.project.hrbank.dto.response;
+
+/**
+ * @param groupKey 부서 이름 또는 직급
+ * @param count 직원 수
+ * @param percentage 같은 상태의 전체 직원 대비 비율 (%, 소수점 2자리)
+ */
+public record EmployeeDistributionResponse(String groupKey, long count, double percentage) {
+}
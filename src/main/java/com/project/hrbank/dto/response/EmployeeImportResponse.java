@@ -0,0 +1,20 @@
+package com.project.hrbank.dto.response;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 등록 결과
+ * @param totalCount 읽은 행 수
+ * @param importedCount 등록된 직원 수
+ * @param errors 등록하지 못한 행 목록
+ */
+public record EmployeeImportResponse(long totalCount, long importedCount, List<RowError> errors) {
+
+	/**
+	 * @param row 행 번호 (CSV 는 헤더 다음 행부터, JSON 은 배열의 첫 원소부터 1)
+	 * @param email 요청한 이메일 (읽을 수 없으면 null)
+	 * @param message 실패 사유
+	 */
+	public record RowError(long row, String email, String message) {
+	}
+}
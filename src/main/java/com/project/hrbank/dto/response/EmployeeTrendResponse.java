@@ -0,0 +1,15 @@
+package com.project.hrbank.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * @param date 기간의 첫날
+ * @param count 기간 말까지 입사한 직원 중 지금 퇴사 상태가 아닌 직원 수.
+ *              퇴사일이 저장되지 않아, 지금 퇴사 상태인 직원은 입사한 기간부터 세지 않는다
+ * @param hiredCount 기간 중 입사자 수 (퇴사자 포함)
+ * @param change 이전 기간 대비 직원 수 증감 (count - 이전 기간 count).
+ *               기간 중 입사자 가운데 지금 퇴사 상태인 직원 수만큼 hiredCount 보다 작다
+ * @param changeRate 이전 기간 대비 증감률 (%, 소수점 2자리)
+ */
+public record EmployeeTrendResponse(LocalDate date, long count, long hiredCount, long change, double changeRate) {
+}
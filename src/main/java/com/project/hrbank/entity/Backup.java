@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.Optional;
 
 import com.project.hrbank.entity.base.BaseTimeEntity;
+import com.project.hrbank.entity.enums.BackupType;
 import com.project.hrbank.entity.enums.Status;
 
 import jakarta.persistence.CascadeType;
@@ -36,6 +37,13 @@ public class Backup extends BaseTimeEntity {
 	@Column(name = "worker", nullable = false)
 	private String worker;
 
+	@Enumerated(EnumType.STRING)
+	@Column(name = "type", nullable = false)
+	private BackupType type;
+
+	@Column(name = "base_backup_id")
+	private Long baseBackupId;
+
 	@Column(name = "started_at", nullable = false)
 	private LocalDateTime startedAt;
 
@@ -46,15 +54,35 @@ public class Backup extends BaseTimeEntity {
 	@Column(name = "status", nullable = false)
 	private Status status;
 
+	@Column(name = "rows_written", nullable = false)
+	private long rowsWritten;
+
+	@Column(name = "bytes_written", nullable = false)
+	private long bytesWritten;
+
+	/**
+	 * 진행 중인 백업을 실행하는 노드가 마지막으로 살아 있음을 알린 시각
+	 */
+	@Column(name = "heartbeat_at")
+	private LocalDateTime heartbeatAt;
+
 	@OneToOne(cascade = {CascadeType.PERSIST}, fetch = FetchType.LAZY)
 	@JoinColumn(name = "file_id")
 	FileEntity file;
 
 	public Backup(String worker, Status status, LocalDateTime startedAt, LocalDateTime endedAt) {
+		this(worker, status, startedAt, endedAt, BackupType.FULL, null);
+	}
+
+	public Backup(String worker, Status status, LocalDateTime startedAt, LocalDateTime endedAt, BackupType type,
+		Long baseBackupId) {
 		this.worker = worker;
 		this.status = status;
 		this.startedAt = startedAt;
 		this.endedAt = endedAt;
+		this.type = type;
+		this.baseBackupId = baseBackupId;
+		this.heartbeatAt = LocalDateTime.now();
 	}
 
 	public static Backup ofInProgress(String clientIpAddr) {
@@ -62,6 +90,22 @@ public class Backup extends BaseTimeEntity {
 		return new Backup(clientIpAddr, status, LocalDateTime.now(), null);
 	}
 
+	public static Backup ofIncremental(String clientIpAddr, Long baseBackupId) {
+		return new Backup(clientIpAddr, Status.IN_PROGRESS, LocalDateTime.now(), null, BackupType.INCREMENTAL,
+			baseBackupId);
+	}
+
+	/**
+	 * 증분 체인을 합친 전체 백업. 마지막 증분 백업과 같은 시점의 스냅샷이므로 시작 시각을 그 시점으로 둔다.
+	 */
+	public static Backup ofCompaction(String clientIpAddr, LocalDateTime snapshotAt) {
+		return new Backup(clientIpAddr, Status.IN_PROGRESS, snapshotAt, null, BackupType.FULL, null);
+	}
+
+	public boolean isIncremental() {
+		return this.type == BackupType.INCREMENTAL;
+	}
+
 	public void updateSkipped() {
 		this.endedAt = LocalDateTime.now();
 		this.status = Status.SKIPPED;
@@ -35,6 +35,12 @@ public class FileEntity extends BaseTimeEntity {
 	@Column(name = "file_path", nullable = false)
 	private String filePath;
 
+	/**
+	 * 내용의 SHA-256 (hex)
+	 */
+	@Column(name = "checksum")
+	private String checksum;
+
 	public FileEntity(Long id, String fileName, String contentType, Long size, String filePath) {
 		this.id = id;
 		this.fileName = fileName;
@@ -43,6 +49,11 @@ public class FileEntity extends BaseTimeEntity {
 		this.filePath = filePath;
 	}
 
+	public FileEntity(Long id, String fileName, String contentType, Long size, String filePath, String checksum) {
+		this(id, fileName, contentType, size, filePath);
+		this.checksum = checksum;
+	}
+
 	public FileEntity(String fileName, String contentType, Long size, String filePath) {
 		this.fileName = fileName;
 		this.contentType = contentType;
@@ -50,4 +61,10 @@ public class FileEntity extends BaseTimeEntity {
 		this.filePath = filePath;
 	}
 
+	/**
+	 * 내용은 그대로 두고 저장 위치만 바꾼다. (예: 로컬 파일을 객체 저장소로 옮긴 경우)
+	 */
+	public void moveTo(String filePath) {
+		this.filePath = filePath;
+	}
 }
@@ -0,0 +1,13 @@
+package com.project.hrbank.entity.enums;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum BackupType {
+
+	FULL("전체"),
+	INCREMENTAL("증분");
+
+	private final String description;
+
+}
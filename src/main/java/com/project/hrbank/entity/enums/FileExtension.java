@@ -1,5 +1,8 @@
 package com.project.hrbank.entity.enums;
 
+import java.util.Arrays;
+import java.util.Optional;
+
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -7,9 +10,22 @@ import lombok.Getter;
 @Getter
 public enum FileExtension {
 
-	CSV("csv"),
-	LOG("log"),
-	IMAGE("image"),
+	CSV("csv", "text/csv"),
+	LOG("log", "text/plain"),
+	JPG("jpg", "image/jpeg"),
+	JPEG("jpeg", "image/jpeg"),
+	PNG("png", "image/png"),
+	GZIP("gz", "application/gzip"),
 	;
 	private final String description;
+	private final String contentType;
+
+	/**
+	 * @param extension 점(.)을 제외한 확장자, 대소문자 구분 없음
+	 */
+	public static Optional<FileExtension> from(String extension) {
+		return Arrays.stream(values())
+			.filter(fileExtension -> fileExtension.description.equalsIgnoreCase(extension))
+			.findFirst();
+	}
 }
@@ -0,0 +1,30 @@
+package com.project.hrbank.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 프로필 이미지 축소본 크기. 긴 변을 maxDimension 에 맞추고 비율은 유지한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+	THUMBNAIL("thumbnail", 128),
+	MEDIUM("medium", 512);
+
+	private final String description;
+	private final int maxDimension;
+
+	/**
+	 * @throws IllegalArgumentException 지원하지 않는 크기인 경우
+	 */
+	public static ImageVariant from(String size) {
+		for (ImageVariant variant : values()) {
+			if (variant.description.equalsIgnoreCase(size)) {
+				return variant;
+			}
+		}
+		throw new IllegalArgumentException("Invalid image variant: " + size);
+	}
+}
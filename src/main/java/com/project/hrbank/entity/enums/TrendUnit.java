@@ -0,0 +1,72 @@
+package com.project.hrbank.entity.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 추이 집계 단위. PostgreSQL date_trunc 와 같은 경계(주는 월요일 시작)로 기간을 나눈다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendUnit {
+
+	DAY("일", "day"),
+	WEEK("주", "week"),
+	MONTH("월", "month"),
+	QUARTER("분기", "quarter"),
+	YEAR("연", "year");
+
+	private final String description;
+
+	/**
+	 * date_trunc 에 넘길 단위
+	 */
+	private final String truncField;
+
+	/**
+	 * @throws IllegalArgumentException 지원하지 않는 단위인 경우
+	 */
+	public static TrendUnit from(String unit) {
+		for (TrendUnit trendUnit : values()) {
+			if (trendUnit.name().equalsIgnoreCase(unit)) {
+				return trendUnit;
+			}
+		}
+		throw new IllegalArgumentException("Invalid unit: " + unit);
+	}
+
+	/**
+	 * @return date 가 속한 기간의 첫날
+	 */
+	public LocalDate truncate(LocalDate date) {
+		return switch (this) {
+			case DAY -> date;
+			case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MONTH -> date.withDayOfMonth(1);
+			case QUARTER -> LocalDate.of(date.getYear(), (date.getMonthValue() - 1) / 3 * 3 + 1, 1);
+			case YEAR -> date.withDayOfYear(1);
+		};
+	}
+
+	/**
+	 * @param start 기간의 첫날
+	 * @return 다음 기간의 첫날
+	 */
+	public LocalDate next(LocalDate start) {
+		return plus(start, 1);
+	}
+
+	public LocalDate plus(LocalDate start, long amount) {
+		return switch (this) {
+			case DAY -> start.plusDays(amount);
+			case WEEK -> start.plusWeeks(amount);
+			case MONTH -> start.plusMonths(amount);
+			case QUARTER -> start.plusMonths(amount * 3);
+			case YEAR -> start.plusYears(amount);
+		};
+	}
+}
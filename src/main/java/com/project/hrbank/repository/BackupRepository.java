@@ -3,33 +3,84 @@ package com.project.hrbank.repository;
 import com.project.hrbank.entity.Backup;
 import com.project.hrbank.entity.enums.Status;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BackupRepository extends JpaRepository<Backup, Long> {
 
     @Query(value = "SELECT * FROM backups ORDER BY ended_at DESC LIMIT 1", nativeQuery = true)
     Optional<Backup> findLastBackup();
 
+    @Query(value = "SELECT * FROM backups WHERE status = 'COMPLETED' "
+            + "ORDER BY started_at DESC, backup_id DESC LIMIT 1", nativeQuery = true)
+    Optional<Backup> findLastCompletedBackup();
+
+    @Query(value = "SELECT * FROM backups WHERE status = 'COMPLETED' AND type = 'FULL' "
+            + "ORDER BY started_at DESC, backup_id DESC LIMIT 1", nativeQuery = true)
+    Optional<Backup> findLastCompletedFullBackup();
+
+    boolean existsByStatus(Status status);
+
+    /**
+     * 현재 트랜잭션이 끝날 때까지 유지되는 PostgreSQL advisory lock 을 기다리지 않고 시도한다.
+     * @return 잠금을 얻었는지 여부 (다른 트랜잭션이 잡고 있으면 false)
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    long countByBaseBackupIdAndStatus(Long baseBackupId, Status status);
+
+    Optional<Backup> findFirstByBaseBackupIdAndStatusOrderByIdDesc(Long baseBackupId, Status status);
+
+    @Query("SELECT b FROM Backup b left join fetch b.file WHERE b.id = :id")
+    Optional<Backup> findWithFileById(@Param("id") Long id);
+
     @Query(
             "SELECT b FROM Backup b left join fetch b.file "
-                    + "WHERE b.startedAt < :cursor "
-                    + "AND (:status IS NULL OR b.status = :status) "
-                    + "AND b.startedAt >= :startedAtFrom "
-                    + "AND b.startedAt <= :startedAtTo "
-                    + "AND (:worker IS NULL OR LOWER(b.worker) LIKE LOWER(CONCAT('%', :worker, '%'))) "
+                    + "WHERE b.baseBackupId = :baseBackupId "
+                    + "AND b.status = :status "
+                    + "AND b.id <= :lastBackupId "
+                    + "ORDER BY b.id"
     )
-    Page<Backup> findAllBy(
-            @Param("cursor") LocalDateTime cursor,
-            @Param("status") Status status,
-            @Param("startedAtFrom") LocalDateTime startedAtFrom,
-            @Param("startedAtTo") LocalDateTime startedAtTo,
-            @Param("worker") String worker,
-            Pageable pageable
+    List<Backup> findIncrementalChain(
+            @Param("baseBackupId") Long baseBackupId,
+            @Param("lastBackupId") Long lastBackupId,
+            @Param("status") Status status
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Backup b SET b.rowsWritten = :rowsWritten, b.bytesWritten = :bytesWritten, "
+            + "b.heartbeatAt = :heartbeatAt WHERE b.id = :id")
+    void updateProgress(
+            @Param("id") Long id,
+            @Param("rowsWritten") long rowsWritten,
+            @Param("bytesWritten") long bytesWritten,
+            @Param("heartbeatAt") LocalDateTime heartbeatAt
+    );
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Backup b SET b.heartbeatAt = :heartbeatAt WHERE b.id = :id")
+    void updateHeartbeat(@Param("id") Long id, @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    /**
+     * heartbeatBefore 이후로 heartbeat_at 이 갱신되지 않은 백업의 상태만 바꾼다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Backup b SET b.status = :to, b.endedAt = :endedAt "
+            + "WHERE b.status = :from AND (b.heartbeatAt IS NULL OR b.heartbeatAt < :heartbeatBefore)")
+    int updateStaleStatus(
+            @Param("from") Status from,
+            @Param("to") Status to,
+            @Param("endedAt") LocalDateTime endedAt,
+            @Param("heartbeatBefore") LocalDateTime heartbeatBefore
     );
 
     @Query("SELECT COUNT(b) FROM Backup b WHERE (:status IS NULL OR b.status = :status)")
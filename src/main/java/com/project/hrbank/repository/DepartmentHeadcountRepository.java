@@ -0,0 +1,54 @@
+package com.project.hrbank.repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부서별 소속 직원 수 조회.
+ * (부서, 직급, 상태) 별 직원 수(employee_distribution_rollups)를 부서 단위로 합산하므로, 직원 변경 시에는
+ * EmployeeDistributionRepository 의 증감만 하면 된다. 부서 ID 가 기본 키의 첫 열이라 부서별 합산은 기본 키 인덱스를 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DepartmentHeadcountRepository {
+
+	private static final String SELECT_COUNT =
+		"SELECT COALESCE(SUM(employee_count), 0) FROM employee_distribution_rollups WHERE department_id = :departmentId";
+
+	private static final String SELECT_COUNTS = """
+		SELECT department_id, SUM(employee_count)
+		FROM employee_distribution_rollups
+		WHERE department_id IN (:departmentIds)
+		GROUP BY department_id
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	public long findCount(Long departmentId) {
+		Long count = namedParameterJdbcTemplate.queryForObject(SELECT_COUNT, Map.of("departmentId", departmentId),
+			Long.class);
+		return count != null ? count : 0;
+	}
+
+	/**
+	 * @param departmentIds 부서 ID 목록
+	 * @return 부서 ID 별 직원 수, 기록이 없는 부서는 포함되지 않는다
+	 */
+	public Map<Long, Long> findCounts(Collection<Long> departmentIds) {
+		Map<Long, Long> counts = new HashMap<>();
+		if (departmentIds.isEmpty()) {
+			return counts;
+		}
+		namedParameterJdbcTemplate.query(SELECT_COUNTS, Map.of("departmentIds", departmentIds),
+			resultSet -> {
+				counts.put(resultSet.getLong(1), resultSet.getLong(2));
+			});
+		return counts;
+	}
+}
@@ -0,0 +1,101 @@
+package com.project.hrbank.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 백업용 직원 조회 저장소.
+ * JPA 엔티티를 만들지 않고 ResultSet 을 그대로 넘겨, 백업 크기와 무관하게 힙 사용량을 일정하게 유지한다.
+ * 조회 컬럼 순서: employee_id, employee_number, name, department_id, position, hire_date, status
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBackupRepository {
+
+	private static final String SELECT_EMPLOYEE_ID_RANGE = "SELECT MIN(employee_id), MAX(employee_id) FROM employees";
+
+	private static final String SELECT_EMPLOYEES_BETWEEN = """
+		SELECT employee_id, employee_number, name, department_id, position, hire_date, status
+		FROM employees
+		WHERE employee_id > ?
+		  AND employee_id <= ?
+		ORDER BY employee_id
+		LIMIT ?
+		""";
+
+	private static final String SELECT_CHANGED_EMPLOYEES_AFTER = """
+		SELECT e.employee_id, e.employee_number, e.name, e.department_id, e.position, e.hire_date, e.status
+		FROM employees e
+		WHERE e.employee_id > ?
+		  AND e.employee_number IN (
+		      SELECT l.employee_number FROM employee_change_logs l WHERE l.changed_at > ?
+		  )
+		ORDER BY e.employee_id
+		LIMIT ?
+		""";
+
+	private static final String SELECT_DELETED_EMPLOYEE_NUMBERS = """
+		SELECT DISTINCT l.employee_number
+		FROM employee_change_logs l
+		WHERE l.changed_at > ?
+		  AND NOT EXISTS (SELECT 1 FROM employees e WHERE e.employee_number = l.employee_number)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @return 현재 employee_id 의 최솟값과 최댓값, 직원이 없으면 empty
+	 */
+	public Optional<EmployeeIdRange> findEmployeeIdRange() {
+		return jdbcTemplate.query(SELECT_EMPLOYEE_ID_RANGE, resultSet -> {
+			resultSet.next();
+			long minEmployeeId = resultSet.getLong(1);
+			if (resultSet.wasNull()) {
+				return Optional.empty();
+			}
+			return Optional.of(new EmployeeIdRange(minEmployeeId, resultSet.getLong(2)));
+		});
+	}
+
+	/**
+	 * (lastEmployeeId, maxEmployeeId] 구간의 다음 묶음을 employee_id keyset 기준으로 조회해 한 행씩 전달
+	 * @param lastEmployeeId 이전 묶음의 마지막 employee_id (처음 조회 시 구간 시작 - 1)
+	 * @param maxEmployeeId 구간의 마지막 employee_id
+	 * @param limit 조회할 최대 행 수
+	 * @param rowHandler 행 처리기
+	 */
+	public void findEmployeesBetween(long lastEmployeeId, long maxEmployeeId, int limit, RowCallbackHandler rowHandler) {
+		jdbcTemplate.query(SELECT_EMPLOYEES_BETWEEN, rowHandler, lastEmployeeId, maxEmployeeId, limit);
+	}
+
+	/**
+	 * changedAfter 이후 변경 이력이 있는 직원만 employee_id keyset 기준으로 조회
+	 * @param changedAfter 변경 이력 기준 시각
+	 * @param lastEmployeeId 이전 묶음의 마지막 employee_id (처음 조회 시 0)
+	 * @param limit 조회할 최대 행 수
+	 * @param rowHandler 행 처리기
+	 */
+	public void findChangedEmployeesAfter(LocalDateTime changedAfter, long lastEmployeeId, int limit,
+		RowCallbackHandler rowHandler) {
+		jdbcTemplate.query(SELECT_CHANGED_EMPLOYEES_AFTER, rowHandler, lastEmployeeId, changedAfter, limit);
+	}
+
+	/**
+	 * changedAfter 이후 변경 이력이 있지만 더 이상 존재하지 않는(삭제된) 직원 번호 조회
+	 * @param changedAfter 변경 이력 기준 시각
+	 * @return 삭제된 직원 번호 목록
+	 */
+	public List<String> findDeletedEmployeeNumbers(LocalDateTime changedAfter) {
+		return jdbcTemplate.queryForList(SELECT_DELETED_EMPLOYEE_NUMBERS, String.class, changedAfter);
+	}
+
+	public record EmployeeIdRange(long minEmployeeId, long maxEmployeeId) {
+	}
+}
@@ -0,0 +1,82 @@
+package com.project.hrbank.repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.project.hrbank.entity.Employee;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 일괄 등록용 저장소. 중복 검사는 묶음 단위 IN 조회로, 저장은 JDBC batch 로 처리한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeBulkRepository {
+
+	private static final String SELECT_EXISTING_EMAILS = "SELECT email FROM employees WHERE email IN (:emails)";
+
+	private static final String SELECT_EXISTING_DEPARTMENT_IDS =
+		"SELECT department_id FROM departments WHERE department_id IN (:departmentIds)";
+
+	private static final String INSERT_EMPLOYEE = """
+		INSERT INTO employees
+		    (employee_number, name, email, department_id, position, hire_date, status, created_at)
+		VALUES
+		    (?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * @param emails 확인할 이메일 목록
+	 * @return 이미 등록된 이메일
+	 */
+	public Set<String> findExistingEmails(Collection<String> emails) {
+		if (emails.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_EMAILS,
+			Map.of("emails", emails), String.class));
+	}
+
+	/**
+	 * @param departmentIds 확인할 부서 ID 목록
+	 * @return 존재하는 부서 ID
+	 */
+	public Set<Long> findExistingDepartmentIds(Collection<Long> departmentIds) {
+		if (departmentIds.isEmpty()) {
+			return Set.of();
+		}
+		return new HashSet<>(namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_DEPARTMENT_IDS,
+			Map.of("departmentIds", departmentIds), Long.class));
+	}
+
+	/**
+	 * @param employees 저장할 직원 목록 (employeeId 는 채워지지 않는다)
+	 */
+	public void insertAll(List<Employee> employees) {
+		if (employees.isEmpty()) {
+			return;
+		}
+		namedParameterJdbcTemplate.getJdbcTemplate().batchUpdate(INSERT_EMPLOYEE, employees, employees.size(),
+			(preparedStatement, employee) -> {
+				preparedStatement.setString(1, employee.getEmployeeNumber());
+				preparedStatement.setString(2, employee.getName());
+				preparedStatement.setString(3, employee.getEmail());
+				preparedStatement.setLong(4, employee.getDepartmentId());
+				preparedStatement.setString(5, employee.getPosition());
+				preparedStatement.setDate(6, Date.valueOf(employee.getHireDate()));
+				preparedStatement.setString(7, employee.getStatus().name());
+				preparedStatement.setTimestamp(8, Timestamp.valueOf(employee.getCreatedAt()));
+			});
+	}
+}
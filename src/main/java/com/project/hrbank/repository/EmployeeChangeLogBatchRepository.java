@@ -0,0 +1,54 @@
+package com.project.hrbank.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 변경 이력을 JDBC batch 로 한 번에 저장하는 저장소.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeChangeLogBatchRepository {
+
+	private static final String INSERT_CHANGE_LOG = """
+		INSERT INTO employee_change_logs
+		    (type, changed_value, ip, employee_number, changed_at, memo)
+		VALUES
+		    (?, ?::jsonb, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param entries 저장할 변경 이력 목록
+	 */
+	public void insertAll(List<ChangeLogEntry> entries) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.batchUpdate(INSERT_CHANGE_LOG, entries, entries.size(), (preparedStatement, entry) -> {
+			preparedStatement.setString(1, entry.type());
+			preparedStatement.setString(2, entry.changedValue());
+			preparedStatement.setString(3, entry.ip());
+			preparedStatement.setString(4, entry.employeeNumber());
+			preparedStatement.setTimestamp(5, Timestamp.valueOf(entry.changedAt()));
+			preparedStatement.setString(6, entry.memo());
+		});
+	}
+
+	public record ChangeLogEntry(
+		String type,
+		String changedValue,
+		String ip,
+		String employeeNumber,
+		LocalDateTime changedAt,
+		String memo
+	) {
+	}
+}
@@ -0,0 +1,165 @@
+package com.project.hrbank.repository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.hrbank.entity.Employee;
+import com.project.hrbank.entity.enums.EmployeeStatus;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * (부서, 직급, 상태) 별 직원 수(employee_distribution_rollups) 저장소.
+ * 직원 변경과 같은 트랜잭션에서 증감하며, 여러 조합을 함께 변경할 때는 교착을 피하기 위해 키 순서로 갱신한다.
+ * 부서별 직원 수(DepartmentHeadcountRepository)도 이 테이블을 합산해 읽는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeDistributionRepository {
+
+	private static final String UPSERT_INCREMENT = """
+		INSERT INTO employee_distribution_rollups (department_id, position, status, employee_count)
+		VALUES (?, ?, ?, ?)
+		ON CONFLICT (department_id, position, status)
+		DO UPDATE SET employee_count = employee_distribution_rollups.employee_count + EXCLUDED.employee_count
+		""";
+
+	private static final String SELECT_BY_DEPARTMENT = """
+		SELECT d.name, SUM(r.employee_count)
+		FROM employee_distribution_rollups r
+		JOIN departments d ON d.department_id = r.department_id
+		WHERE r.status = ?
+		GROUP BY d.name
+		HAVING SUM(r.employee_count) > 0
+		""";
+
+	private static final String SELECT_BY_POSITION = """
+		SELECT r.position, SUM(r.employee_count)
+		FROM employee_distribution_rollups r
+		WHERE r.status = ?
+		GROUP BY r.position
+		HAVING SUM(r.employee_count) > 0
+		""";
+
+	/**
+	 * 실제 직원 수와 다른 조합은 덮어쓰고, 직원이 없는데 0 이 아닌 값이 남은 조합은 지운다.
+	 * 감소로 0 이 된 행은 정상 상태이므로 건드리지 않는다. 두 CTE 는 같은 스냅샷을 보며 다루는 키가 겹치지 않는다.
+	 */
+	private static final String RECONCILE = """
+		WITH actual AS (
+		    SELECT department_id, position, status, COUNT(*) AS employee_count
+		    FROM employees
+		    GROUP BY department_id, position, status
+		), upserted AS (
+		    INSERT INTO employee_distribution_rollups (department_id, position, status, employee_count)
+		    SELECT department_id, position, status, employee_count FROM actual
+		    ON CONFLICT (department_id, position, status)
+		    DO UPDATE SET employee_count = EXCLUDED.employee_count
+		    WHERE employee_distribution_rollups.employee_count <> EXCLUDED.employee_count
+		    RETURNING 1
+		), removed AS (
+		    DELETE FROM employee_distribution_rollups r
+		    WHERE r.employee_count <> 0
+		      AND NOT EXISTS (
+		          SELECT 1 FROM actual a
+		          WHERE a.department_id = r.department_id AND a.position = r.position AND a.status = r.status
+		      )
+		    RETURNING 1
+		)
+		SELECT (SELECT COUNT(*) FROM upserted) + (SELECT COUNT(*) FROM removed)
+		""";
+
+	/**
+	 * 증감(ROW EXCLUSIVE)과 충돌하는 잠금. 잠금을 얻은 시점에는 먼저 증감한 트랜잭션이 모두 커밋되어 있고,
+	 * 이후의 증감은 바로잡기가 커밋될 때까지 기다리므로 바로잡기가 동시 증감을 덮어쓰지 않는다. (조회는 막지 않는다)
+	 */
+	private static final String LOCK_FOR_RECONCILE =
+		"LOCK TABLE employee_distribution_rollups IN SHARE ROW EXCLUSIVE MODE";
+
+	private static final Comparator<DistributionKey> KEY_ORDER = Comparator
+		.comparing(DistributionKey::departmentId)
+		.thenComparing(DistributionKey::position)
+		.thenComparing(DistributionKey::status);
+
+	private final JdbcTemplate jdbcTemplate;
+
+	public void increment(Employee employee, long delta) {
+		incrementAll(Map.of(DistributionKey.of(employee), delta));
+	}
+
+	/**
+	 * 직원의 부서/직급/상태 변경 (이전 조합 -1, 새 조합 +1). 조합이 같으면 아무것도 하지 않는다.
+	 */
+	public void move(DistributionKey from, DistributionKey to) {
+		if (from.equals(to)) {
+			return;
+		}
+		Map<DistributionKey, Long> deltas = new HashMap<>();
+		deltas.put(from, -1L);
+		deltas.put(to, 1L);
+		incrementAll(deltas);
+	}
+
+	/**
+	 * @param deltas 조합별 증감 수
+	 */
+	public void incrementAll(Map<DistributionKey, Long> deltas) {
+		Map<DistributionKey, Long> orderedDeltas = new TreeMap<>(KEY_ORDER);
+		orderedDeltas.putAll(deltas);
+
+		List<Object[]> batchArgs = new ArrayList<>(orderedDeltas.size());
+		orderedDeltas.forEach((key, delta) -> {
+			if (delta != 0) {
+				batchArgs.add(new Object[] {key.departmentId(), key.position(), key.status().name(), delta});
+			}
+		});
+		if (!batchArgs.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPSERT_INCREMENT, batchArgs);
+		}
+	}
+
+	/**
+	 * @return 부서 이름별 직원 수, 직원이 없는 부서는 포함되지 않는다
+	 */
+	public List<GroupCount> countByDepartment(EmployeeStatus status) {
+		return jdbcTemplate.query(SELECT_BY_DEPARTMENT,
+			(resultSet, rowNum) -> new GroupCount(resultSet.getString(1), resultSet.getLong(2)), status.name());
+	}
+
+	/**
+	 * @return 직급별 직원 수, 직원이 없는 직급은 포함되지 않는다
+	 */
+	public List<GroupCount> countByPosition(EmployeeStatus status) {
+		return jdbcTemplate.query(SELECT_BY_POSITION,
+			(resultSet, rowNum) -> new GroupCount(resultSet.getString(1), resultSet.getLong(2)), status.name());
+	}
+
+	/**
+	 * 직원 테이블과 비교해 어긋난 조합을 바로잡는다. 바로잡는 동안 직원 등록/수정/삭제의 증감은 잠시 기다린다.
+	 * @return 바로잡은(또는 새로 기록하거나 지운) 조합 수
+	 */
+	@Transactional
+	public int reconcile() {
+		jdbcTemplate.execute(LOCK_FOR_RECONCILE);
+		Integer reconciledCount = jdbcTemplate.queryForObject(RECONCILE, Integer.class);
+		return reconciledCount != null ? reconciledCount : 0;
+	}
+
+	public record DistributionKey(Long departmentId, String position, EmployeeStatus status) {
+
+		public static DistributionKey of(Employee employee) {
+			return new DistributionKey(employee.getDepartmentId(), employee.getPosition(), employee.getStatus());
+		}
+	}
+
+	public record GroupCount(String groupKey, long count) {
+	}
+}
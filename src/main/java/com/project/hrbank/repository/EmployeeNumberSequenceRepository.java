@@ -0,0 +1,29 @@
+package com.project.hrbank.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 번호 시퀀스(employee_number_seq) 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeNumberSequenceRepository {
+
+	private static final String SELECT_NEXT_VALUES =
+		"SELECT nextval('employee_number_seq') FROM generate_series(1, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * @param count 가져올 시퀀스 값 개수
+	 * @return 시퀀스 값 목록 (각 값은 블록의 시작 번호)
+	 */
+	public List<Long> nextValues(int count) {
+		return jdbcTemplate.queryForList(SELECT_NEXT_VALUES, Long.class, count);
+	}
+}
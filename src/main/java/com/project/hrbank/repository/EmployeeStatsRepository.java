@@ -0,0 +1,185 @@
+package com.project.hrbank.repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.entity.enums.TrendUnit;
+import com.project.hrbank.repository.EmployeeDistributionRepository.GroupCount;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 통계 저장소. hire_date 에 함수를 씌우지 않고 범위 조건으로만 걸러 인덱스를 사용한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class EmployeeStatsRepository {
+
+	/**
+	 * 기간 시작 전에 입사한 직원은 bucket 이 NULL 인 한 묶음으로 세어, 한 번의 조회로 기준 인원과 기간별 입사자 수를 함께 얻는다.
+	 * 퇴사일이 저장되지 않으므로, 입사자 중 지금 퇴사 상태가 아닌 직원 수(retained_count)를 함께 세어 재직 인원 추이에 쓴다.
+	 */
+	private static final String SELECT_HIRED_COUNTS_BY_PERIOD = """
+		SELECT CASE
+		           WHEN e.hire_date < :from THEN NULL
+		           ELSE CAST(date_trunc(:unit, CAST(e.hire_date AS TIMESTAMP)) AS DATE)
+		       END AS bucket,
+		       COUNT(*) AS hired_count,
+		       COUNT(*) FILTER (WHERE e.status <> 'RESIGNED') AS retained_count
+		FROM employees e
+		WHERE e.hire_date < :to
+		GROUP BY bucket
+		""";
+
+	/**
+	 * 대시보드 통계를 직원 테이블 한 번의 스캔으로 집계한다.
+	 * 어느 grouping set 의 행인지는 GROUPING(...) 비트(묶지 않은 열이 1)로 구분한다.
+	 * trend_part 는 추이 기간 이전(0), 기간 안(1), 이후(2) 이며, bucket 은 기간 안일 때만 채운다.
+	 * retained_count(퇴사 상태가 아닌 직원 수)는 추이 행에서만 읽는다.
+	 */
+	private static final String SELECT_DASHBOARD_COUNTS = """
+		SELECT GROUPING(s.status, s.department_name, s.position, s.trend_part, s.bucket, s.hired_in_range)
+		           AS grouping_id,
+		       s.status, s.department_name, s.position, s.trend_part, s.bucket, s.hired_in_range,
+		       COUNT(*) AS employee_count,
+		       COUNT(*) FILTER (WHERE s.status <> 'RESIGNED') AS retained_count
+		FROM (
+		    SELECT e.status,
+		           d.name AS department_name,
+		           e.position,
+		           CASE
+		               WHEN e.hire_date < :trendFrom THEN 0
+		               WHEN e.hire_date < :trendTo THEN 1
+		               ELSE 2
+		           END AS trend_part,
+		           CASE
+		               WHEN e.hire_date >= :trendFrom AND e.hire_date < :trendTo
+		                   THEN CAST(date_trunc(:unit, CAST(e.hire_date AS TIMESTAMP)) AS DATE)
+		           END AS bucket,
+		           (e.hire_date >= :hiredFrom AND e.hire_date < :hiredTo) AS hired_in_range
+		    FROM employees e
+		    JOIN departments d ON d.department_id = e.department_id
+		) s
+		GROUP BY GROUPING SETS (
+		    (s.status),
+		    (s.status, s.department_name),
+		    (s.status, s.position),
+		    (s.trend_part, s.bucket),
+		    (s.hired_in_range)
+		)
+		""";
+
+	private static final int BY_STATUS = 0b011111;
+	private static final int BY_STATUS_DEPARTMENT = 0b001111;
+	private static final int BY_STATUS_POSITION = 0b010111;
+	private static final int BY_TREND_BUCKET = 0b111001;
+	private static final int BY_HIRED_IN_RANGE = 0b111110;
+
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	/**
+	 * @param unit 집계 단위
+	 * @param from 첫 기간의 첫날
+	 * @param to 마지막 기간의 다음 날 (포함하지 않음)
+	 * @return 기간 첫날별 입사자 수, from 이전 입사자 수는 null 키
+	 */
+	public Map<LocalDate, PeriodCount> countHiredByPeriod(TrendUnit unit, LocalDate from, LocalDate to) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource()
+			.addValue("unit", unit.getTruncField())
+			.addValue("from", Date.valueOf(from))
+			.addValue("to", Date.valueOf(to));
+
+		Map<LocalDate, PeriodCount> hiredCounts = new HashMap<>();
+		namedParameterJdbcTemplate.query(SELECT_HIRED_COUNTS_BY_PERIOD, parameters, resultSet -> {
+			Date bucket = resultSet.getDate("bucket");
+			hiredCounts.put(bucket != null ? bucket.toLocalDate() : null,
+				new PeriodCount(resultSet.getLong("hired_count"), resultSet.getLong("retained_count")));
+		});
+		return hiredCounts;
+	}
+
+	/**
+	 * @param unit 추이 집계 단위
+	 * @param trendFrom 추이 첫 기간의 첫날
+	 * @param trendTo 추이 마지막 기간의 다음 날 (포함하지 않음)
+	 * @param hiredFrom 입사자 수를 셀 시작일
+	 * @param hiredTo 입사자 수를 셀 종료일 다음 날 (포함하지 않음)
+	 */
+	public DashboardCounts countDashboard(TrendUnit unit, LocalDate trendFrom, LocalDate trendTo,
+		LocalDate hiredFrom, LocalDate hiredTo) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource()
+			.addValue("unit", unit.getTruncField())
+			.addValue("trendFrom", Date.valueOf(trendFrom))
+			.addValue("trendTo", Date.valueOf(trendTo))
+			.addValue("hiredFrom", Date.valueOf(hiredFrom))
+			.addValue("hiredTo", Date.valueOf(hiredTo));
+
+		Map<EmployeeStatus, Long> statusCounts = new EnumMap<>(EmployeeStatus.class);
+		Map<EmployeeStatus, List<GroupCount>> departmentCounts = new EnumMap<>(EmployeeStatus.class);
+		Map<EmployeeStatus, List<GroupCount>> positionCounts = new EnumMap<>(EmployeeStatus.class);
+		Map<LocalDate, PeriodCount> hiredByPeriod = new HashMap<>();
+		long[] hiredInRange = new long[1];
+		namedParameterJdbcTemplate.query(SELECT_DASHBOARD_COUNTS, parameters, resultSet -> {
+			long employeeCount = resultSet.getLong("employee_count");
+			switch (resultSet.getInt("grouping_id")) {
+				case BY_STATUS -> statusCounts.put(EmployeeStatus.valueOf(resultSet.getString("status")), employeeCount);
+				case BY_STATUS_DEPARTMENT -> departmentCounts
+					.computeIfAbsent(EmployeeStatus.valueOf(resultSet.getString("status")),
+						key -> new ArrayList<>())
+					.add(new GroupCount(resultSet.getString("department_name"), employeeCount));
+				case BY_STATUS_POSITION -> positionCounts
+					.computeIfAbsent(EmployeeStatus.valueOf(resultSet.getString("status")),
+						key -> new ArrayList<>())
+					.add(new GroupCount(resultSet.getString("position"), employeeCount));
+				case BY_TREND_BUCKET -> {
+					int trendPart = resultSet.getInt("trend_part");
+					if (trendPart < 2) {
+						Date bucket = resultSet.getDate("bucket");
+						hiredByPeriod.put(trendPart == 0 ? null : bucket.toLocalDate(),
+							new PeriodCount(employeeCount, resultSet.getLong("retained_count")));
+					}
+				}
+				case BY_HIRED_IN_RANGE -> {
+					if (resultSet.getBoolean("hired_in_range")) {
+						hiredInRange[0] = employeeCount;
+					}
+				}
+				default -> throw new IllegalStateException("Unexpected grouping: " + resultSet.getInt("grouping_id"));
+			}
+		});
+		return new DashboardCounts(statusCounts, departmentCounts, positionCounts, hiredByPeriod, hiredInRange[0]);
+	}
+
+	/**
+	 * @param statusCounts 상태별 직원 수
+	 * @param departmentCounts 상태별 부서 이름별 직원 수
+	 * @param positionCounts 상태별 직급별 직원 수
+	 * @param hiredByPeriod 추이 기간 첫날별 입사자 수, 추이 기간 이전 입사자 수는 null 키
+	 * @param hiredInRange 입사일 범위 안의 입사자 수
+	 */
+	public record DashboardCounts(
+		Map<EmployeeStatus, Long> statusCounts,
+		Map<EmployeeStatus, List<GroupCount>> departmentCounts,
+		Map<EmployeeStatus, List<GroupCount>> positionCounts,
+		Map<LocalDate, PeriodCount> hiredByPeriod,
+		long hiredInRange
+	) {
+	}
+
+	/**
+	 * @param hiredCount 기간 중 입사자 수
+	 * @param retainedCount 그중 지금 퇴사 상태가 아닌 직원 수
+	 */
+	public record PeriodCount(long hiredCount, long retainedCount) {
+	}
+}
@@ -1,10 +1,56 @@
 package com.project.hrbank.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.project.hrbank.entity.FileEntity;
 
 @Repository
 public interface FileRepository extends JpaRepository<FileEntity, Long> {
+
+	/**
+	 * @param checksums 확인할 체크섬 목록
+	 * @return 그중 하나 이상의 files 행이 참조하는 체크섬 (객체 저장소로 옮긴 행은 로컬 blob 을 참조하지 않으므로 뺀다)
+	 */
+	@Query("""
+		SELECT DISTINCT f.checksum
+		FROM FileEntity f
+		WHERE f.checksum IN :checksums
+		  AND f.filePath NOT LIKE 'object:%'
+		""")
+	List<String> findReferencedChecksums(@Param("checksums") Collection<String> checksums);
+
+	/**
+	 * 경로와 관계없이 체크섬이 같은 files 행이 남아 있는지 확인 (이미지 축소본 정리)
+	 * @param checksums 확인할 체크섬 목록
+	 * @return 그중 하나 이상의 files 행이 가진 체크섬
+	 */
+	@Query("SELECT DISTINCT f.checksum FROM FileEntity f WHERE f.checksum IN :checksums")
+	List<String> findExistingChecksums(@Param("checksums") Collection<String> checksums);
+
+	@Query("SELECT f.id FROM FileEntity f WHERE f.id IN :ids")
+	List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 아직 객체 저장소로 옮기지 않은 백업 파일을 file_id keyset 순서로 조회
+	 * @param lastFileId 이전 묶음의 마지막 file_id (처음 조회 시 0)
+	 * @param before 이 시각 이전에 만들어진 파일만 조회
+	 * @param pageable 조회할 최대 행 수
+	 */
+	@Query("""
+		SELECT f FROM Backup b JOIN b.file f
+		WHERE f.id > :lastFileId
+		  AND f.createdAt < :before
+		  AND f.filePath NOT LIKE 'object:%'
+		ORDER BY f.id
+		""")
+	List<FileEntity> findLocalBackupFiles(@Param("lastFileId") long lastFileId,
+		@Param("before") LocalDateTime before, Pageable pageable);
 }
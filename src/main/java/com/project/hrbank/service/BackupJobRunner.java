@@ -0,0 +1,202 @@
+package com.project.hrbank.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.project.hrbank.entity.Backup;
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.Status;
+import com.project.hrbank.repository.BackupRepository;
+import com.project.hrbank.util.exception.BackupInProgressException;
+import com.project.hrbank.util.provider.BackupProgressListener;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 백업 파일 생성을 백그라운드에서 실행한다.
+ * 모든 노드를 통틀어 한 번에 하나의 백업만 실행되도록 DB 에서 보장하며,
+ * 진행 상황(기록 행 수, 바이트 수)을 주기적으로 backups 테이블에 반영한다.
+ * 실행 중인 백업의 heartbeat_at 을 주기적으로 갱신해, 다른 노드가 이 백업을 중단된 것으로 보지 않게 한다.
+ */
+@Slf4j
+@Component
+public class BackupJobRunner {
+
+	private static final long PROGRESS_UPDATE_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+	private static final long HEARTBEAT_INTERVAL_SECONDS = 30;
+
+	/**
+	 * 이 시간 동안 heartbeat_at 이 갱신되지 않은 진행 중 백업은 실행하던 노드가 종료된 것으로 본다.
+	 * 노드 간 시계 차이를 감안해 갱신 주기보다 넉넉하게 둔다.
+	 */
+	private static final Duration HEARTBEAT_TIMEOUT = Duration.ofMinutes(2);
+
+	/**
+	 * 백업 예약을 노드 간에 직렬화하는 advisory lock 키
+	 */
+	private static final long RESERVATION_LOCK_KEY = 0x4852_4241_4e4b_0001L;
+
+	private final BackupRepository backupRepository;
+	private final TaskExecutor backupTaskExecutor;
+	private final TransactionTemplate transactionTemplate;
+	private volatile Long runningBackupId;
+
+	public BackupJobRunner(
+		BackupRepository backupRepository,
+		@Qualifier("backupTaskExecutor") TaskExecutor backupTaskExecutor,
+		PlatformTransactionManager transactionManager
+	) {
+		this.backupRepository = backupRepository;
+		this.backupTaskExecutor = backupTaskExecutor;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * 백업 실행 권한을 얻는다. 현재 트랜잭션 안에서 호출해야 하며, 트랜잭션이 커밋되면 제출된 작업을 실행한다.
+	 * 예약하는 트랜잭션은 advisory lock 으로 노드 간에 직렬화되고, 진행 중 백업 행이 있으면 거절된다.
+	 * 잠금은 진행 중 백업 행이 커밋될 때까지 유지되므로, 다음 예약은 그 행을 보고 거절된다.
+	 * 실행하던 노드가 종료된 경우 heartbeat 가 끊겨 실패로 정리될 때까지 새 백업을 시작할 수 없다.
+	 * @return 트랜잭션 동안 유지되는 예약
+	 * @throws BackupInProgressException 다른 백업이 진행 중이거나 다른 노드가 예약 중인 경우
+	 */
+	public Reservation reserve() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new IllegalStateException("백업 예약은 트랜잭션 안에서만 할 수 있습니다.");
+		}
+		if (!backupRepository.tryAdvisoryXactLock(RESERVATION_LOCK_KEY)
+			|| backupRepository.existsByStatus(Status.IN_PROGRESS)) {
+			throw new BackupInProgressException();
+		}
+		Reservation reservation = new Reservation();
+		TransactionSynchronizationManager.registerSynchronization(reservation);
+		return reservation;
+	}
+
+	/**
+	 * 실행하던 노드가 종료되어 heartbeat 가 끊긴 채 진행 중으로 남은 백업을 실패로 정리.
+	 * 시작 시 한 번, 이후 주기적으로 확인하며 다른 노드에서 실행 중인 백업은 건드리지 않는다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(initialDelay = 1, fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+	public void failInterruptedBackups() {
+		LocalDateTime now = LocalDateTime.now();
+		int interrupted = backupRepository.updateStaleStatus(Status.IN_PROGRESS, Status.FAILED, now,
+			now.minus(HEARTBEAT_TIMEOUT));
+		if (interrupted > 0) {
+			log.warn("중단된 백업 {}건을 실패로 변경했습니다.", interrupted);
+		}
+	}
+
+	@Scheduled(fixedDelay = HEARTBEAT_INTERVAL_SECONDS, timeUnit = TimeUnit.SECONDS)
+	public void sendHeartbeat() {
+		Long backupId = runningBackupId;
+		if (backupId != null) {
+			backupRepository.updateHeartbeat(backupId, LocalDateTime.now());
+		}
+	}
+
+	private void submit(Long backupId, BackupFileGenerator generator) {
+		try {
+			backupTaskExecutor.execute(() -> run(backupId, generator));
+		} catch (TaskRejectedException exception) {
+			log.error("백업 작업을 시작하지 못했습니다: {}", backupId, exception);
+			finish(backupId, Optional.empty());
+		}
+	}
+
+	private void run(Long backupId, BackupFileGenerator generator) {
+		ProgressRecorder progressRecorder = new ProgressRecorder(backupId);
+		runningBackupId = backupId;
+		try {
+			Optional<FileEntity> backupFile = generator.generate(progressRecorder);
+			progressRecorder.flush();
+			finish(backupId, backupFile);
+		} catch (RuntimeException exception) {
+			log.error("백업 작업 중 오류가 발생했습니다: {}", backupId, exception);
+			finish(backupId, Optional.empty());
+		} finally {
+			runningBackupId = null;
+		}
+	}
+
+	private void finish(Long backupId, Optional<FileEntity> backupFile) {
+		transactionTemplate.executeWithoutResult(status -> {
+			Backup backup = backupRepository.findById(backupId)
+				.orElseThrow(() -> new IllegalStateException("백업을 찾을 수 없습니다: " + backupId));
+			backupFile.ifPresentOrElse(backup::updateCompleted, backup::updateFailed);
+		});
+	}
+
+	/**
+	 * 백업 파일 생성 작업
+	 */
+	@FunctionalInterface
+	public interface BackupFileGenerator {
+		Optional<FileEntity> generate(BackupProgressListener listener);
+	}
+
+	public class Reservation implements TransactionSynchronization {
+
+		private Long backupId;
+		private BackupFileGenerator generator;
+
+		/**
+		 * 트랜잭션 커밋 후 실행할 백업 작업을 등록
+		 * @param backupId 진행 중 상태로 저장된 백업 ID
+		 * @param generator 백업 파일 생성 작업
+		 */
+		public void submit(Long backupId, BackupFileGenerator generator) {
+			this.backupId = backupId;
+			this.generator = generator;
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			if (status == STATUS_COMMITTED && generator != null) {
+				BackupJobRunner.this.submit(backupId, generator);
+			}
+		}
+	}
+
+	private class ProgressRecorder implements BackupProgressListener {
+
+		private final Long backupId;
+		private long rowsWritten;
+		private long bytesWritten;
+		private long lastUpdatedAt = System.nanoTime();
+
+		private ProgressRecorder(Long backupId) {
+			this.backupId = backupId;
+		}
+
+		@Override
+		public synchronized void onProgress(long rowsWritten, long bytesWritten) {
+			this.rowsWritten = rowsWritten;
+			this.bytesWritten = bytesWritten;
+			if (System.nanoTime() - lastUpdatedAt >= PROGRESS_UPDATE_INTERVAL_NANOS) {
+				flush();
+			}
+		}
+
+		private synchronized void flush() {
+			backupRepository.updateProgress(backupId, rowsWritten, bytesWritten, LocalDateTime.now());
+			lastUpdatedAt = System.nanoTime();
+		}
+	}
+}
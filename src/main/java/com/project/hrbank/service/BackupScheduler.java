@@ -3,8 +3,12 @@ package com.project.hrbank.service;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.project.hrbank.util.exception.BackupInProgressException;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class BackupScheduler {
@@ -13,7 +17,11 @@ public class BackupScheduler {
 
 	@Scheduled(cron = "${schedule.backup-cron:data}")
 	public void scheduledBackup() {
-		backupService.backupBySystem();
+		try {
+			backupService.backupBySystem();
+		} catch (BackupInProgressException exception) {
+			log.info("정기 백업을 건너뜁니다: {}", exception.getMessage());
+		}
 	}
 
 }
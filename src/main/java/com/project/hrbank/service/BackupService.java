@@ -1,18 +1,30 @@
 package com.project.hrbank.service;
 
+import com.project.hrbank.config.backup.BackupProperties;
+import com.project.hrbank.dto.response.BackupManifestResponse;
 import com.project.hrbank.dto.response.BackupResponse;
 import com.project.hrbank.dto.response.CursorPageResponse;
 import com.project.hrbank.entity.Backup;
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.BackupType;
 import com.project.hrbank.entity.enums.Status;
 import com.project.hrbank.repository.BackupRepository;
 import com.project.hrbank.repository.EmployeeLogRepository;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.CountProvider;
+import com.project.hrbank.util.paging.KeysetFilter;
+import com.project.hrbank.util.paging.KeysetPage;
+import com.project.hrbank.util.paging.KeysetPaginator;
+import com.project.hrbank.util.paging.KeysetSpec;
+import com.project.hrbank.util.paging.TotalCount;
 import com.project.hrbank.util.provider.EmployeesLogCsvFileProvider;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,46 +34,51 @@ import org.springframework.transaction.annotation.Transactional;
 public class BackupService {
     private static final LocalDateTime POSTGRESQL_MIN_TIMESTAMP = LocalDateTime.of(1, 1, 1, 0, 0);
     private static final String SYSTEM_NAME = "SYSTEM";
+    private static final Sort.Order DEFAULT_ORDER = Sort.Order.desc("startedAt");
+
+    // ended_at 은 진행 중인 백업에서 NULL 이라 keyset 비교에 쓸 수 없으므로 정렬 기준에서 제외한다
+    private static final KeysetSpec<Backup> BACKUP_KEYSET = KeysetSpec.builder(
+                    Backup.class, "backups", "b", "backup_id", Backup::getId)
+            .sortField("startedAt", "started_at", LocalDateTime::parse, Backup::getStartedAt)
+            .sortField("status", "status", value -> value, backup -> backup.getStatus().name())
+            .build();
 
     private final BackupRepository backupRepository;
     private final EmployeeLogRepository employeeLogRepository;
     private final EmployeesLogCsvFileProvider csvProvider;
-
+    private final BackupProperties backupProperties;
+    private final BackupJobRunner backupJobRunner;
+    private final KeysetPaginator keysetPaginator;
+    private final CountProvider countProvider;
+
+    /**
+     * (정렬 값, 백업 ID) keyset 기준 백업 목록 조회
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param countMode 전체 개수 계산 방식 (null 이면 기본 방식)
+     */
     public CursorPageResponse<BackupResponse> findAll(
-            LocalDateTime cursor,
+            String cursor,
             Status status,
             LocalDateTime startedAtFrom,
             LocalDateTime startedAtTo,
             String worker,
-            Pageable pageable
+            Pageable pageable,
+            CountMode countMode
     ) {
-        cursor = Optional.ofNullable(cursor).orElse(LocalDateTime.now());
-        startedAtFrom = Optional.ofNullable(startedAtFrom).orElse(POSTGRESQL_MIN_TIMESTAMP);
-        startedAtTo = Optional.ofNullable(startedAtTo).orElse(LocalDateTime.now());
-
-        Page<Backup> page = backupRepository.findAllBy(cursor, status, startedAtFrom, startedAtTo, worker, pageable);
-
-        List<BackupResponse> content = getBackupContents(page);
-
-        LocalDateTime nextCursor = null;
-        if (page.hasContent()) {
-            nextCursor = content.get(content.size() - 1).startedAt();
-        }
+        KeysetFilter filter = new KeysetFilter()
+                .and("b.status = :status", "status", status != null ? status.name() : null)
+                .and("b.started_at >= :startedAtFrom", "startedAtFrom", startedAtFrom)
+                .and("b.started_at <= :startedAtTo", "startedAtTo", startedAtTo)
+                .and("LOWER(b.worker) LIKE :worker", "worker", KeysetFilter.containing(worker));
 
-        Long nextIdAfter = null;
-        if (page.hasNext() && page.hasContent()) {
-            nextIdAfter = content.get(content.size() - 1).id();
-        }
+        KeysetPage<Backup> page = keysetPaginator.fetch(BACKUP_KEYSET, filter, cursor, pageable, DEFAULT_ORDER);
+        TotalCount totalCount = countProvider.count(BACKUP_KEYSET, filter, countMode);
 
-        return new CursorPageResponse<BackupResponse>(content, nextCursor, nextIdAfter, content.size(), page.hasNext(),
-                page.getTotalElements());
-    }
-
-    private List<BackupResponse> getBackupContents(Page<Backup> slice) {
-        return slice.getContent()
+        List<BackupResponse> content = page.content()
                 .stream()
                 .map(this::toDto)
                 .toList();
+        return page.toResponse(content, totalCount);
     }
 
     @Transactional
@@ -71,17 +88,34 @@ public class BackupService {
 
     @Transactional
     public BackupResponse backup(String clientIpAddr) {
+        return backup(clientIpAddr, null);
+    }
 
-        Backup backup = generateBackup(clientIpAddr);
+    /**
+     * 변경 사항이 있을 때 백업을 시작한다. 백업 파일은 백그라운드에서 생성되며, 진행 중 상태의 백업을 바로 반환한다.
+     * 증분 백업이 가능하면(기준 전체 백업이 있고 체인 길이가 한도 미만) 마지막 완료 백업 이후 변경된 직원만 기록한다.
+     * @param clientIpAddr 작업자
+     * @param requestedType 요청한 백업 유형 (null 이면 설정에 따라 자동 선택, FULL 이면 항상 전체 백업)
+     * @throws com.project.hrbank.util.exception.BackupInProgressException 다른 백업이 진행 중인 경우
+     */
+    @Transactional
+    public BackupResponse backup(String clientIpAddr, BackupType requestedType) {
+        BackupJobRunner.Reservation reservation = backupJobRunner.reserve();
 
-        LocalDateTime lastEndedAtBackupDateTime = getLastEndedAt();
-        if (isNotChangedEmployeeInfo(lastEndedAtBackupDateTime)) {
+        LocalDateTime watermark = getIncrementalWatermark();
+        if (isNotChangedEmployeeInfo(watermark)) {
+            Backup backup = generateBackup(clientIpAddr);
             backup.updateSkipped();
             return toDto(backupRepository.save(backup));
         }
 
-        generateBackupFile(backup);
+        Optional<Backup> incrementalBase = findIncrementalBase(requestedType);
+        Backup backup = incrementalBase
+                .map(base -> Backup.ofIncremental(clientIpAddr, base.getId()))
+                .orElseGet(() -> generateBackup(clientIpAddr));
         backupRepository.save(backup);
+
+        reservation.submit(backup.getId(), createBackupFileGenerator(backup, watermark));
         return toDto(backup);
     }
 
@@ -89,24 +123,105 @@ public class BackupService {
         return Backup.ofInProgress(clientIpAddr);
     }
 
-    private LocalDateTime getLastEndedAt() {
+    private boolean isNotChangedEmployeeInfo(LocalDateTime watermark) {
+        return !employeeLogRepository.existsByChangedAtAfter(watermark);
+    }
 
-        return backupRepository.findLastBackup().stream()
-                .findFirst()
-                .map(Backup::getEndedAt)
+    private Optional<Backup> findIncrementalBase(BackupType requestedType) {
+        if (requestedType == BackupType.FULL || !backupProperties.incremental().enabled()) {
+            return Optional.empty();
+        }
+
+        return backupRepository.findLastCompletedFullBackup()
+                .filter(base -> backupRepository.countByBaseBackupIdAndStatus(base.getId(), Status.COMPLETED)
+                        < backupProperties.incremental().maxChainLength());
+    }
+
+    private BackupJobRunner.BackupFileGenerator createBackupFileGenerator(Backup backup, LocalDateTime watermark) {
+        Long backupId = backup.getId();
+        if (!backup.isIncremental()) {
+            return listener -> csvProvider.saveEmployeeLogFile(backupId, listener);
+        }
+
+        return listener -> csvProvider.saveEmployeeDeltaFile(backupId, watermark, listener);
+    }
+
+    /**
+     * 이전 완료 백업의 시작 시각. 종료 시각이 아닌 시작 시각을 기준으로 삼아,
+     * 이전 백업이 진행되는 동안 변경된 직원도 다시 포함한다 (UPSERT 이므로 중복 적용해도 안전).
+     * 건너뛰기 판단도 같은 기준을 쓴다. 실패하거나 건너뛴 백업, 진행 중인 백업은 기준이 되지 않으므로
+     * 마지막 완료 백업 이후의 변경을 놓치지 않는다.
+     */
+    private LocalDateTime getIncrementalWatermark() {
+        return backupRepository.findLastCompletedBackup()
+                .map(Backup::getStartedAt)
                 .orElse(POSTGRESQL_MIN_TIMESTAMP);
     }
 
-    private boolean isNotChangedEmployeeInfo(LocalDateTime endedAt) {
-        return !employeeLogRepository.existsByChangedAtAfter(endedAt);
+    public BackupResponse findById(Long backupId) {
+        return toDto(findBackup(backupId));
+    }
+
+    public BackupManifestResponse findManifest(Long backupId) {
+        Backup backup = findBackup(backupId);
+        if (!backup.isIncremental()) {
+            return new BackupManifestResponse(backupId, toDto(backup), List.of());
+        }
+
+        Backup base = findBackup(backup.getBaseBackupId());
+        List<BackupResponse> deltas = findIncrementalChain(base, backup).stream()
+                .map(this::toDto)
+                .toList();
+        return new BackupManifestResponse(backupId, toDto(base), deltas);
+    }
+
+    /**
+     * 증분 백업 체인(전체 백업 + 증분 백업)을 하나의 전체 백업으로 합친다.
+     * 결과는 새로운 전체 백업이 되어 이후 증분 백업의 기준이 된다. 파일은 백그라운드에서 생성된다.
+     * 중간 증분 백업으로 합치면 그 뒤의 증분 백업이 새 체인에서 빠지므로, 체인의 마지막 증분 백업만 합칠 수 있다.
+     * @param backupId 합칠 체인의 마지막 증분 백업 ID
+     * @param clientIpAddr 작업자
+     */
+    @Transactional
+    public BackupResponse compact(Long backupId, String clientIpAddr) {
+        Backup target = findBackup(backupId);
+        if (!target.isIncremental() || target.getStatus() != Status.COMPLETED) {
+            throw new IllegalArgumentException("완료된 증분 백업만 합칠 수 있습니다: " + backupId);
+        }
+
+        // 예약 후에 확인해야 확인과 합치기 사이에 같은 체인에 증분 백업이 추가되지 않는다
+        BackupJobRunner.Reservation reservation = backupJobRunner.reserve();
+        Long chainTipId = backupRepository
+                .findFirstByBaseBackupIdAndStatusOrderByIdDesc(target.getBaseBackupId(), Status.COMPLETED)
+                .map(Backup::getId)
+                .orElseThrow();
+        if (!chainTipId.equals(target.getId())) {
+            throw new IllegalArgumentException(
+                    "체인의 마지막 증분 백업만 합칠 수 있습니다: " + backupId + " (마지막 증분 백업: " + chainTipId + ")");
+        }
+
+        Backup base = findBackup(target.getBaseBackupId());
+        FileEntity baseFile = base.getFile();
+        List<FileEntity> deltaFiles = findIncrementalChain(base, target).stream()
+                .map(Backup::getFile)
+                .toList();
+
+        Backup compaction = Backup.ofCompaction(clientIpAddr, target.getStartedAt());
+        backupRepository.save(compaction);
+
+        Long compactionId = compaction.getId();
+        reservation.submit(compactionId,
+                listener -> csvProvider.saveCompactedFile(compactionId, baseFile, deltaFiles, listener));
+        return toDto(compaction);
+    }
+
+    private List<Backup> findIncrementalChain(Backup base, Backup last) {
+        return backupRepository.findIncrementalChain(base.getId(), last.getId(), Status.COMPLETED);
     }
 
-    private void generateBackupFile(Backup backup) {
-        csvProvider.saveEmployeeLogFile(backup.getId())
-                .ifPresentOrElse(
-                        backup::updateCompleted,
-                        backup::updateFailed
-                );
+    private Backup findBackup(Long backupId) {
+        return backupRepository.findWithFileById(backupId)
+                .orElseThrow(() -> new NoSuchElementException("백업을 찾을 수 없습니다: " + backupId));
     }
 
     public BackupResponse findLatest() {
@@ -0,0 +1,171 @@
+package com.project.hrbank.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.hrbank.config.cache.DepartmentCacheProperties;
+import com.project.hrbank.dto.response.CacheStatsResponse;
+import com.project.hrbank.entity.Department;
+import com.project.hrbank.repository.DepartmentRepository;
+import com.project.hrbank.util.cache.CacheInvalidationChannel;
+
+/**
+ * 부서 캐시. ID 로 조회하며, 크기(LRU)와 TTL 로 제거한다.
+ * 부서 생성/수정/삭제 시 커밋 이후 무효화 채널로 모든 인스턴스에 무효화를 전달한다.
+ * JPA 엔티티 대신 변경할 수 없는 CachedDepartment 를 보관한다.
+ */
+@Component
+public class DepartmentCache {
+
+	static final String CACHE_NAME = "departments";
+
+	private final DepartmentRepository departmentRepository;
+	private final CacheInvalidationChannel invalidationChannel;
+	private final int maxSize;
+	private final long ttlNanos;
+
+	private final LinkedHashMap<Long, CachedDepartment> departmentsById = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * 무효화될 때마다 증가. 조회 도중 무효화가 일어났다면 조회 결과를 캐시에 넣지 않는다.
+	 */
+	private long generation;
+
+	private final LongAdder hitCount = new LongAdder();
+	private final LongAdder missCount = new LongAdder();
+	private final LongAdder evictionCount = new LongAdder();
+	private final LongAdder invalidationCount = new LongAdder();
+
+	public DepartmentCache(DepartmentRepository departmentRepository, CacheInvalidationChannel invalidationChannel,
+		DepartmentCacheProperties properties) {
+		this.departmentRepository = departmentRepository;
+		this.invalidationChannel = invalidationChannel;
+		this.maxSize = properties.maxSize();
+		this.ttlNanos = properties.ttl().toNanos();
+		invalidationChannel.subscribe(CACHE_NAME, key -> evict(Long.valueOf(key)));
+	}
+
+	public Optional<CachedDepartment> getById(Long id) {
+		return Optional.ofNullable(getAllById(List.of(id)).get(id));
+	}
+
+	/**
+	 * 캐시에 없는 부서는 한 번의 조회로 모아서 불러온다.
+	 * @param ids 부서 ID 목록
+	 * @return 부서 ID 별 부서, 존재하지 않는 부서는 포함되지 않는다
+	 */
+	public Map<Long, CachedDepartment> getAllById(Collection<Long> ids) {
+		Map<Long, CachedDepartment> departments = new HashMap<>();
+		List<Long> missingIds = new ArrayList<>();
+		long loadGeneration;
+
+		synchronized (this) {
+			loadGeneration = generation;
+			long now = System.nanoTime();
+			for (Long id : ids) {
+				CachedDepartment department = departmentsById.get(id);
+				if (department != null && !department.isExpired(now)) {
+					departments.put(id, department);
+					hitCount.increment();
+				} else if (id != null) {
+					missingIds.add(id);
+					missCount.increment();
+				}
+			}
+		}
+
+		if (!missingIds.isEmpty()) {
+			for (Department department : departmentRepository.findAllById(missingIds)) {
+				departments.put(department.getId(), put(department, loadGeneration));
+			}
+		}
+		return departments;
+	}
+
+	/**
+	 * 현재 트랜잭션이 커밋된 뒤 모든 인스턴스에서 부서를 무효화 (트랜잭션이 없으면 바로 무효화)
+	 * @param id 부서 ID
+	 */
+	public void invalidateAfterCommit(Long id) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			invalidationChannel.publish(CACHE_NAME, String.valueOf(id));
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				invalidationChannel.publish(CACHE_NAME, String.valueOf(id));
+			}
+		});
+	}
+
+	public synchronized CacheStatsResponse getStats() {
+		return CacheStatsResponse.of(departmentsById.size(), hitCount.sum(), missCount.sum(), evictionCount.sum(),
+			invalidationCount.sum());
+	}
+
+	private synchronized CachedDepartment put(Department department, long loadGeneration) {
+		CachedDepartment cached = CachedDepartment.of(department, System.nanoTime() + ttlNanos);
+		if (loadGeneration != generation) {
+			return cached;
+		}
+		departmentsById.put(cached.id(), cached);
+		evictOverflow();
+		return cached;
+	}
+
+	private synchronized void evict(Long id) {
+		generation++;
+		if (departmentsById.remove(id) != null) {
+			invalidationCount.increment();
+		}
+	}
+
+	private void evictOverflow() {
+		long now = System.nanoTime();
+		Iterator<CachedDepartment> iterator = departmentsById.values().iterator();
+		while (iterator.hasNext()) {
+			CachedDepartment eldest = iterator.next();
+			if (departmentsById.size() <= maxSize && !eldest.isExpired(now)) {
+				break;
+			}
+			iterator.remove();
+			evictionCount.increment();
+		}
+	}
+
+	/**
+	 * 캐시에 보관하는 부서 정보
+	 */
+	public record CachedDepartment(
+		Long id,
+		String name,
+		String description,
+		LocalDate establishedDate,
+		LocalDateTime createdAt,
+		long expiresAtNanos
+	) {
+
+		private static CachedDepartment of(Department department, long expiresAtNanos) {
+			return new CachedDepartment(department.getId(), department.getName(), department.getDescription(),
+				department.getEstablishedDate(), department.getCreatedAt(), expiresAtNanos);
+		}
+
+		private boolean isExpired(long now) {
+			return now - expiresAtNanos > 0;
+		}
+	}
+}
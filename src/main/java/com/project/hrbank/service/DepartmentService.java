@@ -1,19 +1,39 @@
 package com.project.hrbank.service;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 
 import org.springframework.data.domain.Pageable;
 
 import com.project.hrbank.dto.DepartmentDto;
+import com.project.hrbank.dto.response.CacheStatsResponse;
 import com.project.hrbank.dto.response.CursorPageResponse;
+import com.project.hrbank.util.paging.CountMode;
 
 public interface DepartmentService {
 	DepartmentDto createDepartment(DepartmentDto dto);
 
 	DepartmentDto getDepartmentById(Long id);
 
-	CursorPageResponse<DepartmentDto> getAllDepartments(LocalDateTime cursor, String nameOrDescription,
-		Pageable pageable);
+	/**
+	 * 여러 부서의 이름을 한 번에 조회 (소속 직원 수는 계산하지 않는다)
+	 * @param ids 부서 ID 목록
+	 * @return 부서 ID 별 이름, 존재하지 않는 부서는 포함되지 않는다
+	 */
+	Map<Long, String> getDepartmentNames(Collection<Long> ids);
+
+	CacheStatsResponse getCacheStats();
+
+	/**
+	 * (정렬 값, 부서 ID) keyset 기준 부서 목록 조회
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param nameOrDescription 이름 또는 설명 검색어
+	 * @param pageable 정렬 기준(name, establishedDate, createdAt)과 페이지 크기
+	 * @param countMode 전체 개수 계산 방식 (null 이면 기본 방식)
+	 * @return 부서 목록
+	 */
+	CursorPageResponse<DepartmentDto> getAllDepartments(String cursor, String nameOrDescription,
+		Pageable pageable, CountMode countMode);
 
 	DepartmentDto updateDepartment(Long id, DepartmentDto dto);
 
@@ -1,18 +1,32 @@
 package com.project.hrbank.service;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.project.hrbank.dto.DepartmentDto;
+import com.project.hrbank.dto.response.CacheStatsResponse;
 import com.project.hrbank.dto.response.CursorPageResponse;
 import com.project.hrbank.entity.Department;
+import com.project.hrbank.repository.DepartmentHeadcountRepository;
 import com.project.hrbank.repository.DepartmentRepository;
 import com.project.hrbank.repository.EmployeeRepository;
+import com.project.hrbank.service.DepartmentCache.CachedDepartment;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.CountProvider;
+import com.project.hrbank.util.paging.KeysetFilter;
+import com.project.hrbank.util.paging.KeysetPage;
+import com.project.hrbank.util.paging.KeysetPaginator;
+import com.project.hrbank.util.paging.KeysetSpec;
+import com.project.hrbank.util.paging.TotalCount;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +36,21 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class DepartmentServiceImpl implements DepartmentService {
 
+	private static final Sort.Order DEFAULT_ORDER = Sort.Order.desc("createdAt");
+
+	private static final KeysetSpec<Department> DEPARTMENT_KEYSET = KeysetSpec.builder(
+			Department.class, "departments", "d", "department_id", Department::getId)
+		.sortField("name", "name", value -> value, Department::getName)
+		.sortField("establishedDate", "established_date", LocalDate::parse, Department::getEstablishedDate)
+		.sortField("createdAt", "created_at", LocalDateTime::parse, Department::getCreatedAt)
+		.build();
+
 	private final DepartmentRepository departmentRepository;
 	private final EmployeeRepository employeeRepository;
+	private final DepartmentCache departmentCache;
+	private final DepartmentHeadcountRepository departmentHeadcountRepository;
+	private final KeysetPaginator keysetPaginator;
+	private final CountProvider countProvider;
 
 	@Override
 	@Transactional
@@ -36,13 +63,15 @@ public class DepartmentServiceImpl implements DepartmentService {
 		department.update(dto.name(), dto.description(), dto.establishedDate());
 
 		departmentRepository.save(department);
+		departmentCache.invalidateAfterCommit(department.getId());
+		countProvider.invalidateAfterCommit(DEPARTMENT_KEYSET);
 
 		return new DepartmentDto(
 			department.getId(),
 			department.getName(),
 			department.getDescription(),
 			department.getEstablishedDate(),
-			employeeRepository.countEmployeesByDepartmentId(department.getId()),
+			0L,
 			department.getCreatedAt()
 		);
 	}
@@ -50,67 +79,65 @@ public class DepartmentServiceImpl implements DepartmentService {
 	@Override
 	@Transactional(readOnly = true)
 	public DepartmentDto getDepartmentById(Long id) {
-		Department department = departmentRepository.findById(id)
+		CachedDepartment department = departmentCache.getById(id)
 			.orElseThrow(() -> new IllegalArgumentException("Department not found with id: " + id));
 
 		return new DepartmentDto(
-			department.getId(),
-			department.getName(),
-			department.getDescription(),
-			department.getEstablishedDate(),
-			getEmployeeCount(department.getId()),
-			department.getCreatedAt()
+			department.id(),
+			department.name(),
+			department.description(),
+			department.establishedDate(),
+			getEmployeeCount(department.id()),
+			department.createdAt()
 		);
 	}
 
+	@Override
+	@Transactional(readOnly = true)
+	public Map<Long, String> getDepartmentNames(Collection<Long> ids) {
+		Map<Long, String> departmentNames = new HashMap<>();
+		for (CachedDepartment department : departmentCache.getAllById(ids).values()) {
+			departmentNames.put(department.id(), department.name());
+		}
+		return departmentNames;
+	}
+
+	@Override
+	public CacheStatsResponse getCacheStats() {
+		return departmentCache.getStats();
+	}
+
 	@Override
 	@Transactional(readOnly = true)
 	public CursorPageResponse<DepartmentDto> getAllDepartments(
-		LocalDateTime cursor,
+		String cursor,
 		String nameOrDescription,
-		Pageable pageable
+		Pageable pageable,
+		CountMode countMode
 	) {
-		cursor = null;
-
-		String searchQuery = nameOrDescription.isBlank() ? "" : nameOrDescription.trim();
-
-		Page<Department> page = departmentRepository.findNextDepartments(
-			cursor,
-			searchQuery,
-			pageable
-		);
+		KeysetFilter filter = new KeysetFilter()
+			.and("LOWER(d.name) LIKE :keyword OR LOWER(d.description) LIKE :keyword", "keyword",
+				KeysetFilter.containing(nameOrDescription));
 
-		List<DepartmentDto> content = getDepartmentContents(page);
+		KeysetPage<Department> page = keysetPaginator.fetch(DEPARTMENT_KEYSET, filter, cursor, pageable,
+			DEFAULT_ORDER);
+		TotalCount totalCount = countProvider.count(DEPARTMENT_KEYSET, filter, countMode);
 
-		LocalDateTime nextCursor = null;
-		if (page.hasContent()) {
-			nextCursor = content.get(content.size() - 1).createdAt();
-		}
-
-		Long nextIdAfter = null;
-		if (page.hasNext() && page.hasContent()) {
-			nextIdAfter = content.get(content.size() - 1).id();
-		}
-
-		return new CursorPageResponse<>(
-			content,
-			nextCursor,
-			nextIdAfter,
-			content.size(),
-			page.hasNext(),
-			page.getTotalElements()
-		);
+		return page.toResponse(getDepartmentContents(page.content()), totalCount);
 	}
 
-	private List<DepartmentDto> getDepartmentContents(Page<Department> slice) {
-		return slice.getContent()
+	private List<DepartmentDto> getDepartmentContents(List<Department> departments) {
+		Map<Long, Long> employeeCounts = departmentHeadcountRepository.findCounts(
+			departments.stream().map(Department::getId).toList());
+
+		return departments
 			.stream()
 			.map(department -> new DepartmentDto(
 				department.getId(),
 				department.getName(),
 				department.getDescription(),
 				department.getEstablishedDate(),
-				getEmployeeCount(department.getId()),
+				employeeCounts.getOrDefault(department.getId(), 0L),
 				department.getCreatedAt()
 			))
 			.toList();
@@ -127,6 +154,7 @@ public class DepartmentServiceImpl implements DepartmentService {
 		}
 
 		department.update(dto.name(), dto.description(), dto.establishedDate());
+		departmentCache.invalidateAfterCommit(id);
 
 		return new DepartmentDto(
 			department.getId(),
@@ -144,14 +172,16 @@ public class DepartmentServiceImpl implements DepartmentService {
 		Department department = departmentRepository.findById(id)
 			.orElseThrow(() -> new IllegalArgumentException("Department not found"));
 
-		if (getEmployeeCount(id) > 0) {
+		if (employeeRepository.existsByDepartmentId(id)) {
 			throw new IllegalStateException("Cannot delete department with existing employees");
 		}
 
 		departmentRepository.delete(department);
+		departmentCache.invalidateAfterCommit(id);
+		countProvider.invalidateAfterCommit(DEPARTMENT_KEYSET);
 	}
 
 	private long getEmployeeCount(Long departmentId) {
-		return employeeRepository.countEmployeesByDepartmentId(departmentId);
+		return departmentHeadcountRepository.findCount(departmentId);
 	}
 }
@@ -0,0 +1,96 @@
+package com.project.hrbank.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.hrbank.repository.EmployeeChangeLogBatchRepository;
+import com.project.hrbank.repository.EmployeeChangeLogBatchRepository.ChangeLogEntry;
+import com.project.hrbank.util.IpUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 직원 변경 이력 기록기.
+ * 트랜잭션 안에서 쌓인 이력을 커밋 직전(beforeCommit)에 같은 트랜잭션으로 batch insert 하므로,
+ * 직원 변경이 커밋되면 이력도 함께 커밋되고 롤백되면 함께 사라진다.
+ * 한 트랜잭션에서 BATCH_SIZE 건이 쌓이면 커밋을 기다리지 않고 먼저 내보낸다.
+ * <p>
+ * 묶음은 트랜잭션 단위이므로, 이력이 한 건뿐인 단건 API 요청(직원 등록/수정/삭제)은 지금도 INSERT 한 번이 그대로
+ * 남는다. 왕복이 줄어드는 것은 일괄 등록처럼 한 트랜잭션에서 여러 건을 쓰는 경우뿐이다.
+ * 트랜잭션을 넘어 큐에 모아 쓰면 단건 요청의 왕복도 줄지만, 커밋된 직원 변경의 이력이 큐에 있는 동안
+ * 서버가 내려가면 사라지고 롤백과도 묶이지 않으므로 그렇게 하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeChangeLogWriter {
+
+	private static final int BATCH_SIZE = 500;
+
+	private final EmployeeChangeLogBatchRepository changeLogBatchRepository;
+	private final IpUtils ipUtils;
+
+	/**
+	 * 변경 이력 추가. 진행 중인 트랜잭션이 없으면 즉시 저장한다.
+	 * @param type 변경 유형 (CREATED, UPDATED, DELETED)
+	 * @param changedValue 변경된 속성 목록 JSON (ChangeLogJsonWriter 참고)
+	 * @param employeeNumber 직원 번호
+	 * @param memo 메모
+	 */
+	public void append(String type, String changedValue, String employeeNumber, String memo) {
+		log.debug("변경 이력 추가: {} {} {}", type, employeeNumber, changedValue);
+
+		ChangeLogEntry entry = new ChangeLogEntry(type, changedValue, ipUtils.getClientIp(), employeeNumber,
+			LocalDateTime.now(), memo);
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			changeLogBatchRepository.insertAll(List.of(entry));
+			return;
+		}
+
+		PendingChangeLogs pending = currentPendingChangeLogs();
+		pending.entries.add(entry);
+		if (pending.entries.size() >= BATCH_SIZE) {
+			pending.insertPending();
+		}
+	}
+
+	private PendingChangeLogs currentPendingChangeLogs() {
+		PendingChangeLogs pending = (PendingChangeLogs)TransactionSynchronizationManager.getResource(this);
+		if (pending == null) {
+			pending = new PendingChangeLogs();
+			TransactionSynchronizationManager.bindResource(this, pending);
+			TransactionSynchronizationManager.registerSynchronization(pending);
+		}
+		return pending;
+	}
+
+	/**
+	 * 트랜잭션 하나에 묶인 미저장 변경 이력
+	 */
+	private class PendingChangeLogs implements TransactionSynchronization {
+
+		private final List<ChangeLogEntry> entries = new ArrayList<>();
+
+		private void insertPending() {
+			changeLogBatchRepository.insertAll(entries);
+			entries.clear();
+		}
+
+		@Override
+		public void beforeCommit(boolean readOnly) {
+			insertPending();
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeChangeLogWriter.this);
+		}
+	}
+}
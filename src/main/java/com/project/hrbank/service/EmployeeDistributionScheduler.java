@@ -0,0 +1,29 @@
+package com.project.hrbank.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.hrbank.repository.EmployeeDistributionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * (부서, 직급, 상태) 별 직원 수를 주기적으로 직원 테이블과 맞춘다.
+ * 어긋난 조합이 있었다면 경고로 남겨, 증감이 빠진 변경 경로를 찾을 수 있게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeDistributionScheduler {
+
+	private final EmployeeDistributionRepository employeeDistributionRepository;
+
+	@Scheduled(cron = "${schedule.distribution-reconcile-cron:0 40 3 * * *}")
+	public void reconcile() {
+		int reconciledCount = employeeDistributionRepository.reconcile();
+		if (reconciledCount > 0) {
+			log.warn("직원 분포 집계 {}건을 실제 값으로 바로잡았습니다.", reconciledCount);
+		}
+	}
+}
@@ -0,0 +1,354 @@
+package com.project.hrbank.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.hrbank.dto.request.EmployeeRequestDto;
+import com.project.hrbank.dto.response.EmployeeImportResponse;
+import com.project.hrbank.dto.response.EmployeeImportResponse.RowError;
+import com.project.hrbank.entity.Employee;
+import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.repository.EmployeeDistributionRepository;
+import com.project.hrbank.repository.EmployeeDistributionRepository.DistributionKey;
+import com.project.hrbank.repository.EmployeeBulkRepository;
+import com.project.hrbank.util.diff.ChangeLogFields;
+import com.project.hrbank.util.diff.ChangeLogJsonWriter;
+import com.project.hrbank.util.paging.CountProvider;
+import com.project.hrbank.util.provider.EmployeeCsvReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 직원 일괄 등록.
+ * 요청 본문을 한 행씩 읽어 CHUNK_SIZE 단위로 검증/저장하며, 묶음마다 별도 트랜잭션으로 커밋한다.
+ * 잘못된 행은 건너뛰고 사유를 결과에 담으며, 나머지 행의 등록은 계속 진행한다.
+ */
+@Slf4j
+@Service
+public class EmployeeImportService {
+
+	private static final int CHUNK_SIZE = 1000;
+	private static final String DEFAULT_MEMO = "직원 일괄 등록";
+	private static final List<String> CSV_COLUMNS = List.of("name", "email", "departmentId", "position", "hireDate",
+		"memo");
+
+	private final EmployeeBulkRepository employeeBulkRepository;
+	private final EmployeeDistributionRepository employeeDistributionRepository;
+	private final EmployeeNumberGenerator employeeNumberGenerator;
+	private final EmployeeChangeLogWriter changeLogWriter;
+	private final CountProvider countProvider;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	public EmployeeImportService(EmployeeBulkRepository employeeBulkRepository,
+		EmployeeDistributionRepository employeeDistributionRepository, EmployeeNumberGenerator employeeNumberGenerator,
+		EmployeeChangeLogWriter changeLogWriter, CountProvider countProvider, ObjectMapper objectMapper,
+		PlatformTransactionManager transactionManager) {
+		this.employeeBulkRepository = employeeBulkRepository;
+		this.employeeDistributionRepository = employeeDistributionRepository;
+		this.employeeNumberGenerator = employeeNumberGenerator;
+		this.changeLogWriter = changeLogWriter;
+		this.countProvider = countProvider;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * CSV 로 직원 일괄 등록. 첫 행은 헤더이며 name, email, departmentId, position, hireDate 열이 필요하다 (memo 는 선택).
+	 * @param inputStream UTF-8 CSV
+	 * @return 등록 결과
+	 */
+	public EmployeeImportResponse importCsv(InputStream inputStream) throws IOException {
+		ImportChunk chunk = new ImportChunk();
+
+		try (EmployeeCsvReader reader = new EmployeeCsvReader(
+			new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+			Map<String, Integer> columnIndexes = readCsvHeader(reader.readRecord());
+
+			String[] record;
+			long rowNumber = 0;
+			while ((record = reader.readRecord()) != null) {
+				rowNumber++;
+				String email = csvValue(record, columnIndexes, "email");
+				try {
+					EmployeeRequestDto request = EmployeeRequestDto.builder()
+						.name(csvValue(record, columnIndexes, "name"))
+						.email(email)
+						.departmentId(parseDepartmentId(csvValue(record, columnIndexes, "departmentId")))
+						.position(csvValue(record, columnIndexes, "position"))
+						.hireDate(parseHireDate(csvValue(record, columnIndexes, "hireDate")))
+						.memo(csvValue(record, columnIndexes, "memo"))
+						.build();
+					chunk.add(rowNumber, request);
+				} catch (IllegalArgumentException exception) {
+					chunk.fail(rowNumber, email, exception.getMessage());
+				}
+			}
+		}
+		return chunk.finish();
+	}
+
+	/**
+	 * JSON 배열로 직원 일괄 등록. 각 원소는 직원 등록 요청(EmployeeRequestDto)과 같은 형식이다.
+	 * @param inputStream JSON 배열
+	 * @return 등록 결과
+	 */
+	public EmployeeImportResponse importJson(InputStream inputStream) throws IOException {
+		ImportChunk chunk = new ImportChunk();
+
+		try (JsonParser parser = objectMapper.getFactory().createParser(inputStream)) {
+			if (parser.nextToken() != JsonToken.START_ARRAY) {
+				throw new IllegalArgumentException("직원 목록은 JSON 배열이어야 합니다.");
+			}
+
+			long rowNumber = 0;
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				rowNumber++;
+				JsonNode node = parser.readValueAsTree();
+				try {
+					chunk.add(rowNumber, objectMapper.treeToValue(node, EmployeeRequestDto.class));
+				} catch (JsonProcessingException exception) {
+					String email = node.hasNonNull("email") ? node.get("email").asText() : null;
+					chunk.fail(rowNumber, email, "형식이 올바르지 않습니다.");
+				}
+			}
+		} catch (JsonProcessingException exception) {
+			// 배열 구조 자체가 깨진 경우 (이미 커밋된 묶음은 유지된다)
+			throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.", exception);
+		}
+		return chunk.finish();
+	}
+
+	private Map<String, Integer> readCsvHeader(String[] header) {
+		if (header == null) {
+			throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+		}
+		Map<String, Integer> columnIndexes = new HashMap<>();
+		for (int index = 0; index < header.length; index++) {
+			for (String column : CSV_COLUMNS) {
+				if (column.equalsIgnoreCase(header[index].trim())) {
+					columnIndexes.put(column, index);
+				}
+			}
+		}
+		for (String column : CSV_COLUMNS.subList(0, CSV_COLUMNS.size() - 1)) {
+			if (!columnIndexes.containsKey(column)) {
+				throw new IllegalArgumentException("CSV 헤더에 " + column + " 열이 없습니다.");
+			}
+		}
+		return columnIndexes;
+	}
+
+	private String csvValue(String[] record, Map<String, Integer> columnIndexes, String column) {
+		Integer index = columnIndexes.get(column);
+		if (index == null || index >= record.length || record[index].isBlank()) {
+			return null;
+		}
+		return record[index].trim();
+	}
+
+	private Long parseDepartmentId(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException exception) {
+			throw new IllegalArgumentException("부서 ID 형식이 올바르지 않습니다.");
+		}
+	}
+
+	private LocalDate parseHireDate(String value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return LocalDate.parse(value);
+		} catch (DateTimeParseException exception) {
+			throw new IllegalArgumentException("입사일 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+		}
+	}
+
+	private static String validate(EmployeeRequestDto request) {
+		if (isBlank(request.getName())) {
+			return "이름은 필수입니다.";
+		}
+		if (isBlank(request.getEmail())) {
+			return "이메일은 필수입니다.";
+		}
+		if (request.getDepartmentId() == null) {
+			return "부서는 필수입니다.";
+		}
+		if (isBlank(request.getPosition())) {
+			return "직함은 필수입니다.";
+		}
+		if (request.getHireDate() == null) {
+			return "입사일은 필수입니다.";
+		}
+		return null;
+	}
+
+	private static boolean isBlank(String value) {
+		return value == null || value.isBlank();
+	}
+
+	/**
+	 * 읽은 행을 모아 두었다가 CHUNK_SIZE 마다 검증/저장하고 전체 결과를 누적
+	 */
+	private class ImportChunk {
+
+		private final List<ImportRow> rows = new ArrayList<>(CHUNK_SIZE);
+		private final List<RowError> errors = new ArrayList<>();
+		private long totalCount;
+		private long importedCount;
+
+		private void add(long rowNumber, EmployeeRequestDto request) {
+			totalCount++;
+			rows.add(new ImportRow(rowNumber, request));
+			if (rows.size() == CHUNK_SIZE) {
+				flush();
+			}
+		}
+
+		private void fail(long rowNumber, String email, String message) {
+			totalCount++;
+			errors.add(new RowError(rowNumber, email, message));
+		}
+
+		private EmployeeImportResponse finish() {
+			flush();
+			return new EmployeeImportResponse(totalCount, importedCount, errors);
+		}
+
+		private void flush() {
+			if (rows.isEmpty()) {
+				return;
+			}
+			List<ImportRow> candidates = filterCandidates();
+			try {
+				transactionTemplate.executeWithoutResult(status -> insert(candidates));
+				importedCount += candidates.size();
+			} catch (DataAccessException exception) {
+				log.warn("직원 일괄 등록 묶음 저장 실패, 한 행씩 다시 저장: {}행", candidates.size(), exception);
+				insertEachRow(candidates);
+			}
+			rows.clear();
+		}
+
+		/**
+		 * 묶음 저장이 실패하면 (검사 이후 다른 요청이 같은 이메일을 등록한 경우 등) 행마다 따로 커밋해,
+		 * 실제로 실패한 행만 오류로 남기고 나머지는 등록한다. 실패한 묶음에서만 행 수만큼 트랜잭션이 생긴다.
+		 */
+		private void insertEachRow(List<ImportRow> candidates) {
+			for (ImportRow row : candidates) {
+				try {
+					transactionTemplate.executeWithoutResult(status -> insert(List.of(row)));
+					importedCount++;
+				} catch (DataAccessException exception) {
+					log.debug("직원 일괄 등록 행 저장 실패: {}행", row.rowNumber(), exception);
+					errors.add(new RowError(row.rowNumber(), row.request().getEmail(), "저장에 실패했습니다."));
+				}
+			}
+		}
+
+		/**
+		 * 필수값, 중복 이메일(기존 직원 및 같은 묶음), 존재하지 않는 부서를 묶음 단위로 한 번에 검사
+		 */
+		private List<ImportRow> filterCandidates() {
+			Set<String> emails = new HashSet<>();
+			Set<Long> departmentIds = new HashSet<>();
+			for (ImportRow row : rows) {
+				if (row.request().getEmail() != null) {
+					emails.add(row.request().getEmail());
+				}
+				if (row.request().getDepartmentId() != null) {
+					departmentIds.add(row.request().getDepartmentId());
+				}
+			}
+			Set<String> existingEmails = employeeBulkRepository.findExistingEmails(emails);
+			Set<Long> existingDepartmentIds = employeeBulkRepository.findExistingDepartmentIds(departmentIds);
+
+			Set<String> chunkEmails = new HashSet<>();
+			List<ImportRow> candidates = new ArrayList<>(rows.size());
+			for (ImportRow row : rows) {
+				EmployeeRequestDto request = row.request();
+				String message = validate(request);
+				if (message == null && (existingEmails.contains(request.getEmail())
+					|| !chunkEmails.add(request.getEmail()))) {
+					message = "중복된 이메일입니다.";
+				}
+				if (message == null && !existingDepartmentIds.contains(request.getDepartmentId())) {
+					message = "존재하지 않는 부서입니다.";
+				}
+
+				if (message == null) {
+					candidates.add(row);
+				} else {
+					errors.add(new RowError(row.rowNumber(), request.getEmail(), message));
+				}
+			}
+			return candidates;
+		}
+
+		private void insert(List<ImportRow> candidates) {
+			List<String> employeeNumbers = employeeNumberGenerator.next(candidates.size());
+			LocalDateTime createdAt = LocalDateTime.now();
+
+			List<Employee> employees = new ArrayList<>(candidates.size());
+			for (int index = 0; index < candidates.size(); index++) {
+				EmployeeRequestDto request = candidates.get(index).request();
+				employees.add(Employee.builder()
+					.employeeNumber(employeeNumbers.get(index))
+					.name(request.getName())
+					.email(request.getEmail())
+					.departmentId(request.getDepartmentId())
+					.position(request.getPosition())
+					.hireDate(request.getHireDate())
+					.status(EmployeeStatus.ACTIVE)
+					.createdAt(createdAt)
+					.build());
+			}
+			employeeBulkRepository.insertAll(employees);
+
+			Map<DistributionKey, Long> distributionDeltas = new HashMap<>();
+			for (Employee employee : employees) {
+				distributionDeltas.merge(DistributionKey.of(employee), 1L, Long::sum);
+			}
+			employeeDistributionRepository.incrementAll(distributionDeltas);
+			countProvider.invalidateAfterCommit(EmployeeServiceImpl.EMPLOYEE_KEYSET);
+
+			for (int index = 0; index < employees.size(); index++) {
+				Employee employee = employees.get(index);
+				String memo = candidates.get(index).request().getMemo();
+				ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+				ChangeLogFields.EMPLOYEE.writeCreated(employee, changedValues);
+				changeLogWriter.append("CREATED", changedValues.toJson(), employee.getEmployeeNumber(),
+					memo != null ? memo : DEFAULT_MEMO);
+			}
+		}
+	}
+
+	private record ImportRow(long rowNumber, EmployeeRequestDto request) {
+	}
+}
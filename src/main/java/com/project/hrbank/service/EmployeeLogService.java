@@ -7,14 +7,16 @@ import org.springframework.data.domain.Pageable;
 import com.project.hrbank.dto.request.EmployeeLogRequest;
 import com.project.hrbank.dto.response.CursorPageResponse;
 import com.project.hrbank.dto.response.EmployeeLogResponse;
+import com.project.hrbank.util.paging.CountMode;
 
 public interface EmployeeLogService {
-	CursorPageResponse<EmployeeLogResponse> getLogs(LocalDateTime cursor, String employeeNumber, String memo,
-		String ipAddress, String type, LocalDateTime atFrom, LocalDateTime atTo, Pageable pageable);
+	CursorPageResponse<EmployeeLogResponse> getLogs(String cursor, String employeeNumber, String memo,
+		String ipAddress, String type, LocalDateTime atFrom, LocalDateTime atTo, Pageable pageable,
+		CountMode countMode);
 
 	String getLogById(Long id);
 
-	long getLogCount();
+	long getLogCount(CountMode countMode);
 
 	EmployeeLogResponse createLog(EmployeeLogRequest request);
 
@@ -0,0 +1,69 @@
+package com.project.hrbank.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.project.hrbank.repository.EmployeeNumberSequenceRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 직원 번호(EMP001 ...) 발급기.
+ * hi/lo 방식으로 시퀀스 값 하나마다 BLOCK_SIZE 개의 번호 블록을 받아 메모리에서 나눠 준다.
+ * 블록은 DB 시퀀스가 나눠 주므로 여러 인스턴스가 동시에 발급해도 번호가 겹치지 않으며,
+ * 롤백되거나 재시작으로 버려진 블록의 번호는 비어 있을 수 있다.
+ * 999 를 넘으면 자릿수가 늘어난다. (EMP1000)
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeNumberGenerator {
+
+	/**
+	 * employee_number_seq 의 INCREMENT BY 와 같아야 한다.
+	 */
+	static final int BLOCK_SIZE = 50;
+
+	private static final String EMPLOYEE_NUMBER_FORMAT = "EMP%03d";
+
+	private final EmployeeNumberSequenceRepository employeeNumberSequenceRepository;
+
+	private long nextNumber;
+	private long blockEnd;
+
+	public String next() {
+		return next(1).get(0);
+	}
+
+	/**
+	 * 직원 번호를 한 번에 발급. 남은 블록이 부족하면 필요한 블록 수만큼 시퀀스를 한 번에 조회한다.
+	 * @param count 발급할 개수
+	 * @return 직원 번호 목록
+	 */
+	public synchronized List<String> next(int count) {
+		List<String> employeeNumbers = new ArrayList<>(count);
+		while (employeeNumbers.size() < count && nextNumber < blockEnd) {
+			employeeNumbers.add(format(nextNumber++));
+		}
+
+		int remaining = count - employeeNumbers.size();
+		if (remaining == 0) {
+			return employeeNumbers;
+		}
+
+		int blockCount = (remaining + BLOCK_SIZE - 1) / BLOCK_SIZE;
+		for (long blockStart : employeeNumberSequenceRepository.nextValues(blockCount)) {
+			nextNumber = blockStart;
+			blockEnd = blockStart + BLOCK_SIZE;
+			while (employeeNumbers.size() < count && nextNumber < blockEnd) {
+				employeeNumbers.add(format(nextNumber++));
+			}
+		}
+		return employeeNumbers;
+	}
+
+	private String format(long number) {
+		return String.format(EMPLOYEE_NUMBER_FORMAT, number);
+	}
+}
@@ -3,19 +3,33 @@ package com.project.hrbank.service;
 import java.time.LocalDate;
 
 import java.util.List;
-import java.util.Map;
 
-import org.springframework.data.domain.Page;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.project.hrbank.dto.request.EmployeeRequestDto;
+import com.project.hrbank.dto.response.CursorPageResponse;
+import com.project.hrbank.dto.response.EmployeeDashboardResponse;
+import com.project.hrbank.dto.response.EmployeeDistributionResponse;
 import com.project.hrbank.dto.response.EmployeeResponseDto;
+import com.project.hrbank.dto.response.EmployeeTrendResponse;
 import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.entity.enums.TrendUnit;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.MatchMode;
 
 public interface EmployeeService {
-	Page<EmployeeResponseDto> getEmployees(String nameOrEmail, String departmentName, String position,
-		EmployeeStatus status, int page, int size, String sortField,
-		String sortDirection);
+	/**
+	 * (정렬 값, 직원 ID) keyset 기준 직원 목록 조회
+	 * @param nameOrEmail 이름 또는 이메일 검색어
+	 * @param match 검색어 일치 방식 (null 이면 부분 일치)
+	 * @param departmentName 부서 이름 검색어 (부분 일치)
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param sortField 정렬 기준 (name, employeeNumber, hireDate)
+	 * @param countMode 전체 개수 계산 방식 (null 이면 기본 방식)
+	 */
+	CursorPageResponse<EmployeeResponseDto> getEmployees(String nameOrEmail, MatchMode match, String departmentName,
+		String position, EmployeeStatus status, String cursor, int size, String sortField, String sortDirection,
+		CountMode countMode);
 
 	EmployeeResponseDto getEmployeeById(Long id);
 
@@ -27,10 +41,27 @@ public interface EmployeeService {
 
 	long countEmployees(EmployeeStatus status, String fromDate, String toDate);
 
-	long countEmployeesByUnit(String unit); // 시간 단위별 직원 수 조회
+	/**
+	 * 기간별 직원 수 추이 (입사일 기준)
+	 * @param from 시작일, null 이면 to 를 포함해 최근 12개 기간
+	 * @param to 종료일, null 이면 오늘
+	 * @param unit 집계 단위
+	 * @return 기간 순서대로 정렬된 추이, 입사자가 없는 기간도 포함한다
+	 */
+	List<EmployeeTrendResponse> getEmployeeTrend(LocalDate from, LocalDate to, TrendUnit unit);
 
 	long countEmployeesHiredInDateRange(LocalDate fromDate, LocalDate toDate);
 
-	List<Map<String, Object>> getEmployeeDistribution(String groupBy, EmployeeStatus status);
+	List<EmployeeDistributionResponse> getEmployeeDistribution(String groupBy, EmployeeStatus status);
+
+	/**
+	 * 대시보드 통계 (상태별 직원 수, 입사자 수, 추이, 부서/직급 분포) 를 한 번의 조회로 계산
+	 * @param from 시작일, null 이면 to 를 포함해 최근 12개 기간의 첫날
+	 * @param to 종료일, null 이면 오늘
+	 * @param unit 추이 집계 단위
+	 * @param status 분포를 계산할 직원 상태
+	 */
+	EmployeeDashboardResponse getEmployeeDashboard(LocalDate from, LocalDate to, TrendUnit unit,
+		EmployeeStatus status);
 
 }
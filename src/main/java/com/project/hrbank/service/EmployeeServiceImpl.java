@@ -1,41 +1,50 @@
 package com.project.hrbank.service;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionSynchronizationAdapter;
-import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.project.hrbank.dto.DepartmentDto;
 import com.project.hrbank.dto.request.EmployeeRequestDto;
+import com.project.hrbank.dto.response.CursorPageResponse;
+import com.project.hrbank.dto.response.EmployeeDashboardResponse;
+import com.project.hrbank.dto.response.EmployeeDistributionResponse;
 import com.project.hrbank.dto.response.EmployeeResponseDto;
+import com.project.hrbank.dto.response.EmployeeTrendResponse;
 import com.project.hrbank.entity.Employee;
 import com.project.hrbank.entity.FileEntity;
 import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.entity.enums.TrendUnit;
+import com.project.hrbank.repository.EmployeeDistributionRepository;
+import com.project.hrbank.repository.EmployeeDistributionRepository.DistributionKey;
+import com.project.hrbank.repository.EmployeeDistributionRepository.GroupCount;
 import com.project.hrbank.repository.EmployeeRepository;
+import com.project.hrbank.repository.EmployeeStatsRepository;
+import com.project.hrbank.repository.EmployeeStatsRepository.DashboardCounts;
+import com.project.hrbank.repository.EmployeeStatsRepository.PeriodCount;
 import com.project.hrbank.repository.FileRepository;
-import com.project.hrbank.util.IpUtils;
+import com.project.hrbank.util.diff.ChangeLogFields;
+import com.project.hrbank.util.diff.ChangeLogJsonWriter;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.CountProvider;
+import com.project.hrbank.util.paging.KeysetFilter;
+import com.project.hrbank.util.paging.KeysetPage;
+import com.project.hrbank.util.paging.KeysetPaginator;
+import com.project.hrbank.util.paging.KeysetSpec;
+import com.project.hrbank.util.paging.MatchMode;
+import com.project.hrbank.util.paging.TotalCount;
 
 import lombok.RequiredArgsConstructor;
 
@@ -43,14 +52,29 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EmployeeServiceImpl implements EmployeeService {
 
-	private static final Logger logger = LoggerFactory.getLogger(EmployeeServiceImpl.class);
+	private static final Sort.Order DEFAULT_ORDER = Sort.Order.asc("name");
+	private static final int DEFAULT_TREND_POINTS = 12;
+	private static final int MAX_TREND_POINTS = 1000;
+	private static final PeriodCount NO_HIRES = new PeriodCount(0, 0);
+
+	// 직원 일괄 등록(EmployeeImportService)도 이 목록의 개수 캐시를 비운다
+	static final KeysetSpec<Employee> EMPLOYEE_KEYSET = KeysetSpec.builder(
+			Employee.class, "employees", "e", "employee_id", Employee::getEmployeeId)
+		.sortField("name", "name", value -> value, Employee::getName)
+		.sortField("employeeNumber", "employee_number", value -> value, Employee::getEmployeeNumber)
+		.sortField("hireDate", "hire_date", LocalDate::parse, Employee::getHireDate)
+		.build();
 
-	private final JdbcTemplate jdbcTemplate;
 	private final EmployeeRepository employeeRepository;
 	private final DepartmentService departmentService;
-	private final IpUtils ipUtils;
+	private final EmployeeChangeLogWriter changeLogWriter;
+	private final EmployeeNumberGenerator employeeNumberGenerator;
+	private final EmployeeDistributionRepository employeeDistributionRepository;
+	private final EmployeeStatsRepository employeeStatsRepository;
 	private final FileService fileService;
 	private final FileRepository fileRepository;
+	private final KeysetPaginator keysetPaginator;
+	private final CountProvider countProvider;
 
 	@Override
 	@Transactional
@@ -59,7 +83,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 		if (employeeRepository.existsByEmail(requestDto.getEmail())) {
 			throw new IllegalArgumentException("중복된 이메일입니다.");
 		}
-		String employeeNumber = generateEmployeeNumber();
+		String employeeNumber = employeeNumberGenerator.next();
 
 		Employee employee = Employee.builder()
 			.employeeNumber(employeeNumber)
@@ -83,34 +107,53 @@ public class EmployeeServiceImpl implements EmployeeService {
 		}
 
 		Employee savedEmployee = employeeRepository.save(employee);
+		employeeDistributionRepository.increment(savedEmployee, 1);
+		countProvider.invalidateAfterCommit(EMPLOYEE_KEYSET);
 
-		List<Map<String, Object>> logData = new ArrayList<>();
-		logData.add(createLogEntry("hireDate", null, employee.getHireDate().toString()));
-		logData.add(createLogEntry("name", null, employee.getName()));
-		logData.add(createLogEntry("position", null, employee.getPosition()));
-		logData.add(createLogEntry("department", null, String.valueOf(employee.getDepartmentId())));
-		logData.add(createLogEntry("email", null, employee.getEmail()));
-		logData.add(createLogEntry("status", null, employee.getStatus().toString()));
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		ChangeLogFields.EMPLOYEE.writeCreated(savedEmployee, changedValues);
 
-		saveLog("CREATED", logData, savedEmployee.getEmployeeNumber(), requestDto.getMemo());
+		changeLogWriter.append("CREATED", changedValues.toJson(), savedEmployee.getEmployeeNumber(),
+			requestDto.getMemo());
 
 		return convertToDto(employee);
 	}
 
 	@Override
-	public Page<EmployeeResponseDto> getEmployees(String nameOrEmail, String departmentName, String position,
-		EmployeeStatus status, int page, int size, String sortField, String sortDirection) {
-		Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortField);
-		Pageable pageable = PageRequest.of(page, size, sort);
-
-		Page<Employee> employees = employeeRepository.findFilteredEmployees(
-			departmentName,
-			position,
-			status,
-			pageable
-		);
-
-		return employees.map(this::convertToDto);
+	@Transactional(readOnly = true)
+	public CursorPageResponse<EmployeeResponseDto> getEmployees(String nameOrEmail, MatchMode match,
+		String departmentName, String position, EmployeeStatus status, String cursor, int size, String sortField,
+		String sortDirection, CountMode countMode) {
+		Pageable pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.fromString(sortDirection), sortField));
+
+		KeysetFilter filter = new KeysetFilter();
+		if (match == MatchMode.PREFIX) {
+			filter.and("LOWER(e.name) LIKE :nameOrEmail OR LOWER(e.email) LIKE :nameOrEmail", "nameOrEmail",
+				KeysetFilter.startingWith(nameOrEmail));
+		} else {
+			filter.and("e.name ILIKE :nameOrEmail OR e.email ILIKE :nameOrEmail", "nameOrEmail",
+				KeysetFilter.containing(nameOrEmail));
+		}
+		// 부서 이름으로 찾은 부서 ID 와 semi-join 한다 (직원마다 부서는 하나라 중복 행이 생기지 않는다)
+		filter
+			.and("e.department_id IN (SELECT d.department_id FROM departments d WHERE d.name ILIKE :departmentName)",
+				"departmentName", KeysetFilter.containing(departmentName))
+			.and("e.position = :position", "position", position)
+			.and("e.status = :status", "status", status != null ? status.name() : null);
+
+		KeysetPage<Employee> employees = keysetPaginator.fetch(EMPLOYEE_KEYSET, filter, cursor, pageable,
+			DEFAULT_ORDER);
+		TotalCount totalCount = countProvider.count(EMPLOYEE_KEYSET, filter, countMode);
+
+		Set<Long> departmentIds = employees.content().stream()
+			.map(Employee::getDepartmentId)
+			.collect(Collectors.toSet());
+		Map<Long, String> departmentNames = departmentService.getDepartmentNames(departmentIds);
+
+		List<EmployeeResponseDto> content = employees.content().stream()
+			.map(employee -> convertToDto(employee, departmentNames.get(employee.getDepartmentId())))
+			.toList();
+		return employees.toResponse(content, totalCount);
 	}
 
 	@Override
@@ -132,53 +175,28 @@ public class EmployeeServiceImpl implements EmployeeService {
 		Employee existingEmployee = employeeRepository.findById(id)
 			.orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
 
-		List<Map<String, Object>> logData = new ArrayList<>();
-
-		if (!Objects.equals(existingEmployee.getHireDate(), dto.getHireDate())) {
-			logData.add(createLogEntry("hireDate",
-				existingEmployee.getHireDate() != null ? existingEmployee.getHireDate().toString() : null,
-				dto.getHireDate() != null ? dto.getHireDate().toString() : null));
-			existingEmployee.setHireDate(dto.getHireDate());
-		}
-
-		if (!Objects.equals(existingEmployee.getName(), dto.getName())) {
-			logData.add(createLogEntry("name", existingEmployee.getName(), dto.getName()));
-			existingEmployee.setName(dto.getName());
-		}
-
-		if (!Objects.equals(existingEmployee.getPosition(), dto.getPosition())) {
-			logData.add(createLogEntry("position", existingEmployee.getPosition(), dto.getPosition()));
-			existingEmployee.setPosition(dto.getPosition());
-		}
+		Employee requested = Employee.builder()
+			.hireDate(dto.getHireDate())
+			.name(dto.getName())
+			.position(dto.getPosition())
+			.departmentId(dto.getDepartmentId())
+			.email(dto.getEmail())
+			.status(dto.getStatus())
+			.build();
 
-		if (!Objects.equals(existingEmployee.getDepartmentId(), dto.getDepartmentId())) {
-			logData.add(createLogEntry("department",
-				existingEmployee.getDepartmentId() != null ? String.valueOf(existingEmployee.getDepartmentId()) : null,
-				dto.getDepartmentId() != null ? String.valueOf(dto.getDepartmentId()) : null));
-			existingEmployee.setDepartmentId(dto.getDepartmentId());
-		}
-
-		if (!Objects.equals(existingEmployee.getEmail(), dto.getEmail())) {
-			logData.add(createLogEntry("email", existingEmployee.getEmail(), dto.getEmail()));
-			existingEmployee.setEmail(dto.getEmail());
-		}
-
-		if (!Objects.equals(existingEmployee.getStatus(), dto.getStatus())) {
-			logData.add(createLogEntry("status",
-				existingEmployee.getStatus() != null ? existingEmployee.getStatus().toString() : null,
-				dto.getStatus() != null ? dto.getStatus().toString() : null));
-			existingEmployee.setStatus(dto.getStatus());
-		}
+		DistributionKey previousDistributionKey = DistributionKey.of(existingEmployee);
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		ChangeLogFields.EMPLOYEE.apply(existingEmployee, requested, changedValues);
+		employeeDistributionRepository.move(previousDistributionKey, DistributionKey.of(existingEmployee));
+		// 상태·부서 등 검색 조건에 쓰이는 값이 바뀌면 조건별 개수가 달라진다
+		countProvider.invalidateAfterCommit(EMPLOYEE_KEYSET);
 
 		// 프로필 이미지 처리
 		if (profileImage != null && !profileImage.isEmpty()) {
 			try {
 				FileEntity fileEntity = fileService.updateFile(existingEmployee.getProfileImageId(), profileImage);
 				Long profileImageId = fileEntity.getId();
-				logData.add(createLogEntry("profile_image",
-					existingEmployee.getProfileImageId() != null ? String.valueOf(existingEmployee.getProfileImageId()) :
-						null,
-					profileImageId != null ? String.valueOf(profileImageId) : null));
+				changedValues.writeChange("profile_image", existingEmployee.getProfileImageId(), profileImageId);
 				existingEmployee.setProfileImageId(profileImageId);
 			} catch (IOException e) {
 				throw new RuntimeException(e.getMessage());
@@ -187,7 +205,7 @@ public class EmployeeServiceImpl implements EmployeeService {
 
 		String employeeNumber = existingEmployee.getEmployeeNumber();
 
-		saveLog("UPDATED", logData, employeeNumber, dto.getMemo());
+		changeLogWriter.append("UPDATED", changedValues.toJson(), employeeNumber, dto.getMemo());
 
 		return convertToDto(existingEmployee);
 	}
@@ -198,59 +216,23 @@ public class EmployeeServiceImpl implements EmployeeService {
 		Employee employee = employeeRepository.findById(id)
 			.orElseThrow(() -> new IllegalArgumentException("직원을 찾을 수 없습니다."));
 
-		List<Map<String, Object>> logData = new ArrayList<>();
-
-		logData.add(createLogEntry("hireDate",
-			employee.getHireDate() != null ? employee.getHireDate().toString() : null,
-			null));
-		logData.add(createLogEntry("name", employee.getName(), null));
-		logData.add(createLogEntry("position", employee.getPosition(), null));
-		logData.add(createLogEntry("department",
-			employee.getDepartmentId() != null ? String.valueOf(employee.getDepartmentId()) : null,
-			null));
-		logData.add(createLogEntry("email", employee.getEmail(), null));
-		logData.add(createLogEntry("status",
-			employee.getStatus() != null ? employee.getStatus().toString() : null,
-			null));
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		ChangeLogFields.EMPLOYEE.writeDeleted(employee, changedValues);
 
-		saveLog("DELETED", logData, employee.getEmployeeNumber(), "직원 삭제");
+		changeLogWriter.append("DELETED", changedValues.toJson(), employee.getEmployeeNumber(), "직원 삭제");
 
 		Long profileImageId = employee.getProfileImageId();
-		String filePath = null;
 
 		employeeRepository.delete(employee);
+		employeeDistributionRepository.increment(employee, -1);
+		countProvider.invalidateAfterCommit(EMPLOYEE_KEYSET);
 
-		if (profileImageId != null) {
-			FileEntity fileEntity = fileRepository.findById(profileImageId)
-				.orElse(null);
-			if (fileEntity != null) {
-				filePath = fileEntity.getFilePath(); // 경로 미리 확보
-				fileRepository.delete(fileEntity);   // 메타 삭제
-			}
-		}
-
-		if (profileImageId != null) {
-			String finalFilePath = filePath;
-			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
-				@Override
-				public void afterCommit() {
-					try {
-						Path path = Paths.get(finalFilePath);
-						Files.deleteIfExists(path);
-					} catch (IOException e) {
-						logger.warn("파일 삭제 실패: {}", finalFilePath, e);
-					}
-				}
-			});
+		// 메타데이터는 지금 지우고, 저장소의 파일은 커밋 후 저장소 방식에 맞게 지운다
+		if (profileImageId != null && fileRepository.existsById(profileImageId)) {
+			fileService.deleteFile(profileImageId);
 		}
 	}
 
-	private String generateEmployeeNumber() {
-		long count = employeeRepository.count() + 1;
-		return String.format("EMP%03d", count);
-
-	}
-
 	@Override
 	public long countEmployees(EmployeeStatus status, String fromDate, String toDate) {
 		LocalDate start = (fromDate != null && !fromDate.isEmpty()) ? LocalDate.parse(fromDate) : null;
@@ -260,103 +242,129 @@ public class EmployeeServiceImpl implements EmployeeService {
 	}
 
 	@Override
-	public long countEmployeesByUnit(String unit) {
-		switch (unit.toLowerCase()) {
-			case "day":
-				return employeeRepository.countEmployeesForToday();
-			case "week":
-				return employeeRepository.countEmployeesForCurrentWeek();
-			case "month":
-				return employeeRepository.countEmployeesForCurrentMonth();
-			case "quarter":
-				return employeeRepository.countEmployeesForCurrentQuarter();
-			case "year":
-				return employeeRepository.countEmployeesForCurrentYear();
-			default:
-				throw new IllegalArgumentException("Invalid unit: " + unit);
-		} //enum으로 변경 가능한지
+	@Transactional(readOnly = true)
+	public List<EmployeeTrendResponse> getEmployeeTrend(LocalDate from, LocalDate to, TrendUnit unit) {
+		List<LocalDate> periods = getTrendPeriods(from, to, unit);
+		Map<LocalDate, PeriodCount> hiredCounts = employeeStatsRepository.countHiredByPeriod(unit, periods.get(0),
+			unit.next(periods.get(periods.size() - 1)));
+		return toTrend(periods, hiredCounts);
 	}
 
-	private void saveLog(String type, List<Map<String, Object>> logEntries, String employeeNumber, String memo) {
+	@Override
+	@Transactional(readOnly = true)
+	public List<EmployeeDistributionResponse> getEmployeeDistribution(String groupBy, EmployeeStatus status) {
+		List<GroupCount> groupCounts = switch (groupBy.toLowerCase()) {
+			case "department" -> employeeDistributionRepository.countByDepartment(status);
+			case "position" -> employeeDistributionRepository.countByPosition(status);
+			default -> throw new IllegalArgumentException("Invalid groupBy value: " + groupBy);
+		};
+		return toDistribution(groupCounts);
+	}
 
-		try {
-			String jsonString = new ObjectMapper().writeValueAsString(logEntries);
-			logger.info("로그 출력: {}", jsonString);
-
-			String sql = """
-				INSERT INTO employee_change_logs 
-				    (type, changed_value, ip, employee_number, changed_at, memo)
-				VALUES 
-				    (?, ?::jsonb, ?, ?, ?, ?)
-				""";
-
-			jdbcTemplate.update(
-				sql,
-				type,
-				jsonString,
-				ipUtils.getClientIp(),
-				employeeNumber,
-				LocalDateTime.now(),
-				memo
-			);
-
-		} catch (JsonProcessingException e) {
-			logger.error("JSON 변환 실패", e);
+	@Override
+	@Transactional(readOnly = true)
+	public EmployeeDashboardResponse getEmployeeDashboard(LocalDate from, LocalDate to, TrendUnit unit,
+		EmployeeStatus status) {
+		List<LocalDate> periods = getTrendPeriods(from, to, unit);
+		LocalDate trendFrom = periods.get(0);
+		LocalDate trendTo = unit.next(periods.get(periods.size() - 1));
+		LocalDate hiredFrom = from != null ? from : trendFrom;
+		LocalDate hiredTo = to != null ? to.plusDays(1) : trendTo;
+
+		DashboardCounts counts = employeeStatsRepository.countDashboard(unit, trendFrom, trendTo, hiredFrom,
+			hiredTo);
+
+		Map<EmployeeStatus, Long> statusCounts = new EnumMap<>(EmployeeStatus.class);
+		long totalCount = 0;
+		for (EmployeeStatus employeeStatus : EmployeeStatus.values()) {
+			long count = counts.statusCounts().getOrDefault(employeeStatus, 0L);
+			statusCounts.put(employeeStatus, count);
+			totalCount += count;
 		}
-	}
 
-	private Map<String, Object> createLogEntry(String propertyName, String before, String after) {
-		Map<String, Object> entry = new HashMap<>();
-		entry.put("propertyName", propertyName);
-		entry.put("before", before);
-		entry.put("after", after);
-		return entry;
+		return new EmployeeDashboardResponse(
+			totalCount,
+			statusCounts,
+			counts.hiredInRange(),
+			toTrend(periods, counts.hiredByPeriod()),
+			toDistribution(counts.departmentCounts().getOrDefault(status, List.of())),
+			toDistribution(counts.positionCounts().getOrDefault(status, List.of()))
+		);
 	}
 
-	@Override
-	public List<Map<String, Object>> getEmployeeDistribution(String groupBy, EmployeeStatus status) {
-		List<Object[]> results;
-
-		switch (groupBy.toLowerCase()) {
-			case "department":
-				results = employeeRepository.countEmployeesGroupedByDepartment(status);
-				break;
-			case "position":
-				results = employeeRepository.countEmployeesGroupedByPosition(status);
-				break;
-			default:
-				throw new IllegalArgumentException("Invalid groupBy value: " + groupBy);
+	/**
+	 * @return from ~ to 를 unit 경계로 맞춘 기간 첫날 목록
+	 */
+	private List<LocalDate> getTrendPeriods(LocalDate from, LocalDate to, TrendUnit unit) {
+		LocalDate lastPeriod = unit.truncate(to != null ? to : LocalDate.now());
+		LocalDate firstPeriod = from != null
+			? unit.truncate(from)
+			: unit.plus(lastPeriod, -(DEFAULT_TREND_POINTS - 1));
+		if (firstPeriod.isAfter(lastPeriod)) {
+			throw new IllegalArgumentException("from must not be after to");
 		}
 
-		long totalCount = employeeRepository.countByStatus(status);
+		List<LocalDate> periods = new ArrayList<>();
+		for (LocalDate period = firstPeriod; !period.isAfter(lastPeriod); period = unit.next(period)) {
+			if (periods.size() == MAX_TREND_POINTS) {
+				throw new IllegalArgumentException("Too many trend points, max: " + MAX_TREND_POINTS);
+			}
+			periods.add(period);
+		}
+		return periods;
+	}
 
-		List<Map<String, Object>> distribution = new ArrayList<>();
-		for (Object[] result : results) {
-			String key = (String) result[0];
-			Long count = (Long) result[1];
-			double percentage = ((double) count / totalCount) * 100;
+	/**
+	 * 직원 수는 지금 퇴사 상태가 아닌 직원만 센다 (퇴사일이 저장되지 않아 퇴사 시점을 알 수 없다).
+	 * @param hiredCounts 기간 첫날별 입사자 수, 첫 기간 이전 입사자 수는 null 키
+	 */
+	private List<EmployeeTrendResponse> toTrend(List<LocalDate> periods, Map<LocalDate, PeriodCount> hiredCounts) {
+		List<EmployeeTrendResponse> trend = new ArrayList<>(periods.size());
+		long previousCount = hiredCounts.getOrDefault(null, NO_HIRES).retainedCount();
+		for (LocalDate period : periods) {
+			PeriodCount periodCount = hiredCounts.getOrDefault(period, NO_HIRES);
+			long hiredCount = periodCount.hiredCount();
+			long count = previousCount + periodCount.retainedCount();
+			long change = count - previousCount;
+			double changeRate = previousCount == 0 ? 0.0 : (double)change / previousCount * 100;
+
+			trend.add(new EmployeeTrendResponse(period, count, hiredCount, change,
+				Math.round(changeRate * 100.0) / 100.0));
+			previousCount = count;
+		}
+		return trend;
+	}
 
-			Map<String, Object> entry = new HashMap<>();
-			entry.put("groupKey", key);
-			entry.put("count", count);
-			entry.put("percentage", Math.round(percentage * 100.0) / 100.0); // 소수점 2자리 반올림
-			distribution.add(entry);
+	private List<EmployeeDistributionResponse> toDistribution(List<GroupCount> groupCounts) {
+		long totalCount = 0;
+		for (GroupCount groupCount : groupCounts) {
+			totalCount += groupCount.count();
 		}
 
+		List<EmployeeDistributionResponse> distribution = new ArrayList<>(groupCounts.size());
+		for (GroupCount groupCount : groupCounts) {
+			double percentage = (double)groupCount.count() / totalCount * 100;
+			distribution.add(new EmployeeDistributionResponse(groupCount.groupKey(), groupCount.count(),
+				Math.round(percentage * 100.0) / 100.0)); // 소수점 2자리 반올림
+		}
 		return distribution;
 	}
 
 
 	private EmployeeResponseDto convertToDto(Employee employee) {
-		DepartmentDto departmentDto = departmentService.getDepartmentById(employee.getDepartmentId());
+		Map<Long, String> departmentNames = departmentService.getDepartmentNames(
+			Collections.singletonList(employee.getDepartmentId()));
+		return convertToDto(employee, departmentNames.get(employee.getDepartmentId()));
+	}
 
+	private EmployeeResponseDto convertToDto(Employee employee, String departmentName) {
 		return EmployeeResponseDto.builder()
 			.id(employee.getEmployeeId())
 			.name(employee.getName())
 			.email(employee.getEmail())
 			.employeeNumber(employee.getEmployeeNumber())
 			.departmentId(employee.getDepartmentId())
-			.departmentName(departmentDto.name())
+			.departmentName(departmentName)
 			.position(employee.getPosition())
 			.hireDate(employee.getHireDate())
 			.status(employee.getStatus())
@@ -0,0 +1,34 @@
+package com.project.hrbank.service;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.hrbank.util.storage.FileStorage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 저장소에서 더 이상 참조되지 않는 파일(content-addressed blob 등)과 원본이 없는 이미지 축소본을 주기적으로 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FileBlobSweepScheduler {
+
+	private final FileStorage fileStorage;
+	private final ImageVariantService imageVariantService;
+
+	@Scheduled(cron = "${schedule.blob-sweep-cron:0 0 4 * * *}")
+	public void sweep() {
+		int deletedCount = fileStorage.sweepUnreferenced();
+		if (deletedCount > 0) {
+			log.info("참조되지 않는 파일 {}건을 삭제했습니다.", deletedCount);
+		}
+
+		int deletedVariantCount = imageVariantService.sweepOrphans();
+		if (deletedVariantCount > 0) {
+			log.info("원본이 없는 이미지 축소본 {}건을 삭제했습니다.", deletedVariantCount);
+		}
+	}
+}
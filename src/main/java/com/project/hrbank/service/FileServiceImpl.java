@@ -1,6 +1,8 @@
 package com.project.hrbank.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -10,6 +12,7 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import org.springframework.web.multipart.MultipartFile;
 
 import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.FileExtension;
 import com.project.hrbank.repository.FileRepository;
 import com.project.hrbank.util.factory.FileHandlerFactory;
 import com.project.hrbank.util.handler.FileHandler;
@@ -32,17 +35,7 @@ public class FileServiceImpl implements FileService {
 			return null;
 		}
 
-		String fileName = (file.getOriginalFilename() != null) ? file.getOriginalFilename() : "unknown_file";
-		FileHandler fileHandler = fileHandlerFactory.getFileHandler(fileName);
-		byte[] processedFileData = fileHandler.processMultipartFile(file);
-
-		FileEntity fileEntity = fileStorage.saveFile(
-			null,
-			processedFileData,
-			file.getOriginalFilename(),
-			file.getContentType()
-		);
-		return fileRepository.save(fileEntity);
+		return fileRepository.save(store(file));
 	}
 
 	@Override
@@ -51,13 +44,13 @@ public class FileServiceImpl implements FileService {
 			throw new IllegalArgumentException("파일 데이터가 비어 있습니다.");
 		}
 		FileHandler fileHandler = fileHandlerFactory.getFileHandler(fileName);
-		byte[] processedFileData = fileHandler.processFileData(fileName, fileData);
+		InputStream inputStream = new ByteArrayInputStream(fileData);
 
 		FileEntity fileEntity = fileStorage.saveFile(
 			null,
-			processedFileData,
 			fileName,
-			contentType
+			contentType,
+			outputStream -> fileHandler.transfer(inputStream, outputStream)
 		);
 		return fileRepository.save(fileEntity);
 	}
@@ -74,20 +67,10 @@ public class FileServiceImpl implements FileService {
 			throw new IllegalArgumentException("업로드된 새 파일이 비어있습니다.");
 		}
 		FileEntity existFile = find(fileId);
-		fileStorage.delete(existFile.getId());
+		fileStorage.delete(existFile);
 		fileRepository.delete(existFile);
 
-		String fileName = (newFile.getOriginalFilename() != null) ? newFile.getOriginalFilename() : "unknown_file";
-
-		byte[] processedFileData = fileHandlerFactory.getFileHandler(fileName).processMultipartFile(newFile);
-
-		FileEntity updateFile = fileStorage.saveFile(
-			null,
-			processedFileData,
-			newFile.getOriginalFilename(),
-			newFile.getContentType()
-		);
-		return fileRepository.save(updateFile);
+		return fileRepository.save(store(newFile));
 	}
 
 	@Override
@@ -101,8 +84,38 @@ public class FileServiceImpl implements FileService {
 		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
 			@Override
 			public void afterCommit() {
-				fileStorage.delete(fileId); // 이제 이건 디스크 삭제만 담당하니까 안전
+				fileStorage.delete(findEntity); // 행은 이미 지워졌으므로 조회해 둔 메타데이터로 삭제
 			}
 		});
 	}
+
+	/**
+	 * 업로드 파일을 핸들러로 가공하면서 저장소에 바로 흘려보낸다.
+	 * 컨테이너가 디스크에 둔 업로드 파일을 버퍼 크기만큼씩 읽으므로, 파일 크기와 무관하게 힙 사용량이 일정하다.
+	 */
+	private FileEntity store(MultipartFile file) throws IOException {
+		String fileName = (file.getOriginalFilename() != null) ? file.getOriginalFilename() : "unknown_file";
+		FileHandler fileHandler = fileHandlerFactory.getFileHandler(fileName);
+
+		try (InputStream inputStream = file.getInputStream()) {
+			return fileStorage.saveFile(
+				null,
+				file.getOriginalFilename(),
+				resolveContentType(fileName, file.getContentType()),
+				outputStream -> fileHandler.transfer(inputStream, outputStream)
+			);
+		}
+	}
+
+	/**
+	 * 업로드 요청에 타입이 없으면 실제 확장자로 정한다. 저장된 타입은 다운로드 응답에 그대로 쓰인다.
+	 */
+	private String resolveContentType(String fileName, String contentType) {
+		if (contentType != null && !contentType.isBlank()) {
+			return contentType;
+		}
+		return FileExtension.from(fileHandlerFactory.getFileExtension(fileName))
+			.map(FileExtension::getContentType)
+			.orElse("application/octet-stream");
+	}
 }
@@ -0,0 +1,37 @@
+package com.project.hrbank.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.project.hrbank.config.file.StorageProperties;
+import com.project.hrbank.util.storage.ObjectStoreFileStorage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 로컬에 기록된 오래된 백업 파일을 주기적으로 객체 저장소로 옮긴다. (tiered 방식)
+ * object-store 방식은 백업 파일을 처음부터 객체 저장소에 쓰므로 옮길 파일이 없다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "hrBank.storage", name = "type", havingValue = "tiered")
+public class FileTieringScheduler {
+
+	private final ObjectStoreFileStorage objectStoreFileStorage;
+	private final StorageProperties storageProperties;
+
+	@Scheduled(cron = "${schedule.tiering-cron:0 20 4 * * *}")
+	public void ageOutBackups() {
+		StorageProperties.Tiered tiered = storageProperties.tiered();
+		int movedCount = objectStoreFileStorage.ageOutBackups(LocalDateTime.now().minus(tiered.ageAfter()),
+			tiered.batchSize());
+		if (movedCount > 0) {
+			log.info("백업 파일 {}건을 객체 저장소로 옮겼습니다.", movedCount);
+		}
+	}
+}
@@ -0,0 +1,302 @@
+package com.project.hrbank.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.ImageVariant;
+import com.project.hrbank.repository.FileRepository;
+import com.project.hrbank.util.storage.FileStorage;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로필 이미지 축소본. 처음 요청될 때 JDK ImageIO 로 만들고 디스크에 캐시한다.
+ * 저장된 파일은 수정되지 않으므로 (수정 시 새 파일로 저장) 한 번 만든 축소본은 다시 만들지 않는다.
+ * 원본이 모두 지워진 축소본은 {@link #sweepOrphans} 가 지운다.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+	public static final String VARIANT_CONTENT_TYPE = "image/jpeg";
+
+	private static final Set<String> SUPPORTED_CONTENT_TYPES = Set.of("image/jpeg", "image/jpg", "image/png");
+	private static final float JPEG_QUALITY = 0.8f;
+
+	/**
+	 * 압축 해제 시 메모리를 과하게 쓰는 이미지를 막기 위한 원본 픽셀 수 상한
+	 */
+	private static final long MAX_SOURCE_PIXELS = 50_000_000L;
+
+	private static final String VARIANT_SUFFIX = ".jpg";
+	private static final String FILE_ID_KEY_PREFIX = "file-";
+	private static final int SWEEP_BATCH_SIZE = 1000;
+
+	/**
+	 * 만들다 중단된 임시 파일을 지우기까지 기다리는 시간 (만드는 중인 임시 파일은 건드리지 않는다)
+	 */
+	private static final Duration TEMP_FILE_GRACE_PERIOD = Duration.ofHours(1);
+
+	private final FileStorage fileStorage;
+	private final FileRepository fileRepository;
+	private final Path variantDirectory;
+
+	public ImageVariantService(
+		FileStorage fileStorage,
+		FileRepository fileRepository,
+		@Value("${hrBank.repository.file-directory:data}") String fileDirectory
+	) {
+		this.fileStorage = fileStorage;
+		this.fileRepository = fileRepository;
+		this.variantDirectory = Paths.get(System.getProperty("user.dir")).resolve(fileDirectory).resolve("variants");
+		try {
+			Files.createDirectories(variantDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * @param fileEntity 원본 이미지 메타데이터
+	 * @param variant 축소본 크기
+	 * @return 캐시된 축소본 (JPEG)
+	 * @throws IllegalArgumentException 이미지가 아니거나 읽을 수 없는 이미지인 경우
+	 */
+	public Resource getVariant(FileEntity fileEntity, ImageVariant variant) {
+		if (!SUPPORTED_CONTENT_TYPES.contains(fileEntity.getContentType())) {
+			throw new IllegalArgumentException("이미지 파일이 아닙니다: " + fileEntity.getId());
+		}
+
+		Path variantPath = variantDirectory.resolve(variant.getDescription())
+			.resolve(cacheKey(fileEntity) + VARIANT_SUFFIX);
+		if (Files.notExists(variantPath)) {
+			createVariant(fileEntity, variant, variantPath);
+		}
+		return new FileSystemResource(variantPath);
+	}
+
+	/**
+	 * 같은 내용의 원본은 축소본도 하나만 만든다. 체크섬이 없는 예전 파일은 파일 ID 로 구분한다.
+	 */
+	private static String cacheKey(FileEntity fileEntity) {
+		return fileEntity.getChecksum() != null ? fileEntity.getChecksum() : FILE_ID_KEY_PREFIX + fileEntity.getId();
+	}
+
+	/**
+	 * 원본이 남아 있지 않은 축소본을 지운다. 축소본은 같은 내용의 원본끼리 공유하므로 원본 하나를 지울 때 바로 지우지 않고,
+	 * 같은 체크섬(체크섬이 없으면 같은 파일 ID)의 files 행이 하나도 없을 때 지운다.
+	 * 지운 직후 같은 내용이 다시 올라와도 다음 요청에서 다시 만든다.
+	 * @return 지운 축소본 수
+	 */
+	public int sweepOrphans() {
+		int deletedCount = 0;
+		Instant tempFileCutoff = Instant.now().minus(TEMP_FILE_GRACE_PERIOD);
+		List<Path> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+		try (Stream<Path> paths = Files.find(variantDirectory, 2, (path, attributes) -> attributes.isRegularFile())) {
+			Iterator<Path> iterator = paths.iterator();
+			while (iterator.hasNext()) {
+				Path path = iterator.next();
+				if (!path.getFileName().toString().endsWith(VARIANT_SUFFIX)) {
+					deleteIfOlderThan(path, tempFileCutoff);
+					continue;
+				}
+				batch.add(path);
+				if (batch.size() == SWEEP_BATCH_SIZE) {
+					deletedCount += deleteOrphans(batch);
+					batch.clear();
+				}
+			}
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("이미지 축소본 정리 실패", e);
+		}
+		return deletedCount + deleteOrphans(batch);
+	}
+
+	private int deleteOrphans(List<Path> variantPaths) {
+		if (variantPaths.isEmpty()) {
+			return 0;
+		}
+
+		Set<String> checksums = new HashSet<>();
+		Set<Long> fileIds = new HashSet<>();
+		for (Path variantPath : variantPaths) {
+			String key = toCacheKey(variantPath);
+			if (!key.startsWith(FILE_ID_KEY_PREFIX)) {
+				checksums.add(key);
+				continue;
+			}
+			try {
+				fileIds.add(Long.valueOf(key.substring(FILE_ID_KEY_PREFIX.length())));
+			} catch (NumberFormatException ignored) {
+				// 원본을 가리키지 않는 이름이므로 지운다
+			}
+		}
+
+		Set<String> referencedKeys = new HashSet<>();
+		if (!checksums.isEmpty()) {
+			referencedKeys.addAll(fileRepository.findExistingChecksums(checksums));
+		}
+		if (!fileIds.isEmpty()) {
+			fileRepository.findExistingIds(fileIds).forEach(id -> referencedKeys.add(FILE_ID_KEY_PREFIX + id));
+		}
+
+		int deletedCount = 0;
+		for (Path variantPath : variantPaths) {
+			if (referencedKeys.contains(toCacheKey(variantPath))) {
+				continue;
+			}
+			try {
+				deletedCount += Files.deleteIfExists(variantPath) ? 1 : 0;
+			} catch (IOException e) {
+				log.warn("이미지 축소본 삭제 실패: {}", variantPath, e);
+			}
+		}
+		return deletedCount;
+	}
+
+	private static String toCacheKey(Path variantPath) {
+		String fileName = variantPath.getFileName().toString();
+		return fileName.substring(0, fileName.length() - VARIANT_SUFFIX.length());
+	}
+
+	private static void deleteIfOlderThan(Path path, Instant cutoff) {
+		try {
+			if (Files.getLastModifiedTime(path).toInstant().isBefore(cutoff)) {
+				Files.deleteIfExists(path);
+			}
+		} catch (IOException e) {
+			log.warn("임시 파일 삭제 실패: {}", path, e);
+		}
+	}
+
+	private void createVariant(FileEntity fileEntity, ImageVariant variant, Path variantPath) {
+		Path tempFilePath = null;
+		try (InputStream inputStream = fileStorage.load(fileEntity).getInputStream()) {
+			BufferedImage source = readImage(inputStream, variant.getMaxDimension());
+			BufferedImage resized = resize(source, variant.getMaxDimension());
+
+			Files.createDirectories(variantPath.getParent());
+			tempFilePath = Files.createTempFile(variantPath.getParent(), "variant-", ".tmp");
+			try (OutputStream outputStream = Files.newOutputStream(tempFilePath)) {
+				writeJpeg(resized, outputStream);
+			}
+			// 동시에 같은 축소본을 만들었다면 내용이 같으므로 나중에 끝난 쪽으로 덮어써도 된다
+			Files.move(tempFilePath, variantPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			deleteQuietly(tempFilePath);
+			throw new RuntimeException("이미지 축소본 생성 실패: " + fileEntity.getId(), e);
+		} catch (RuntimeException e) {
+			deleteQuietly(tempFilePath);
+			throw e;
+		}
+	}
+
+	/**
+	 * 원본 전체를 디코딩하지 않고, 만들 크기의 두 배 이상이 남는 만큼만 건너뛰며 읽는다.
+	 */
+	private static BufferedImage readImage(InputStream inputStream, int maxDimension) throws IOException {
+		try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+			Iterator<ImageReader> readers = imageInputStream != null
+				? ImageIO.getImageReaders(imageInputStream)
+				: Collections.emptyIterator();
+			if (!readers.hasNext()) {
+				throw new IllegalArgumentException("읽을 수 없는 이미지입니다.");
+			}
+
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(imageInputStream, true, true);
+				int width = reader.getWidth(0);
+				int height = reader.getHeight(0);
+				if ((long)width * height > MAX_SOURCE_PIXELS) {
+					throw new IllegalArgumentException("이미지가 너무 큽니다: " + width + "x" + height);
+				}
+
+				ImageReadParam readParam = reader.getDefaultReadParam();
+				int subsampling = Math.max(1, Math.max(width, height) / (maxDimension * 2));
+				readParam.setSourceSubsampling(subsampling, subsampling, 0, 0);
+				return reader.read(0, readParam);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * 긴 변을 maxDimension 에 맞춘다 (확대하지 않음). 투명 영역은 흰색으로 채운다.
+	 */
+	private static BufferedImage resize(BufferedImage source, int maxDimension) {
+		double scale = Math.min(1.0, (double)maxDimension / Math.max(source.getWidth(), source.getHeight()));
+		int width = Math.max(1, (int)Math.round(source.getWidth() * scale));
+		int height = Math.max(1, (int)Math.round(source.getHeight() * scale));
+
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+		} finally {
+			graphics.dispose();
+		}
+		return resized;
+	}
+
+	private static void writeJpeg(BufferedImage image, OutputStream outputStream) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+			ImageWriteParam writeParam = writer.getDefaultWriteParam();
+			writeParam.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			writeParam.setCompressionQuality(JPEG_QUALITY);
+			writer.setOutput(imageOutputStream);
+			writer.write(null, new IIOImage(image, null, null), writeParam);
+		} finally {
+			writer.dispose();
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("임시 파일 삭제 실패: {}", path, e);
+		}
+	}
+}
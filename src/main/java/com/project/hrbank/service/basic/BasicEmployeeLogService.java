@@ -1,8 +1,10 @@
 package com.project.hrbank.service.basic;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.project.hrbank.dto.request.EmployeeLogRequest;
@@ -11,8 +13,14 @@ import com.project.hrbank.dto.response.EmployeeLogResponse;
 import com.project.hrbank.entity.EmployeeLogs;
 import com.project.hrbank.mapper.EmployeeLogMapper;
 import com.project.hrbank.repository.EmployeeLogRepository;
-import com.project.hrbank.service.CursorPaginationService;
 import com.project.hrbank.service.EmployeeLogService;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.CountProvider;
+import com.project.hrbank.util.paging.KeysetFilter;
+import com.project.hrbank.util.paging.KeysetPage;
+import com.project.hrbank.util.paging.KeysetPaginator;
+import com.project.hrbank.util.paging.KeysetSpec;
+import com.project.hrbank.util.paging.TotalCount;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -20,22 +28,38 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class BasicEmployeeLogService implements EmployeeLogService {
+	private static final Sort.Order DEFAULT_ORDER = Sort.Order.desc("changedAt");
+
+	private static final KeysetSpec<EmployeeLogs> LOG_KEYSET = KeysetSpec.builder(
+			EmployeeLogs.class, "employee_change_logs", "l", "log_id", EmployeeLogs::getLog_id)
+		.sortField("changedAt", "changed_at", LocalDateTime::parse, EmployeeLogs::getChangedAt)
+		.sortField("type", "type", value -> value, EmployeeLogs::getType)
+		.sortField("ipAddress", "ip", value -> value, EmployeeLogs::getIpAddress)
+		.build();
+
 	private final EmployeeLogRepository repository;
-	private final CursorPaginationService paginationService;
+	private final KeysetPaginator keysetPaginator;
+	private final CountProvider countProvider;
 
 	@Override
 	@Transactional
-	public CursorPageResponse<EmployeeLogResponse> getLogs(LocalDateTime cursor, String employeeNumber, String memo,
-		String ipAddress, String type, LocalDateTime atFrom, LocalDateTime atTo, Pageable pageable) {
-		return paginationService.getPaginatedResults(
-			cursor,
-			pageable,
-			repository,
-			EmployeeLogMapper.INSTANT::toDto,
-			EmployeeLogs::getChangedAt,
-			EmployeeLogs::getLog_id,
-			(cur, page) -> repository.findAll(cur, employeeNumber, memo, ipAddress, type, atFrom, atTo, page)
-		);
+	public CursorPageResponse<EmployeeLogResponse> getLogs(String cursor, String employeeNumber, String memo,
+		String ipAddress, String type, LocalDateTime atFrom, LocalDateTime atTo, Pageable pageable,
+		CountMode countMode) {
+		// 사원 번호와 유형은 정확히 일치하는 값으로 찾고, 메모와 IP 는 trigram GIN 인덱스를 타는 ILIKE 로 찾는다
+		KeysetFilter filter = new KeysetFilter()
+			.and("l.employee_number = :employeeNumber", "employeeNumber", trimToNull(employeeNumber))
+			.and("l.type = :type", "type", trimToNull(type))
+			.and("l.memo ILIKE :memo", "memo", KeysetFilter.containing(memo))
+			.and("l.ip ILIKE :ipAddress", "ipAddress", KeysetFilter.containing(ipAddress))
+			.and("l.changed_at >= :atFrom", "atFrom", atFrom)
+			.and("l.changed_at <= :atTo", "atTo", atTo);
+
+		KeysetPage<EmployeeLogs> page = keysetPaginator.fetch(LOG_KEYSET, filter, cursor, pageable, DEFAULT_ORDER);
+		TotalCount totalCount = countProvider.count(LOG_KEYSET, filter, countMode);
+
+		List<EmployeeLogResponse> content = page.content().stream().map(EmployeeLogMapper.INSTANT::toDto).toList();
+		return page.toResponse(content, totalCount);
 	}
 
 	@Override
@@ -49,8 +73,8 @@ public class BasicEmployeeLogService implements EmployeeLogService {
 	}
 
 	@Override
-	public long getLogCount() {
-		return repository.count();
+	public long getLogCount(CountMode countMode) {
+		return countProvider.count(LOG_KEYSET, new KeysetFilter(), countMode).count();
 	}
 
 	@Override
@@ -59,4 +83,8 @@ public class BasicEmployeeLogService implements EmployeeLogService {
 
 		return EmployeeLogMapper.INSTANT.toDto(repository.save(log));
 	}
+
+	private String trimToNull(String value) {
+		return value == null || value.isBlank() ? null : value.trim();
+	}
 }
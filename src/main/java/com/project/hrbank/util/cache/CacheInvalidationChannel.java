@@ -0,0 +1,23 @@
+package com.project.hrbank.util.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지 전달 채널.
+ * 한 인스턴스에서 발행한 무효화는 발행한 인스턴스를 포함한 모든 구독자에게 전달되어야 한다.
+ * 키는 인스턴스 사이에 문자열로 전달되므로, 구독자가 원래 타입으로 되돌린다.
+ */
+public interface CacheInvalidationChannel {
+
+	/**
+	 * @param cacheName 캐시 이름
+	 * @param key 무효화할 키
+	 */
+	void publish(String cacheName, String key);
+
+	/**
+	 * @param cacheName 캐시 이름
+	 * @param listener 무효화된 키를 받아 처리
+	 */
+	void subscribe(String cacheName, Consumer<String> listener);
+}
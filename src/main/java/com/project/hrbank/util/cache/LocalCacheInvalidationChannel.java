@@ -0,0 +1,26 @@
+package com.project.hrbank.util.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안의 구독자에게만 바로 전달하는 채널. 단일 인스턴스 운영과 테스트용.
+ * 여러 인스턴스로 운영하면 다른 인스턴스의 캐시는 TTL 이 지나야 바뀐다. (PostgresCacheInvalidationChannel 참고)
+ */
+public class LocalCacheInvalidationChannel implements CacheInvalidationChannel {
+
+	private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+	@Override
+	public void publish(String cacheName, String key) {
+		listeners.getOrDefault(cacheName, List.of()).forEach(listener -> listener.accept(key));
+	}
+
+	@Override
+	public void subscribe(String cacheName, Consumer<String> listener) {
+		listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+}
@@ -0,0 +1,154 @@
+package com.project.hrbank.util.cache;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PostgreSQL LISTEN/NOTIFY 로 모든 인스턴스에 전달하는 채널. 발행한 인스턴스도 자기 알림을 받는다.
+ * 발행은 호출한 쪽 트랜잭션과 무관하게 바로 전달되도록 별도 연결에서 pg_notify 를 실행한다. (NOTIFY 는 커밋 시 전달된다)
+ * 구독은 백그라운드 스레드가 LISTEN 연결 하나를 계속 붙잡고 알림을 기다린다.
+ * 연결이 끊긴 동안의 알림은 받지 못하므로 (다시 연결해 LISTEN 한다) 그 사이의 무효화는 캐시 TTL 이 지나야 반영된다.
+ */
+@Slf4j
+public class PostgresCacheInvalidationChannel implements CacheInvalidationChannel, AutoCloseable {
+
+	private static final String CHANNEL = "hrbank_cache_invalidation";
+	private static final String NOTIFY = "SELECT pg_notify(?, ?)";
+	private static final char SEPARATOR = ':';
+	private static final int POLL_TIMEOUT_MILLIS = 1000;
+	private static final long RECONNECT_DELAY_MILLIS = 5000;
+
+	private final DataSource dataSource;
+	private final Map<String, List<Consumer<String>>> listeners = new ConcurrentHashMap<>();
+
+	private volatile boolean running;
+	private Thread listenerThread;
+
+	public PostgresCacheInvalidationChannel(DataSource dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	/**
+	 * LISTEN 스레드 시작
+	 */
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		listenerThread = new Thread(this::listen, "cache-invalidation-listener");
+		listenerThread.setDaemon(true);
+		listenerThread.start();
+	}
+
+	@Override
+	public void publish(String cacheName, String key) {
+		try (
+			Connection connection = dataSource.getConnection();
+			PreparedStatement statement = connection.prepareStatement(NOTIFY)
+		) {
+			statement.setString(1, CHANNEL);
+			statement.setString(2, cacheName + SEPARATOR + key);
+			statement.execute();
+			if (!connection.getAutoCommit()) {
+				connection.commit();
+			}
+		} catch (SQLException e) {
+			// 다른 인스턴스는 TTL 이 지나야 반영되지만, 이 인스턴스는 바로 무효화한다
+			log.warn("캐시 무효화 발행 실패: {} {}", cacheName, key, e);
+			dispatch(cacheName, key);
+		}
+	}
+
+	@Override
+	public void subscribe(String cacheName, Consumer<String> listener) {
+		listeners.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(listener);
+	}
+
+	@Override
+	public void close() {
+		Thread thread;
+		synchronized (this) {
+			running = false;
+			thread = listenerThread;
+		}
+		if (thread == null) {
+			return;
+		}
+		thread.interrupt();
+		try {
+			thread.join(POLL_TIMEOUT_MILLIS * 2L);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void listen() {
+		while (running) {
+			try (Connection connection = dataSource.getConnection()) {
+				connection.setAutoCommit(true);
+				try (Statement statement = connection.createStatement()) {
+					statement.execute("LISTEN " + CHANNEL);
+				}
+				PGConnection pgConnection = connection.unwrap(PGConnection.class);
+				while (running) {
+					PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+					if (notifications == null) {
+						continue;
+					}
+					for (PGNotification notification : notifications) {
+						dispatch(notification.getParameter());
+					}
+				}
+			} catch (SQLException e) {
+				if (!running) {
+					return;
+				}
+				log.warn("캐시 무효화 LISTEN 연결 실패, {}ms 후 다시 연결합니다.", RECONNECT_DELAY_MILLIS, e);
+				sleepBeforeReconnect();
+			}
+		}
+	}
+
+	private void sleepBeforeReconnect() {
+		try {
+			Thread.sleep(RECONNECT_DELAY_MILLIS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+
+	private void dispatch(String payload) {
+		int separatorIndex = payload.indexOf(SEPARATOR);
+		if (separatorIndex < 0) {
+			log.warn("잘못된 캐시 무효화 메시지: {}", payload);
+			return;
+		}
+		dispatch(payload.substring(0, separatorIndex), payload.substring(separatorIndex + 1));
+	}
+
+	private void dispatch(String cacheName, String key) {
+		for (Consumer<String> listener : listeners.getOrDefault(cacheName, List.of())) {
+			try {
+				listener.accept(key);
+			} catch (RuntimeException e) {
+				log.warn("캐시 무효화 처리 실패: {} {}", cacheName, key, e);
+			}
+		}
+	}
+}
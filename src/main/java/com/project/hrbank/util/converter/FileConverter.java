@@ -2,32 +2,29 @@ package com.project.hrbank.util.converter;
 
 import java.io.BufferedReader;
 import java.io.BufferedWriter;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 
-import org.springframework.web.multipart.MultipartFile;
-
 public class FileConverter {
-	public static byte[] processMultipartFile(MultipartFile file) throws IOException {
-		return processFileData(file.getBytes());
-	}
 
-	public static byte[] processFileData(byte[] fileData) throws IOException {
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(fileData), StandardCharsets.UTF_8));
-			 ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-			 BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))) {
-			String line;
-			while ((line = reader.readLine()) != null) {
-				writer.write(line);
-				writer.newLine();
-			}
-			writer.flush();
-			return outputStream.toByteArray();
+	/**
+	 * UTF-8 텍스트를 한 줄씩 읽어 줄바꿈을 맞춰 쓴다. 한 번에 한 줄만 메모리에 둔다.
+	 * @param inputStream 원본 (닫지 않는다)
+	 * @param outputStream 결과 (flush 만 하고 닫지 않는다)
+	 */
+	public static void normalizeLines(InputStream inputStream, OutputStream outputStream) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		String line;
+		while ((line = reader.readLine()) != null) {
+			writer.write(line);
+			writer.newLine();
 		}
+		writer.flush();
 	}
 
 }
@@ -0,0 +1,21 @@
+package com.project.hrbank.util.diff;
+
+import com.project.hrbank.entity.Employee;
+
+/**
+ * 엔티티별 변경 이력 대상 속성 목록. 기록 순서는 선언 순서를 따른다.
+ */
+public final class ChangeLogFields {
+
+	public static final FieldDiffEngine<Employee> EMPLOYEE = new FieldDiffEngine<>(
+		FieldAccessor.of("hireDate", Employee::getHireDate, Employee::setHireDate),
+		FieldAccessor.of("name", Employee::getName, Employee::setName),
+		FieldAccessor.of("position", Employee::getPosition, Employee::setPosition),
+		FieldAccessor.of("department", Employee::getDepartmentId, Employee::setDepartmentId),
+		FieldAccessor.of("email", Employee::getEmail, Employee::setEmail),
+		FieldAccessor.of("status", Employee::getStatus, Employee::setStatus)
+	);
+
+	private ChangeLogFields() {
+	}
+}
@@ -0,0 +1,117 @@
+package com.project.hrbank.util.diff;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 변경 이력 JSON ([{"propertyName":..,"before":..,"after":..}, ...]) 을 스레드별로 재사용하는 버퍼에 기록한다.
+ * 값은 기존 형식과 같이 문자열(또는 null)로 기록한다.
+ * acquire() 로 얻은 뒤 같은 스레드에서 toJson() 까지 마쳐야 하며, 중첩해서 사용할 수 없다.
+ * toJson() 은 여러 번 호출해도 같은 문자열을 돌려주며, 그 뒤에는 변경을 더 기록할 수 없다.
+ */
+public final class ChangeLogJsonWriter {
+
+	private static final int INITIAL_CAPACITY = 512;
+	private static final int MAX_POOLED_CAPACITY = 16 * 1024;
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	private static final ThreadLocal<ChangeLogJsonWriter> POOL = ThreadLocal.withInitial(ChangeLogJsonWriter::new);
+
+	private final StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+	private int changeCount;
+	private String json;
+
+	private ChangeLogJsonWriter() {
+	}
+
+	/**
+	 * @return 현재 스레드의 비어 있는 기록기
+	 */
+	public static ChangeLogJsonWriter acquire() {
+		ChangeLogJsonWriter writer = POOL.get();
+		writer.reset();
+		return writer;
+	}
+
+	public void writeChange(String propertyName, Object before, Object after) {
+		if (json != null) {
+			throw new IllegalStateException("toJson() 을 호출한 뒤에는 변경을 기록할 수 없습니다.");
+		}
+		if (changeCount > 0) {
+			buffer.append(',');
+		}
+		buffer.append("{\"propertyName\":");
+		appendValue(propertyName);
+		buffer.append(",\"before\":");
+		appendValue(before);
+		buffer.append(",\"after\":");
+		appendValue(after);
+		buffer.append('}');
+		changeCount++;
+	}
+
+	public int getChangeCount() {
+		return changeCount;
+	}
+
+	public String toJson() {
+		if (json == null) {
+			json = buffer.append(']').toString();
+		}
+		return json;
+	}
+
+	private void reset() {
+		buffer.setLength(0);
+		if (buffer.capacity() > MAX_POOLED_CAPACITY) {
+			buffer.trimToSize();
+			buffer.ensureCapacity(INITIAL_CAPACITY);
+		}
+		buffer.append('[');
+		changeCount = 0;
+		json = null;
+	}
+
+	private void appendValue(Object value) {
+		if (value == null) {
+			buffer.append("null");
+			return;
+		}
+		buffer.append('"');
+		if (value instanceof Long number) {
+			buffer.append(number.longValue());
+		} else if (value instanceof Integer number) {
+			buffer.append(number.intValue());
+		} else if (value instanceof LocalDate date) {
+			DateTimeFormatter.ISO_LOCAL_DATE.formatTo(date, buffer);
+		} else if (value instanceof Enum<?> constant) {
+			appendEscaped(constant.name());
+		} else if (value instanceof CharSequence text) {
+			appendEscaped(text);
+		} else {
+			appendEscaped(value.toString());
+		}
+		buffer.append('"');
+	}
+
+	private void appendEscaped(CharSequence text) {
+		for (int index = 0; index < text.length(); index++) {
+			char character = text.charAt(index);
+			switch (character) {
+				case '"' -> buffer.append("\\\"");
+				case '\\' -> buffer.append("\\\\");
+				case '\n' -> buffer.append("\\n");
+				case '\r' -> buffer.append("\\r");
+				case '\t' -> buffer.append("\\t");
+				default -> {
+					if (character < 0x20) {
+						buffer.append("\\u00")
+							.append(HEX_DIGITS[character >> 4])
+							.append(HEX_DIGITS[character & 0xF]);
+					} else {
+						buffer.append(character);
+					}
+				}
+			}
+		}
+	}
+}
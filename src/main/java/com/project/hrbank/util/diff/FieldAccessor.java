@@ -0,0 +1,41 @@
+package com.project.hrbank.util.diff;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 변경 이력에 기록할 속성 하나의 이름과 읽기/쓰기 함수
+ * @param <T> 대상 엔티티
+ * @param <V> 속성 값 타입
+ */
+public final class FieldAccessor<T, V> {
+
+	private final String propertyName;
+	private final Function<T, V> getter;
+	private final BiConsumer<T, V> setter;
+
+	private FieldAccessor(String propertyName, Function<T, V> getter, BiConsumer<T, V> setter) {
+		this.propertyName = propertyName;
+		this.getter = getter;
+		this.setter = setter;
+	}
+
+	public static <T, V> FieldAccessor<T, V> of(String propertyName, Function<T, V> getter, BiConsumer<T, V> setter) {
+		return new FieldAccessor<>(propertyName, getter, setter);
+	}
+
+	public String getPropertyName() {
+		return propertyName;
+	}
+
+	public V get(T target) {
+		return getter.apply(target);
+	}
+
+	/**
+	 * source 의 값을 target 에 반영
+	 */
+	public void copy(T source, T target) {
+		setter.accept(target, getter.apply(source));
+	}
+}
@@ -0,0 +1,57 @@
+package com.project.hrbank.util.diff;
+
+import java.util.Objects;
+
+/**
+ * 미리 만들어 둔 속성 접근자 목록으로 두 엔티티를 비교해 변경 이력 JSON 을 바로 기록한다.
+ * 속성마다 Map 이나 문자열을 만들지 않으므로 대량 변경 시에도 임시 객체가 거의 생기지 않는다.
+ * @param <T> 대상 엔티티
+ */
+public final class FieldDiffEngine<T> {
+
+	private final FieldAccessor<T, ?>[] accessors;
+
+	@SafeVarargs
+	public FieldDiffEngine(FieldAccessor<T, ?>... accessors) {
+		this.accessors = accessors.clone();
+	}
+
+	/**
+	 * requested 와 값이 다른 속성만 기록하고 target 에 반영
+	 * @param target 변경할 엔티티
+	 * @param requested 요청된 값을 담은 엔티티
+	 * @param changedValues 기록 대상
+	 * @return 변경된 속성 수
+	 */
+	public int apply(T target, T requested, ChangeLogJsonWriter changedValues) {
+		int changedCount = 0;
+		for (FieldAccessor<T, ?> accessor : accessors) {
+			Object before = accessor.get(target);
+			Object after = accessor.get(requested);
+			if (!Objects.equals(before, after)) {
+				changedValues.writeChange(accessor.getPropertyName(), before, after);
+				accessor.copy(requested, target);
+				changedCount++;
+			}
+		}
+		return changedCount;
+	}
+
+	/**
+	 * 생성된 엔티티의 모든 속성을 (null → 값) 으로 기록
+	 */
+	public void writeCreated(T created, ChangeLogJsonWriter changedValues) {
+		for (FieldAccessor<T, ?> accessor : accessors) {
+			changedValues.writeChange(accessor.getPropertyName(), null, accessor.get(created));
+		}
+	}
+
+	/**
+	 * 삭제된 엔티티의 모든 속성을 (값 → null) 로 기록
+	 */
+	public void writeDeleted(T deleted, ChangeLogJsonWriter changedValues) {
+		for (FieldAccessor<T, ?> accessor : accessors) {
+			changedValues.writeChange(accessor.getPropertyName(), accessor.get(deleted), null);
+		}
+	}
+}
@@ -0,0 +1,11 @@
+package com.project.hrbank.util.exception;
+
+/**
+ * 다른 백업이 진행 중이라 새 백업을 시작할 수 없는 경우 (409 Conflict)
+ */
+public class BackupInProgressException extends IllegalStateException {
+
+	public BackupInProgressException() {
+		super("이미 진행 중인 백업이 있습니다.");
+	}
+}
@@ -28,6 +28,14 @@ public class GlobalExceptionHandlerAdvice {
 		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
 	}
 
+	@ExceptionHandler(BackupInProgressException.class)
+	protected ResponseEntity<ErrorResponse> handleBackupInProgressException(BackupInProgressException exception) {
+		int status = HttpStatus.CONFLICT.value();
+		ErrorResponse errorResponse = ErrorResponse.of(status, "요청을 처리할 수 없는 상태입니다.", exception.getMessage());
+
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+	}
+
 	@ExceptionHandler(RuntimeException.class)
 	protected ResponseEntity<ErrorResponse> handleRuntimeException(RuntimeException exception) {
 		int status = HttpStatus.INTERNAL_SERVER_ERROR.value();
@@ -1,10 +1,10 @@
 package com.project.hrbank.util.handler;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Path;
 
-import org.springframework.web.multipart.MultipartFile;
-
 import com.project.hrbank.entity.FileEntity;
 
 public interface FileHandler {
@@ -17,20 +17,12 @@ public interface FileHandler {
 	boolean supports(String extension);
 
 	/**
-	 * 파일 처리 후 가공된 파일 데이터 반환
-	 * @param file  업로드 할 파일
-	 * @return 처리된 파일의 바이트 배열
-	 * @throws IOException 파일 처리 중 오류 발생
-	 */
-	byte[] processMultipartFile(MultipartFile file) throws IOException;
-
-	/**
-	 *
-	 * @param fileData 업로드 할 파일 데이터
-	 * @return 처리된 파일의 바이트 배열
+	 * 업로드 내용을 가공하면서 그대로 흘려보낸다. 파일 전체를 메모리에 올리지 않는다.
+	 * @param inputStream 업로드 된 파일 내용 (닫지 않는다)
+	 * @param outputStream 저장소의 출력 스트림 (닫지 않는다)
 	 * @throws IOException 파일 처리 중 오류 발생
 	 */
-	byte[] processFileData(String fileName, byte[] fileData) throws IOException;
+	void transfer(InputStream inputStream, OutputStream outputStream) throws IOException;
 
 	/**
 	 * @param filePath 파일 경로
@@ -1,18 +1,16 @@
 package com.project.hrbank.util.handler.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import org.springframework.web.multipart.MultipartFile;
 
 import com.project.hrbank.util.converter.FileConverter;
 import com.project.hrbank.entity.FileEntity;
 import com.project.hrbank.util.handler.FileHandler;
 
 public class CsvFileHandler implements FileHandler {
-	private static final String CSV_STORAGE_PATH = "files/csv/";
 
 	@Override
 	public boolean supports(String extension) {
@@ -20,19 +18,8 @@ public class CsvFileHandler implements FileHandler {
 	}
 
 	@Override
-	public byte[] processMultipartFile(MultipartFile file) throws IOException {
-		Path filePath = Paths.get(CSV_STORAGE_PATH + file.getOriginalFilename());
-		Files.createDirectories(filePath.getParent());
-
-		return FileConverter.processMultipartFile(file);
-	}
-
-	@Override
-	public byte[] processFileData(String fileName, byte[] fileData) throws IOException {
-		Path filePath = Paths.get(CSV_STORAGE_PATH + fileName);
-		Files.createDirectories(filePath.getParent());
-
-		return FileConverter.processFileData(fileData);
+	public void transfer(InputStream inputStream, OutputStream outputStream) throws IOException {
+		FileConverter.normalizeLines(inputStream, outputStream);
 	}
 
 	@Override
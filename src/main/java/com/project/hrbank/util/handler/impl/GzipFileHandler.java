@@ -0,0 +1,36 @@
+package com.project.hrbank.util.handler.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.FileExtension;
+import com.project.hrbank.util.handler.FileHandler;
+
+/**
+ * 압축된 백업 파일(.csv.gz). 바이너리이므로 내용을 변환하지 않고 그대로 저장한다.
+ */
+public class GzipFileHandler implements FileHandler {
+
+	@Override
+	public boolean supports(String extension) {
+		return extension.equalsIgnoreCase(FileExtension.GZIP.getDescription());
+	}
+
+	@Override
+	public void transfer(InputStream inputStream, OutputStream outputStream) throws IOException {
+		inputStream.transferTo(outputStream);
+	}
+
+	@Override
+	public FileEntity handleDownload(Path filePath, String fileName) throws IOException {
+		if (!Files.exists(filePath) || !Files.isReadable(filePath)) {
+			throw new IOException("파일을 읽을 수 없습니다 : " + fileName);
+		}
+
+		return new FileEntity(null, fileName, FileExtension.GZIP.getContentType(), Files.size(filePath), filePath.toString());
+	}
+}
@@ -1,37 +1,30 @@
 package com.project.hrbank.util.handler.impl;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-
-import org.springframework.web.multipart.MultipartFile;
+import java.util.EnumSet;
+import java.util.Set;
 
 import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.FileExtension;
 import com.project.hrbank.util.handler.FileHandler;
 
 public class ImageFileHandler implements FileHandler {
 
-	private static final String IMAGE_STORAGE_PATH = "files/images";
+	private static final Set<FileExtension> IMAGE_EXTENSIONS = EnumSet.of(FileExtension.JPG, FileExtension.JPEG,
+		FileExtension.PNG);
 
 	@Override
 	public boolean supports(String extension) {
-		return extension.equalsIgnoreCase("jpg") || extension.equalsIgnoreCase("jpeg") || extension.equalsIgnoreCase("png");
-	}
-
-	@Override
-	public byte[] processMultipartFile(MultipartFile file) throws IOException {
-		Path filePath = Paths.get(IMAGE_STORAGE_PATH + file.getOriginalFilename());
-		Files.createDirectories(filePath.getParent());
-		return file.getBytes();
+		return FileExtension.from(extension).filter(IMAGE_EXTENSIONS::contains).isPresent();
 	}
 
 	@Override
-	public byte[] processFileData(String fileName, byte[] fileData) throws IOException {
-		Path filePath = Paths.get(IMAGE_STORAGE_PATH + fileName);
-		Files.createDirectories(filePath.getParent());
-		Files.write(filePath, fileData);
-		return fileData;
+	public void transfer(InputStream inputStream, OutputStream outputStream) throws IOException {
+		inputStream.transferTo(outputStream);
 	}
 
 	@Override
@@ -39,6 +32,10 @@ public class ImageFileHandler implements FileHandler {
 		if (!Files.exists(filePath) || !Files.isReadable(filePath)) {
 			throw new IOException("파일을 읽을 수 없습니다 : " + fileName);
 		}
-		return new FileEntity(null, fileName, "image/jpeg", Files.size(filePath), filePath.toString());
+		String contentType = FileExtension.from(fileName.substring(fileName.lastIndexOf('.') + 1))
+			.filter(IMAGE_EXTENSIONS::contains)
+			.orElseThrow(() -> new IOException("지원되지 않는 이미지 형식입니다 : " + fileName))
+			.getContentType();
+		return new FileEntity(null, fileName, contentType, Files.size(filePath), filePath.toString());
 	}
 }
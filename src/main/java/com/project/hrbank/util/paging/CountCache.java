@@ -0,0 +1,52 @@
+package com.project.hrbank.util.paging;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수(totalElements)를 검색 조건별로 잠시 보관한다.
+ * 무한 스크롤은 같은 조건으로 여러 페이지를 연속해서 요청하므로, 페이지마다 COUNT 를 다시 실행하지 않는다.
+ */
+public class CountCache {
+
+	private static final int MAX_SIZE = 1000;
+
+	private final long ttlNanos;
+	private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+	public CountCache(Duration ttl) {
+		this.ttlNanos = ttl.toNanos();
+	}
+
+	/**
+	 * @param key 검색 조건
+	 * @param counter 보관된 값이 없거나 만료되었을 때 실행할 COUNT
+	 * @return 전체 개수
+	 */
+	public long get(String key, LongSupplier counter) {
+		long now = System.nanoTime();
+		CachedCount cached = counts.get(key);
+		if (cached != null && now - cached.expiresAtNanos() < 0) {
+			return cached.count();
+		}
+
+		long count = counter.getAsLong();
+		if (counts.size() >= MAX_SIZE) {
+			counts.clear();
+		}
+		counts.put(key, new CachedCount(count, now + ttlNanos));
+		return count;
+	}
+
+	/**
+	 * 행이 추가·삭제되어 보관된 개수가 더 이상 맞지 않을 때 호출
+	 */
+	public void clear() {
+		counts.clear();
+	}
+
+	private record CachedCount(long count, long expiresAtNanos) {
+	}
+}
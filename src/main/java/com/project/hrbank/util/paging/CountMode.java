@@ -0,0 +1,27 @@
+package com.project.hrbank.util.paging;
+
+/**
+ * 목록 전체 개수(totalElements) 계산 방식. 정확도를 얼마나 포기하고 COUNT 비용을 줄일지 요청마다 고른다.
+ */
+public enum CountMode {
+
+	/**
+	 * 매 요청 COUNT(*)
+	 */
+	EXACT,
+
+	/**
+	 * 검색 조건별 COUNT(*) 결과를 설정한 시간 동안 재사용. 그동안의 변경이 빠질 수 있어 정확하지 않음으로 표시한다
+	 */
+	CACHED,
+
+	/**
+	 * 검색 조건이 없으면 PostgreSQL 통계(pg_class.reltuples)의 추정값, 조건이 있으면 CAPPED 와 같다
+	 */
+	ESTIMATED,
+
+	/**
+	 * 상한까지만 센다. 상한을 넘으면 상한 값을 돌려주고 정확하지 않음으로 표시한다 (예: "10000+")
+	 */
+	CAPPED
+}
@@ -0,0 +1,106 @@
+package com.project.hrbank.util.paging;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.project.hrbank.config.paging.CountProperties;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 전체 개수 계산. 큰 테이블에서는 정확한 COUNT(*) 가 페이지 조회보다 비싸므로 요청한 방식(CountMode)으로 센다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CountProvider {
+
+	private static final String SELECT_RELTUPLES =
+		"SELECT CAST(c.reltuples AS BIGINT) FROM pg_class c WHERE c.oid = CAST(:table AS regclass)";
+
+	private final CountProperties countProperties;
+	private final Map<String, CountCache> countCaches = new ConcurrentHashMap<>();
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * @param spec 목록 정의
+	 * @param filter 검색 조건
+	 * @param mode 계산 방식, null 이면 설정의 기본 방식
+	 */
+	public TotalCount count(KeysetSpec<?> spec, KeysetFilter filter, CountMode mode) {
+		return switch (mode != null ? mode : countProperties.defaultMode()) {
+			case EXACT -> TotalCount.exact(countExact(spec, filter));
+			// 다른 인스턴스의 변경은 TTL 이 지나야 반영되므로 정확한 개수로 표시하지 않는다
+			case CACHED -> TotalCount.approximate(
+				getCountCache(spec).get(filter.getCacheKey(), () -> countExact(spec, filter)));
+			case ESTIMATED -> filter.getConditions().isEmpty() ? estimate(spec) : countCapped(spec, filter);
+			case CAPPED -> countCapped(spec, filter);
+		};
+	}
+
+	/**
+	 * 행이 추가·삭제·수정되어 CACHED 개수가 더 이상 맞지 않을 때 호출.
+	 * 현재 트랜잭션이 커밋된 뒤 비운다 (트랜잭션이 없으면 바로 비운다). 커밋 전에 비우면 그 사이의 조회가
+	 * 커밋 전 개수를 다시 캐시한다. 이 인스턴스의 캐시만 비우며, 다른 인스턴스는 TTL 이 지나면 다시 센다.
+	 */
+	public void invalidateAfterCommit(KeysetSpec<?> spec) {
+		CountCache countCache = getCountCache(spec);
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			countCache.clear();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				countCache.clear();
+			}
+		});
+	}
+
+	private long countExact(KeysetSpec<?> spec, KeysetFilter filter) {
+		Query query = entityManager.createNativeQuery(
+			"SELECT COUNT(*) FROM " + spec.getFrom() + KeysetFilter.where(filter.getConditions()));
+		filter.bind(query);
+		return ((Number)query.getSingleResult()).longValue();
+	}
+
+	/**
+	 * 상한 + 1 개까지만 읽고 멈춘다
+	 */
+	private TotalCount countCapped(KeysetSpec<?> spec, KeysetFilter filter) {
+		long cap = countProperties.cap();
+		Query query = entityManager.createNativeQuery(
+			"SELECT COUNT(*) FROM (SELECT 1 FROM " + spec.getFrom() + KeysetFilter.where(filter.getConditions())
+				+ " LIMIT :cap) capped");
+		filter.bind(query);
+		query.setParameter("cap", cap + 1);
+
+		long count = ((Number)query.getSingleResult()).longValue();
+		return count > cap ? TotalCount.approximate(cap) : TotalCount.exact(count);
+	}
+
+	/**
+	 * 통계가 아직 수집되지 않은 테이블(reltuples < 0)은 CAPPED 로 센다
+	 */
+	private TotalCount estimate(KeysetSpec<?> spec) {
+		Query query = entityManager.createNativeQuery(SELECT_RELTUPLES);
+		query.setParameter("table", spec.getTable());
+		long estimated = ((Number)query.getSingleResult()).longValue();
+		if (estimated < 0) {
+			return countCapped(spec, new KeysetFilter());
+		}
+		return TotalCount.approximate(estimated);
+	}
+
+	private CountCache getCountCache(KeysetSpec<?> spec) {
+		return countCaches.computeIfAbsent(spec.getTable(), table -> new CountCache(countProperties.ttl()));
+	}
+}
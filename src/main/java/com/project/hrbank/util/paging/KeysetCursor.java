@@ -0,0 +1,53 @@
+package com.project.hrbank.util.paging;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 다음 페이지 조회 위치. 정렬 기준, 방향, 마지막 행의 정렬 값과 ID 를 하나의 토큰으로 묶는다.
+ * 클라이언트는 토큰을 해석하지 않고 nextCursor 를 그대로 돌려보내야 한다.
+ * @param sortField 토큰을 만들 때의 정렬 기준
+ * @param direction 토큰을 만들 때의 정렬 방향
+ * @param id 마지막 행의 ID
+ * @param value 마지막 행의 정렬 값 (문자열)
+ */
+public record KeysetCursor(String sortField, Sort.Direction direction, long id, String value) {
+
+	private static final String DELIMITER = ",";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	public String encode() {
+		String raw = String.join(DELIMITER, sortField, direction.name(), Long.toString(id), value);
+		return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @param token nextCursor 로 내려준 토큰
+	 * @throws IllegalArgumentException 토큰 형식이 올바르지 않은 경우
+	 */
+	public static KeysetCursor decode(String token) {
+		try {
+			String raw = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+			// 정렬 값에는 구분자가 포함될 수 있으므로 마지막 항목으로 두고 나머지를 그대로 받는다
+			String[] parts = raw.split(DELIMITER, 4);
+			if (parts.length != 4) {
+				throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + token);
+			}
+			return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), Long.parseLong(parts[2]), parts[3]);
+		} catch (IllegalArgumentException exception) {
+			throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + token, exception);
+		}
+	}
+
+	/**
+	 * @throws IllegalArgumentException 정렬 기준이나 방향이 바뀐 뒤 이전 커서로 요청한 경우
+	 */
+	public void verifySort(Sort.Order order) {
+		if (!sortField.equals(order.getProperty()) || direction != order.getDirection()) {
+			throw new IllegalArgumentException("정렬 조건이 바뀌었습니다. 첫 페이지부터 다시 조회하세요.");
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.project.hrbank.util.paging;
+
+import java.util.function.Function;
+
+/**
+ * keyset 정렬에 사용할 수 있는 컬럼. NOT NULL 컬럼만 등록해야 (값, ID) 비교가 행을 빠뜨리지 않는다.
+ * @param column SQL 컬럼 (화이트리스트로만 SQL 에 들어간다)
+ * @param cursorParser 커서의 문자열 값을 컬럼 타입으로 변환
+ * @param valueExtractor 엔티티에서 정렬 값을 꺼낸다
+ */
+public record KeysetField<T>(String column, Function<String, Object> cursorParser,
+							 Function<T, Object> valueExtractor) {
+
+	Object parseCursor(String value) {
+		try {
+			return cursorParser.apply(value);
+		} catch (RuntimeException exception) {
+			throw new IllegalArgumentException("커서 형식이 올바르지 않습니다: " + value, exception);
+		}
+	}
+
+	String extractCursor(T entity) {
+		return String.valueOf(valueExtractor.apply(entity));
+	}
+}
@@ -0,0 +1,79 @@
+package com.project.hrbank.util.paging;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.persistence.Query;
+
+/**
+ * 목록 검색 조건. 값이 비어 있는 조건은 SQL 에 넣지 않아, 선택 조건마다 {@code :x IS NULL OR ...} 를 붙인 쿼리보다
+ * 실제 사용하는 조건만으로 실행 계획이 만들어진다.
+ */
+public class KeysetFilter {
+
+	private final List<String> conditions = new ArrayList<>();
+	private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+	/**
+	 * @param condition 조건 SQL (파라미터는 :name 으로 참조)
+	 * @param name 파라미터 이름
+	 * @param value 파라미터 값, null 이거나 빈 문자열이면 조건을 추가하지 않는다
+	 */
+	public KeysetFilter and(String condition, String name, Object value) {
+		if (value == null || value instanceof String text && text.isBlank()) {
+			return this;
+		}
+		conditions.add(condition);
+		parameters.put(name, value);
+		return this;
+	}
+
+	/**
+	 * 검색어의 LIKE 특수 문자(%, _, 역슬래시)는 그대로 찾도록 이스케이프한다
+	 * @return 대소문자 구분 없는 부분 일치 패턴, 검색어가 비어 있으면 null
+	 */
+	public static String containing(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return null;
+		}
+		return "%" + escapeLike(keyword.trim().toLowerCase()) + "%";
+	}
+
+	/**
+	 * @return 대소문자 구분 없는 앞부분 일치 패턴, 검색어가 비어 있으면 null
+	 */
+	public static String startingWith(String keyword) {
+		if (keyword == null || keyword.isBlank()) {
+			return null;
+		}
+		return escapeLike(keyword.trim().toLowerCase()) + "%";
+	}
+
+	private static String escapeLike(String keyword) {
+		return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+
+	List<String> getConditions() {
+		return conditions;
+	}
+
+	void bind(Query query) {
+		parameters.forEach(query::setParameter);
+	}
+
+	static String where(List<String> conditions) {
+		if (conditions.isEmpty()) {
+			return "";
+		}
+		return " WHERE (" + String.join(") AND (", conditions) + ")";
+	}
+
+	/**
+	 * @return 같은 검색 조건이면 같은 값 (전체 개수 캐시 키)
+	 */
+	public String getCacheKey() {
+		return conditions + "=" + parameters;
+	}
+}
@@ -0,0 +1,23 @@
+package com.project.hrbank.util.paging;
+
+import java.util.List;
+
+import com.project.hrbank.dto.response.CursorPageResponse;
+
+/**
+ * @param content 조회된 행 (최대 size 개)
+ * @param nextCursor 다음 페이지 커서 토큰, 마지막 페이지면 null
+ * @param nextIdAfter 다음 페이지 기준 ID, 마지막 페이지면 null
+ * @param hasNext 다음 페이지 존재 여부
+ */
+public record KeysetPage<T>(List<T> content, String nextCursor, Long nextIdAfter, boolean hasNext) {
+
+	/**
+	 * @param mappedContent content 를 변환한 응답 목록 (순서 유지)
+	 * @param totalCount 검색 조건의 전체 개수
+	 */
+	public <R> CursorPageResponse<R> toResponse(List<R> mappedContent, TotalCount totalCount) {
+		return new CursorPageResponse<>(mappedContent, nextCursor, nextIdAfter, mappedContent.size(), hasNext,
+			totalCount.count(), totalCount.exact());
+	}
+}
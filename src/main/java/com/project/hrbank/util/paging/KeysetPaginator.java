@@ -0,0 +1,74 @@
+package com.project.hrbank.util.paging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * (정렬 값, ID) keyset 기준 목록 조회.
+ * OFFSET 없이 복합 인덱스를 따라 다음 페이지를 읽고, size + 1 개를 조회해 다음 페이지 존재 여부를 판단한다.
+ */
+@Component
+public class KeysetPaginator {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * @param spec 목록 정의
+	 * @param filter 검색 조건
+	 * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+	 * @param pageable 정렬 기준과 페이지 크기 (첫 번째 정렬 조건만 사용)
+	 * @param defaultOrder 정렬 조건이 없을 때 사용할 정렬
+	 * @throws IllegalArgumentException 정렬 기준이 화이트리스트에 없거나 커서가 올바르지 않은 경우
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> KeysetPage<T> fetch(KeysetSpec<T> spec, KeysetFilter filter, String cursor, Pageable pageable,
+		Sort.Order defaultOrder) {
+		Sort.Order order = pageable.getSort().stream().findFirst().orElse(defaultOrder);
+		KeysetField<T> sortField = spec.getSortField(order.getProperty());
+		String direction = order.isAscending() ? "ASC" : "DESC";
+		int size = pageable.getPageSize();
+
+		List<String> conditions = new ArrayList<>(filter.getConditions());
+		KeysetCursor keysetCursor = null;
+		if (cursor != null && !cursor.isBlank()) {
+			keysetCursor = KeysetCursor.decode(cursor);
+			keysetCursor.verifySort(order);
+			conditions.add("(" + sortField.column() + ", " + spec.getIdColumn() + ") "
+				+ (order.isAscending() ? ">" : "<") + " (:cursorValue, :cursorId)");
+		}
+
+		String sql = "SELECT " + spec.getAlias() + ".* FROM " + spec.getFrom() + KeysetFilter.where(conditions)
+			+ " ORDER BY " + sortField.column() + " " + direction + ", " + spec.getIdColumn() + " " + direction
+			+ " LIMIT :limit";
+
+		Query query = entityManager.createNativeQuery(sql, spec.getEntityClass());
+		filter.bind(query);
+		if (keysetCursor != null) {
+			query.setParameter("cursorValue", sortField.parseCursor(keysetCursor.value()));
+			query.setParameter("cursorId", keysetCursor.id());
+		}
+		query.setParameter("limit", size + 1);
+
+		List<T> rows = query.getResultList();
+		boolean hasNext = rows.size() > size;
+		if (!hasNext) {
+			return new KeysetPage<>(rows, null, null, false);
+		}
+
+		List<T> content = rows.subList(0, size);
+		T last = content.get(content.size() - 1);
+		Long lastId = spec.extractId(last);
+		String nextCursor = new KeysetCursor(order.getProperty(), order.getDirection(), lastId,
+			sortField.extractCursor(last)).encode();
+		return new KeysetPage<>(content, nextCursor, lastId, true);
+	}
+}
@@ -0,0 +1,114 @@
+package com.project.hrbank.util.paging;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 한 목록 API 의 keyset 조회 정의. 조회 테이블, ID 컬럼, 정렬 가능한 컬럼 화이트리스트를 담는다.
+ * 목록마다 상수로 한 번 만들어 재사용한다.
+ */
+public final class KeysetSpec<T> {
+
+	private final Class<T> entityClass;
+	private final String table;
+	private final String from;
+	private final String alias;
+	private final String idColumn;
+	private final Function<T, Long> idExtractor;
+	private final Map<String, KeysetField<T>> sortFields;
+
+	private KeysetSpec(Builder<T> builder) {
+		this.entityClass = builder.entityClass;
+		this.table = builder.table;
+		this.from = builder.from;
+		this.alias = builder.alias;
+		this.idColumn = builder.idColumn;
+		this.idExtractor = builder.idExtractor;
+		this.sortFields = Map.copyOf(builder.sortFields);
+	}
+
+	/**
+	 * @param entityClass 조회 결과를 매핑할 엔티티
+	 * @param table 테이블 이름
+	 * @param alias 테이블 별칭 (조건과 컬럼은 이 별칭으로 작성한다)
+	 * @param idColumn 동일한 정렬 값 사이의 순서를 정하는 ID 컬럼 (별칭 제외)
+	 * @param idExtractor 엔티티의 ID
+	 */
+	public static <T> Builder<T> builder(Class<T> entityClass, String table, String alias, String idColumn,
+		Function<T, Long> idExtractor) {
+		return new Builder<>(entityClass, table, alias, idColumn, idExtractor);
+	}
+
+	/**
+	 * @throws IllegalArgumentException 화이트리스트에 없는 정렬 기준인 경우
+	 */
+	KeysetField<T> getSortField(String sortField) {
+		KeysetField<T> field = sortFields.get(sortField);
+		if (field == null) {
+			throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortField);
+		}
+		return field;
+	}
+
+	Class<T> getEntityClass() {
+		return entityClass;
+	}
+
+	String getTable() {
+		return table;
+	}
+
+	String getFrom() {
+		return from;
+	}
+
+	String getAlias() {
+		return alias;
+	}
+
+	String getIdColumn() {
+		return idColumn;
+	}
+
+	Long extractId(T entity) {
+		return idExtractor.apply(entity);
+	}
+
+	public static final class Builder<T> {
+
+		private final Class<T> entityClass;
+		private final String table;
+		private final String from;
+		private final String alias;
+		private final String idColumn;
+		private final Function<T, Long> idExtractor;
+		private final Map<String, KeysetField<T>> sortFields = new LinkedHashMap<>();
+
+		private Builder(Class<T> entityClass, String table, String alias, String idColumn,
+			Function<T, Long> idExtractor) {
+			this.entityClass = entityClass;
+			this.table = table;
+			this.from = table + " " + alias;
+			this.alias = alias;
+			this.idColumn = alias + "." + idColumn;
+			this.idExtractor = idExtractor;
+		}
+
+		/**
+		 * @param name API 의 sortField 값
+		 * @param column 컬럼 이름 (별칭 제외, NOT NULL 이어야 한다)
+		 * @param cursorParser 커서 문자열을 컬럼 타입으로 변환
+		 * @param valueExtractor 엔티티의 정렬 값
+		 */
+		public Builder<T> sortField(String name, String column, Function<String, Object> cursorParser,
+			Function<T, Object> valueExtractor) {
+			sortFields.put(name, new KeysetField<>(alias + "." + column, cursorParser, valueExtractor));
+			return this;
+		}
+
+		public KeysetSpec<T> build() {
+			return new KeysetSpec<>(this);
+		}
+	}
+}
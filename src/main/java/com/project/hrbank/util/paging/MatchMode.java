@@ -0,0 +1,17 @@
+package com.project.hrbank.util.paging;
+
+/**
+ * 문자열 검색 방식
+ */
+public enum MatchMode {
+
+	/**
+	 * 검색어로 시작 (lower(컬럼) text_pattern_ops B-tree 인덱스 사용)
+	 */
+	PREFIX,
+
+	/**
+	 * 검색어 포함 (trigram GIN 인덱스 사용, 3글자 이상일 때 효과가 크다)
+	 */
+	CONTAINS
+}
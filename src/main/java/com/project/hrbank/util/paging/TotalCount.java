@@ -0,0 +1,16 @@
+package com.project.hrbank.util.paging;
+
+/**
+ * @param count 전체 개수 (추정값이거나 상한일 수 있다)
+ * @param exact 정확한 개수인지 여부
+ */
+public record TotalCount(long count, boolean exact) {
+
+	public static TotalCount exact(long count) {
+		return new TotalCount(count, true);
+	}
+
+	public static TotalCount approximate(long count) {
+		return new TotalCount(count, false);
+	}
+}
@@ -0,0 +1,53 @@
+package com.project.hrbank.util.provider;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.project.hrbank.entity.enums.FileExtension;
+
+/**
+ * 백업 파일 압축 방식.
+ * GZIP 은 청크마다 독립된 gzip 멤버로 기록하므로, 이어 붙인 파일 전체를 일반 gzip 으로 풀 수 있고
+ * 멤버 경계에서 나눠 청크 하나만 따로 풀 수도 있다.
+ */
+public enum BackupCompression {
+
+	NONE {
+		@Override
+		public OutputStream wrap(OutputStream outputStream) {
+			return outputStream;
+		}
+	},
+	GZIP {
+		@Override
+		public OutputStream wrap(OutputStream outputStream) throws IOException {
+			return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+		}
+	};
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String GZIP_SUFFIX = "." + FileExtension.GZIP.getDescription();
+
+	public abstract OutputStream wrap(OutputStream outputStream) throws IOException;
+
+	public String toFileName(String csvFileName) {
+		return this == GZIP ? csvFileName + GZIP_SUFFIX : csvFileName;
+	}
+
+	public String getContentType() {
+		return this == GZIP ? FileExtension.GZIP.getContentType() : FileExtension.CSV.getContentType();
+	}
+
+	/**
+	 * 파일 이름으로 압축 여부를 판단해 읽기 스트림을 연다.
+	 */
+	public static InputStream open(String fileName, InputStream inputStream) throws IOException {
+		if (fileName.endsWith(GZIP_SUFFIX)) {
+			return new GZIPInputStream(inputStream, BUFFER_SIZE);
+		}
+		return inputStream;
+	}
+}
@@ -0,0 +1,17 @@
+package com.project.hrbank.util.provider;
+
+/**
+ * 백업 파일 기록 진행 상황 수신
+ */
+@FunctionalInterface
+public interface BackupProgressListener {
+
+	BackupProgressListener NONE = (rowsWritten, bytesWritten) -> {
+	};
+
+	/**
+	 * @param rowsWritten 지금까지 기록한 행 수
+	 * @param bytesWritten 지금까지 디스크에 기록한 바이트 수
+	 */
+	void onProgress(long rowsWritten, long bytesWritten);
+}
@@ -0,0 +1,33 @@
+package com.project.hrbank.util.provider;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 하위 스트림으로 전달된 바이트 수를 센다.
+ */
+public class CountingOutputStream extends FilterOutputStream {
+
+	private long byteCount;
+
+	public CountingOutputStream(OutputStream out) {
+		super(out);
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+		byteCount++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		out.write(b, off, len);
+		byteCount += len;
+	}
+
+	public long getByteCount() {
+		return byteCount;
+	}
+}
@@ -0,0 +1,96 @@
+package com.project.hrbank.util.provider;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * EmployeeCsvRowWriter 가 기록한 백업 CSV 를 한 레코드씩 읽는다.
+ * 따옴표로 감싼 값 안의 구분자, 따옴표("" 이스케이프), 줄바꿈을 처리한다.
+ */
+public class EmployeeCsvReader implements Closeable {
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final int END_OF_STREAM = -1;
+
+	private final Reader reader;
+	private final StringBuilder field = new StringBuilder();
+	private int pushedBack = END_OF_STREAM;
+
+	public EmployeeCsvReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * @return 다음 레코드의 컬럼 값 목록, 더 이상 레코드가 없으면 null
+	 * @throws IOException 읽기 중 오류 발생
+	 */
+	public String[] readRecord() throws IOException {
+		int character = read();
+		if (character == END_OF_STREAM) {
+			return null;
+		}
+
+		List<String> fields = new ArrayList<>();
+		field.setLength(0);
+		boolean quoted = false;
+
+		while (character != END_OF_STREAM) {
+			if (quoted) {
+				if (character == QUOTE) {
+					int next = read();
+					if (next == QUOTE) {
+						field.append(QUOTE);
+					} else {
+						quoted = false;
+						character = next;
+						continue;
+					}
+				} else {
+					field.append((char)character);
+				}
+			} else if (character == QUOTE) {
+				quoted = true;
+			} else if (character == SEPARATOR) {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (character == '\r' || character == '\n') {
+				skipLineFeedAfterCarriageReturn(character);
+				break;
+			} else {
+				field.append((char)character);
+			}
+			character = read();
+		}
+
+		fields.add(field.toString());
+		return fields.toArray(String[]::new);
+	}
+
+	private void skipLineFeedAfterCarriageReturn(int character) throws IOException {
+		if (character != '\r') {
+			return;
+		}
+		int next = read();
+		if (next != '\n') {
+			pushedBack = next;
+		}
+	}
+
+	private int read() throws IOException {
+		if (pushedBack != END_OF_STREAM) {
+			int character = pushedBack;
+			pushedBack = END_OF_STREAM;
+			return character;
+		}
+		return reader.read();
+	}
+
+	@Override
+	public void close() throws IOException {
+		reader.close();
+	}
+}
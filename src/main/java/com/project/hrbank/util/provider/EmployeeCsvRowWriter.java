@@ -0,0 +1,115 @@
+package com.project.hrbank.util.provider;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import lombok.Getter;
+
+/**
+ * 조회된 직원 행을 중간 객체 없이 바로 CSV 로 기록한다.
+ * 여러 묶음에 걸쳐 재사용되며, 마지막으로 기록한 employee_id 를 다음 keyset 조회의 기준으로 제공한다.
+ */
+@Getter
+public class EmployeeCsvRowWriter implements RowCallbackHandler {
+
+	private static final char SEPARATOR = ',';
+	private static final char QUOTE = '"';
+	private static final String LINE_SEPARATOR = System.lineSeparator();
+
+	private final Writer writer;
+	private final String rowPrefix;
+	private long lastEmployeeId;
+	private long rowCount;
+
+	public EmployeeCsvRowWriter(Writer writer) {
+		this(writer, null);
+	}
+
+	/**
+	 * @param writer 기록 대상
+	 * @param rowPrefix 각 행 앞에 추가할 첫 번째 컬럼 값 (증분 백업의 변경 유형 등, 없으면 null)
+	 */
+	public EmployeeCsvRowWriter(Writer writer, String rowPrefix) {
+		this.writer = writer;
+		this.rowPrefix = rowPrefix;
+	}
+
+	@Override
+	public void processRow(ResultSet resultSet) throws SQLException {
+		long employeeId = resultSet.getLong(1);
+		try {
+			if (rowPrefix != null) {
+				writeField(rowPrefix);
+				writer.write(SEPARATOR);
+			}
+			writer.write(Long.toString(employeeId));
+			writer.write(SEPARATOR);
+			writeField(resultSet.getString(2));
+			writer.write(SEPARATOR);
+			writeField(resultSet.getString(3));
+			writer.write(SEPARATOR);
+			writeField(resultSet.getString(4));
+			writer.write(SEPARATOR);
+			writeField(resultSet.getString(5));
+			writer.write(SEPARATOR);
+			writeField(resultSet.getString(6));
+			writer.write(SEPARATOR);
+			writeField(resultSet.getString(7));
+			writer.write(LINE_SEPARATOR);
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+		lastEmployeeId = employeeId;
+		rowCount++;
+	}
+
+	/**
+	 * 조회 결과가 아닌 값 목록을 한 행으로 기록 (rowPrefix 는 붙이지 않는다)
+	 * @param fields 컬럼 값 목록 (null 은 빈 값)
+	 * @throws IOException 기록 중 오류 발생
+	 */
+	public void writeRecord(String... fields) throws IOException {
+		for (int index = 0; index < fields.length; index++) {
+			if (index > 0) {
+				writer.write(SEPARATOR);
+			}
+			writeField(fields[index]);
+		}
+		writer.write(LINE_SEPARATOR);
+		rowCount++;
+	}
+
+	private void writeField(String value) throws IOException {
+		if (value == null) {
+			return;
+		}
+		if (!requiresQuote(value)) {
+			writer.write(value);
+			return;
+		}
+		writer.write(QUOTE);
+		for (int index = 0; index < value.length(); index++) {
+			char character = value.charAt(index);
+			if (character == QUOTE) {
+				writer.write(QUOTE);
+			}
+			writer.write(character);
+		}
+		writer.write(QUOTE);
+	}
+
+	private boolean requiresQuote(String value) {
+		for (int index = 0; index < value.length(); index++) {
+			char character = value.charAt(index);
+			if (character == SEPARATOR || character == QUOTE || character == '\n' || character == '\r') {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,142 @@
+package com.project.hrbank.util.provider;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongConsumer;
+
+/**
+ * 전체 백업과 증분 백업 파일을 employee_id 기준으로 k-way 병합해 하나의 스냅샷으로 기록한다.
+ * 모든 백업 파일은 employee_id 순으로 기록되므로 파일마다 현재 레코드 하나만 메모리에 두며,
+ * 같은 직원이 여러 파일에 있으면 가장 최근 파일의 레코드를 쓴다.
+ * 삭제(DELETE) 행에는 employee_id 가 없으므로 삭제된 직원번호를 먼저 모아 두고 건너뛴다. (직원번호는 다시 발급되지 않는다)
+ */
+public final class EmployeeSnapshotMerger {
+
+	public static final String DELETE = "DELETE";
+
+	private static final int EMPLOYEE_ID_INDEX = 0;
+	private static final int EMPLOYEE_NUMBER_INDEX = 1;
+	private static final int PROGRESS_INTERVAL = 1000;
+
+	/**
+	 * employee_id 가 작은 순, 같으면 최근 파일 순
+	 */
+	private static final Comparator<RecordCursor> MERGE_ORDER = Comparator
+		.comparingLong(RecordCursor::getEmployeeId)
+		.thenComparing(RecordCursor::getOrder, Comparator.reverseOrder());
+
+	private EmployeeSnapshotMerger() {
+	}
+
+	/**
+	 * 증분 백업에서 삭제된 직원번호를 모은다.
+	 * @param delta 증분 백업 (첫 행은 헤더)
+	 * @param deletedEmployeeNumbers 삭제된 직원번호를 추가할 집합
+	 */
+	public static void collectDeletedEmployeeNumbers(EmployeeCsvReader delta, Set<String> deletedEmployeeNumbers)
+		throws IOException {
+		delta.readRecord();
+		String[] record;
+		while ((record = delta.readRecord()) != null) {
+			if (DELETE.equals(record[0])) {
+				deletedEmployeeNumbers.add(record[EMPLOYEE_NUMBER_INDEX + 1]);
+			}
+		}
+	}
+
+	/**
+	 * @param base 전체 백업 (첫 행은 헤더)
+	 * @param deltas 증분 백업 (첫 행은 헤더, 오래된 순)
+	 * @param deletedEmployeeNumbers 증분 백업에서 삭제된 직원번호
+	 * @param rowWriter 병합 결과를 기록할 대상 (헤더는 호출한 쪽에서 기록)
+	 * @param progress 기록한 행 수를 받아 진행 상황을 전달
+	 */
+	public static void merge(EmployeeCsvReader base, List<EmployeeCsvReader> deltas,
+		Set<String> deletedEmployeeNumbers, EmployeeCsvRowWriter rowWriter, LongConsumer progress) throws IOException {
+		PriorityQueue<RecordCursor> queue = new PriorityQueue<>(deltas.size() + 1, MERGE_ORDER);
+		offer(queue, new RecordCursor(base, 0, false));
+		for (int index = 0; index < deltas.size(); index++) {
+			offer(queue, new RecordCursor(deltas.get(index), index + 1, true));
+		}
+
+		while (!queue.isEmpty()) {
+			RecordCursor newest = queue.poll();
+			String[] record = newest.getRecord();
+			long employeeId = newest.getEmployeeId();
+			advance(queue, newest);
+			// 같은 직원의 이전 파일 레코드는 건너뛴다
+			while (!queue.isEmpty() && queue.peek().getEmployeeId() == employeeId) {
+				advance(queue, queue.poll());
+			}
+
+			if (!deletedEmployeeNumbers.contains(record[EMPLOYEE_NUMBER_INDEX])) {
+				rowWriter.writeRecord(record);
+				if (rowWriter.getRowCount() % PROGRESS_INTERVAL == 0) {
+					progress.accept(rowWriter.getRowCount());
+				}
+			}
+		}
+	}
+
+	private static void offer(PriorityQueue<RecordCursor> queue, RecordCursor cursor) throws IOException {
+		cursor.reader.readRecord();
+		advance(queue, cursor);
+	}
+
+	private static void advance(PriorityQueue<RecordCursor> queue, RecordCursor cursor) throws IOException {
+		if (cursor.next()) {
+			queue.add(cursor);
+		}
+	}
+
+	private static final class RecordCursor {
+
+		private final EmployeeCsvReader reader;
+		private final int order;
+		private final boolean delta;
+		private String[] record;
+		private long employeeId;
+
+		private RecordCursor(EmployeeCsvReader reader, int order, boolean delta) {
+			this.reader = reader;
+			this.order = order;
+			this.delta = delta;
+		}
+
+		/**
+		 * 다음 직원 레코드로 이동. 증분 백업은 변경 유형 컬럼을 떼고, 삭제 행은 건너뛴다.
+		 * @return 레코드가 남아 있는지 여부
+		 */
+		private boolean next() throws IOException {
+			String[] line;
+			while ((line = reader.readRecord()) != null) {
+				if (!delta) {
+					record = line;
+				} else if (DELETE.equals(line[0])) {
+					continue;
+				} else {
+					record = Arrays.copyOfRange(line, 1, line.length);
+				}
+				employeeId = Long.parseLong(record[EMPLOYEE_ID_INDEX]);
+				return true;
+			}
+			return false;
+		}
+
+		private String[] getRecord() {
+			return record;
+		}
+
+		private long getEmployeeId() {
+			return employeeId;
+		}
+
+		private int getOrder() {
+			return order;
+		}
+	}
+}
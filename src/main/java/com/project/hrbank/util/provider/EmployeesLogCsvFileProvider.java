@@ -2,45 +2,78 @@ package com.project.hrbank.util.provider;
 
 import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
 
-import com.project.hrbank.entity.Employee;
+import com.project.hrbank.config.backup.BackupProperties;
 import com.project.hrbank.entity.FileEntity;
 import com.project.hrbank.entity.enums.FileExtension;
-import com.project.hrbank.repository.EmployeeRepository;
+import com.project.hrbank.repository.EmployeeBackupRepository;
+import com.project.hrbank.repository.EmployeeBackupRepository.EmployeeIdRange;
+import com.project.hrbank.util.storage.FileStorage;
 
 @Component
 public class EmployeesLogCsvFileProvider {
 
 	private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
 	private static final String BACKUP_FILE_NAME = "backup_employee";
+	private static final String DELTA_BACKUP_FILE_NAME = "backup_employee_delta";
 	private static final String CSV_HEADER_CONTENT = "ID,직원번호,이름,부서,직급,입사일,상태";
+	private static final String DELTA_CSV_HEADER_CONTENT = "변경유형," + CSV_HEADER_CONTENT;
+	private static final String PART_FILE_SUFFIX = ".part";
+	private static final String UPSERT = "UPSERT";
+	private static final String DELETE = EmployeeSnapshotMerger.DELETE;
+	private static final int BATCH_SIZE = 1000;
+	private static final int CHUNKS_PER_THREAD = 4;
 
+	/**
+	 * 전체 백업의 청크 임시 파일을 쓰는 디렉터리. 완성된 백업 파일은 파일 저장소에 저장한다.
+	 */
 	private final Path DIRECTORY;
-	private final EmployeeRepository employeeRepository;
+	private final EmployeeBackupRepository employeeBackupRepository;
 	private final LogFileProvider logFileProvider;
+	private final FileStorage fileStorage;
+	private final AsyncTaskExecutor backupChunkExecutor;
+	private final BackupCompression compression;
+	private final int parallelism;
 
 	protected EmployeesLogCsvFileProvider(
-		EmployeeRepository employeeRepository,
+		EmployeeBackupRepository employeeBackupRepository,
 		LogFileProvider logFileProvider,
+		FileStorage fileStorage,
+		@Qualifier("backupChunkExecutor") AsyncTaskExecutor backupChunkExecutor,
+		BackupProperties backupProperties,
 		@Value("${hrBank.repository.file-directory:data}") String fileDirectory
 	) {
-		this.employeeRepository = employeeRepository;
+		this.employeeBackupRepository = employeeBackupRepository;
 		this.logFileProvider = logFileProvider;
-		// TODO 하드 코딩 된 부분 제거
+		this.fileStorage = fileStorage;
+		this.backupChunkExecutor = backupChunkExecutor;
+		this.compression = backupProperties.compression();
+		this.parallelism = backupProperties.parallelism();
 		DIRECTORY = Paths.get(System.getProperty("user.dir"), fileDirectory, "csv");
 
 		if (Files.notExists(DIRECTORY)) {
@@ -52,59 +85,311 @@ public class EmployeesLogCsvFileProvider {
 		}
 	}
 
-	public Optional<FileEntity> saveEmployeeLogFile(Long backupId) {
-		String fileName = generateFileName(backupId);
-		Path employeesLogFilePath = resolveFilename(fileName);
+	/**
+	 * 전체 직원 정보를 백업 파일로 저장.
+	 * employee_id 구간을 청크로 나눠 로컬 임시 파일에 동시에 기록한 뒤, 순서대로 이어 붙여 파일 저장소에 저장한다.
+	 * 청크 파일은 성공 여부와 관계없이 지우고, 저장하다 만 파일은 파일 저장소가 지운다.
+	 * @param backupId 백업 ID
+	 * @param listener 진행 상황 수신
+	 * @return 저장된 파일 정보, 실패 시 empty
+	 */
+	public Optional<FileEntity> saveEmployeeLogFile(Long backupId, BackupProgressListener listener) {
+		String fileName = compression.toFileName(generateFileName(BACKUP_FILE_NAME, backupId));
+		Path partFilePrefix = resolveFilename(fileName);
+		List<BackupChunk> chunks = employeeBackupRepository.findEmployeeIdRange()
+			.map(this::splitIntoChunks)
+			.orElse(List.of());
 
-		try (
-			BufferedWriter bufferedWriter = Files.newBufferedWriter(employeesLogFilePath, StandardCharsets.UTF_8)
-		) {
-			bufferedWriter.write(CSV_HEADER_CONTENT);
+		try {
+			ChunkProgress progress = new ChunkProgress(listener);
+			List<Future<Path>> futures = new ArrayList<>();
+			for (BackupChunk chunk : chunks) {
+				futures.add(backupChunkExecutor.submit(() -> writeChunk(partFilePrefix, chunk, progress)));
+			}
+
+			Path headerPartPath = writeHeaderPart(partFilePrefix);
+			List<Path> partFilePaths = awaitChunks(futures);
+			FileEntity fileEntity = fileStorage.saveFile(null, fileName, compression.getContentType(),
+				outputStream -> joinParts(outputStream, headerPartPath, partFilePaths));
+			listener.onProgress(progress.rowsWritten.get(), fileEntity.getSize());
+			return Optional.of(fileEntity);
+		} catch (IOException saveException) {
+			logFileProvider.writeErrorLog(saveException);
+			return Optional.empty();
+		} catch (RuntimeException saveException) {
+			return handleSaveFailure(saveException);
+		} finally {
+			deletePartFiles(partFilePrefix, chunks);
+		}
+	}
+
+	/**
+	 * changedAfter 이후 변경된 직원만 증분 백업 파일로 저장.
+	 * 현재 존재하는 직원은 UPSERT, 삭제된 직원은 직원번호만 담은 DELETE 행으로 기록한다.
+	 * @param backupId 백업 ID
+	 * @param changedAfter 이전 백업 시점
+	 * @param listener 진행 상황 수신
+	 * @return 저장된 파일 정보, 실패 시 empty
+	 */
+	public Optional<FileEntity> saveEmployeeDeltaFile(Long backupId, LocalDateTime changedAfter,
+		BackupProgressListener listener) {
+		return saveBackupFile(generateFileName(DELTA_BACKUP_FILE_NAME, backupId), listener, (bufferedWriter, progress) -> {
+			bufferedWriter.write(DELTA_CSV_HEADER_CONTENT);
 			bufferedWriter.newLine();
 
-			Page<Employee> employeePage;
+			EmployeeCsvRowWriter rowWriter = new EmployeeCsvRowWriter(bufferedWriter, UPSERT);
+			long previousRowCount;
 			do {
-				int page = 0;
-				int batchSize = 1000;
-				Pageable pageable = PageRequest.of(page, batchSize, Sort.by("employeeId").ascending());
-				employeePage = employeeRepository.findAll(pageable);
-
-				for (Employee employee : employeePage.getContent()) {
-					bufferedWriter.write(writeEmployeeInfo(employee));
-					bufferedWriter.newLine();
+				previousRowCount = rowWriter.getRowCount();
+				employeeBackupRepository.findChangedEmployeesAfter(changedAfter, rowWriter.getLastEmployeeId(), BATCH_SIZE,
+					rowWriter);
+				progress.accept(rowWriter.getRowCount());
+			} while (rowWriter.getRowCount() - previousRowCount == BATCH_SIZE);
+
+			for (String employeeNumber : employeeBackupRepository.findDeletedEmployeeNumbers(changedAfter)) {
+				rowWriter.writeRecord(DELETE, null, employeeNumber, null, null, null, null, null);
+			}
+			return rowWriter.getRowCount();
+		});
+	}
+
+	/**
+	 * 전체 백업에 증분 백업을 적용해 새로운 전체 백업 파일로 저장.
+	 * 파일들을 employee_id 기준으로 병합하며 기록하므로 메모리 사용량은 직원 수가 아닌 파일 수(와 삭제된 직원 수)에 비례한다.
+	 * @see EmployeeSnapshotMerger
+	 * @param backupId 새로 만들 전체 백업 ID
+	 * @param baseFile 기준 전체 백업 파일 (객체 저장소로 옮겨졌을 수 있으므로 파일 저장소를 통해 읽는다)
+	 * @param deltaFiles 적용할 증분 백업 파일 (오래된 순)
+	 * @param listener 진행 상황 수신
+	 * @return 저장된 파일 정보, 실패 시 empty
+	 */
+	public Optional<FileEntity> saveCompactedFile(Long backupId, FileEntity baseFile, List<FileEntity> deltaFiles,
+		BackupProgressListener listener) {
+		return saveBackupFile(generateFileName(BACKUP_FILE_NAME, backupId), listener, (bufferedWriter, progress) -> {
+			Set<String> deletedEmployeeNumbers = new HashSet<>();
+			for (FileEntity deltaFile : deltaFiles) {
+				try (EmployeeCsvReader reader = openBackupFile(deltaFile)) {
+					EmployeeSnapshotMerger.collectDeletedEmployeeNumbers(reader, deletedEmployeeNumbers);
 				}
+			}
 
-				page++;
-			} while (employeePage.hasNext());
+			bufferedWriter.write(CSV_HEADER_CONTENT);
+			bufferedWriter.newLine();
+
+			EmployeeCsvRowWriter rowWriter = new EmployeeCsvRowWriter(bufferedWriter);
+			List<EmployeeCsvReader> readers = new ArrayList<>(deltaFiles.size() + 1);
+			try {
+				readers.add(openBackupFile(baseFile));
+				for (FileEntity deltaFile : deltaFiles) {
+					readers.add(openBackupFile(deltaFile));
+				}
+				EmployeeSnapshotMerger.merge(readers.get(0), readers.subList(1, readers.size()), deletedEmployeeNumbers,
+					rowWriter, progress);
+			} finally {
+				closeAll(readers);
+			}
+			return rowWriter.getRowCount();
+		});
+	}
 
-			long fileSize = Files.size(employeesLogFilePath);
-			FileEntity fileEntity = new FileEntity(fileName, FileExtension.CSV.getDescription(), fileSize, employeesLogFilePath.toString());
+	/**
+	 * 파일 저장소에 바로 기록한다. (object-store 방식이면 로컬 디스크를 거치지 않고 객체 저장소에 올라간다)
+	 */
+	private Optional<FileEntity> saveBackupFile(String csvFileName, BackupProgressListener listener,
+		BackupContentWriter contentWriter) {
+		String fileName = compression.toFileName(csvFileName);
+		AtomicLong rowCount = new AtomicLong();
 
+		try {
+			FileEntity fileEntity = fileStorage.saveFile(null, fileName, compression.getContentType(), outputStream -> {
+				// 저장소가 연 스트림은 저장소가 닫으므로, 압축 스트림을 닫아 마무리할 때 함께 닫히지 않게 한다
+				CountingOutputStream countingStream = new CountingOutputStream(StreamUtils.nonClosing(outputStream));
+				try (BufferedWriter bufferedWriter = new BufferedWriter(
+					new OutputStreamWriter(compression.wrap(countingStream), StandardCharsets.UTF_8))) {
+					rowCount.set(contentWriter.write(bufferedWriter,
+						rowsWritten -> listener.onProgress(rowsWritten, countingStream.getByteCount())));
+				}
+			});
+			listener.onProgress(rowCount.get(), fileEntity.getSize());
 			return Optional.of(fileEntity);
-		} catch (IOException saveException) {
-			logFileProvider.writeErrorLog(employeesLogFilePath, saveException);
-			return Optional.empty();
+		} catch (RuntimeException saveException) {
+			return handleSaveFailure(saveException);
+		}
+	}
+
+	/**
+	 * 입출력 오류로 저장하지 못한 경우 오류 로그를 남기고 empty 를 반환한다. 그 밖의 예외는 그대로 전달한다.
+	 * 저장하다 만 파일은 파일 저장소가 이미 지웠다.
+	 */
+	private Optional<FileEntity> handleSaveFailure(RuntimeException saveException) {
+		if (!(saveException.getCause() instanceof IOException ioException)) {
+			throw saveException;
+		}
+		logFileProvider.writeErrorLog(ioException);
+		return Optional.empty();
+	}
+
+	private List<BackupChunk> splitIntoChunks(EmployeeIdRange range) {
+		long idSpan = range.maxEmployeeId() - range.minEmployeeId() + 1;
+		long chunkCount = Math.min((long)parallelism * CHUNKS_PER_THREAD, idSpan);
+		long chunkSpan = (idSpan + chunkCount - 1) / chunkCount;
+
+		List<BackupChunk> chunks = new ArrayList<>();
+		long lastEmployeeId = range.minEmployeeId() - 1;
+		for (int index = 0; lastEmployeeId < range.maxEmployeeId(); index++) {
+			long maxEmployeeId = Math.min(lastEmployeeId + chunkSpan, range.maxEmployeeId());
+			chunks.add(new BackupChunk(index, lastEmployeeId, maxEmployeeId));
+			lastEmployeeId = maxEmployeeId;
+		}
+		return chunks;
+	}
+
+	private Path writeChunk(Path partFilePrefix, BackupChunk chunk, ChunkProgress progress) throws IOException {
+		Path partFilePath = resolvePartFile(partFilePrefix, chunk.index());
+		EmployeeCsvRowWriter rowWriter;
+
+		try (BufferedWriter bufferedWriter = newPartWriter(partFilePath)) {
+			rowWriter = new EmployeeCsvRowWriter(bufferedWriter);
+			long lastEmployeeId = chunk.lastEmployeeId();
+			long previousRowCount;
+			do {
+				previousRowCount = rowWriter.getRowCount();
+				employeeBackupRepository.findEmployeesBetween(lastEmployeeId, chunk.maxEmployeeId(), BATCH_SIZE, rowWriter);
+				progress.addRows(rowWriter.getRowCount() - previousRowCount);
+				lastEmployeeId = rowWriter.getLastEmployeeId();
+			} while (rowWriter.getRowCount() - previousRowCount == BATCH_SIZE);
+		} catch (UncheckedIOException exception) {
+			throw exception.getCause();
+		}
+
+		long partSize = Files.size(partFilePath);
+		progress.addBytes(partSize);
+		return partFilePath;
+	}
+
+	private Path writeHeaderPart(Path partFilePrefix) throws IOException {
+		Path headerPartPath = resolvePartFile(partFilePrefix, -1);
+		try (BufferedWriter bufferedWriter = newPartWriter(headerPartPath)) {
+			bufferedWriter.write(CSV_HEADER_CONTENT);
+			bufferedWriter.newLine();
+		}
+		return headerPartPath;
+	}
+
+	private BufferedWriter newPartWriter(Path partFilePath) throws IOException {
+		return new BufferedWriter(new OutputStreamWriter(
+			compression.wrap(Files.newOutputStream(partFilePath)), StandardCharsets.UTF_8));
+	}
+
+	private List<Path> awaitChunks(List<Future<Path>> futures) throws IOException {
+		List<Path> partFilePaths = new ArrayList<>();
+		try {
+			for (Future<Path> future : futures) {
+				partFilePaths.add(future.get());
+			}
+			return partFilePaths;
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new IOException("백업이 중단되었습니다.", exception);
+		} catch (ExecutionException exception) {
+			throw exception.getCause() instanceof IOException ioException
+				? ioException
+				: new IOException(exception.getCause());
+		} finally {
+			futures.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * 헤더와 청크 파일을 순서대로 저장소 스트림에 이어 붙인다
+	 */
+	private void joinParts(OutputStream outputStream, Path headerPartPath, List<Path> partFilePaths)
+		throws IOException {
+		Files.copy(headerPartPath, outputStream);
+		for (Path partFilePath : partFilePaths) {
+			Files.copy(partFilePath, outputStream);
+		}
+	}
+
+	private void deletePartFiles(Path partFilePrefix, List<BackupChunk> chunks) {
+		try {
+			Files.deleteIfExists(resolvePartFile(partFilePrefix, -1));
+			for (BackupChunk chunk : chunks) {
+				Files.deleteIfExists(resolvePartFile(partFilePrefix, chunk.index()));
+			}
+		} catch (IOException ignored) {
+			// 남은 임시 파일은 백업 결과에 영향을 주지 않는다.
+		}
+	}
+
+	private void closeAll(List<EmployeeCsvReader> readers) throws IOException {
+		IOException closeException = null;
+		for (EmployeeCsvReader reader : readers) {
+			try {
+				reader.close();
+			} catch (IOException exception) {
+				closeException = exception;
+			}
 		}
+		if (closeException != null) {
+			throw closeException;
+		}
+	}
+
+	private EmployeeCsvReader openBackupFile(FileEntity backupFile) throws IOException {
+		return new EmployeeCsvReader(new InputStreamReader(
+			BackupCompression.open(backupFile.getFileName(), fileStorage.load(backupFile).getInputStream()),
+			StandardCharsets.UTF_8));
 	}
 
-	private String generateFileName(Long backupId) {
+	private String generateFileName(String prefix, Long backupId) {
 		String formattedDateTime = LocalDateTime.now().format(TIME_FORMAT);
-		return String.format("%s_%d_%s.%s", BACKUP_FILE_NAME, backupId, formattedDateTime, FileExtension.CSV.getDescription());
+		return String.format("%s_%d_%s.%s", prefix, backupId, formattedDateTime, FileExtension.CSV.getDescription());
 	}
 
 	private Path resolveFilename(String fileName) {
 		return DIRECTORY.resolve(fileName);
 	}
 
-	private String writeEmployeeInfo(Employee employee) {
-		return String.format("%d, %s, %s, %s, %s, %s, %s",
-			employee.getEmployeeId(),
-			employee.getEmployeeNumber(),
-			employee.getName(),
-			employee.getDepartmentId(),
-			employee.getPosition(),
-			employee.getHireDate(),
-			employee.getStatus()
-		);
+	private Path resolvePartFile(Path partFilePrefix, int chunkIndex) {
+		return partFilePrefix.resolveSibling(partFilePrefix.getFileName() + PART_FILE_SUFFIX + chunkIndex);
+	}
+
+	@FunctionalInterface
+	private interface BackupContentWriter {
+		/**
+		 * @param bufferedWriter 백업 파일
+		 * @param progress 기록한 행 수를 받아 진행 상황을 전달
+		 * @return 기록한 전체 행 수
+		 */
+		long write(BufferedWriter bufferedWriter, LongConsumer progress) throws IOException;
+	}
+
+	/**
+	 * (lastEmployeeId, maxEmployeeId] 구간
+	 */
+	private record BackupChunk(int index, long lastEmployeeId, long maxEmployeeId) {
+	}
+
+	/**
+	 * 여러 청크 스레드의 진행 상황을 합산해 전달
+	 */
+	private static class ChunkProgress {
+
+		private final BackupProgressListener listener;
+		private final AtomicLong rowsWritten = new AtomicLong();
+		private final AtomicLong bytesWritten = new AtomicLong();
+
+		private ChunkProgress(BackupProgressListener listener) {
+			this.listener = listener;
+		}
+
+		private void addRows(long rows) {
+			listener.onProgress(rowsWritten.addAndGet(rows), bytesWritten.get());
+		}
+
+		private void addBytes(long bytes) {
+			listener.onProgress(rowsWritten.get(), bytesWritten.addAndGet(bytes));
+		}
 	}
 }
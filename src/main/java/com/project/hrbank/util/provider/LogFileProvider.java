@@ -36,9 +36,8 @@ public class LogFileProvider {
 		}
 	}
 
-	public void writeErrorLog(Path failedEmployeesLogFilePath, IOException saveException) {
+	public void writeErrorLog(IOException saveException) {
 		Path logFilePath = resolveFileName();
-		deleteFailEmployeeLogFile(failedEmployeesLogFilePath);
 
 		try (
 			BufferedWriter bufferedWriter = Files.newBufferedWriter(logFilePath, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)
@@ -50,15 +49,6 @@ public class LogFileProvider {
 		}
 	}
 
-	private void deleteFailEmployeeLogFile(Path failedEmployeesLogFilePath) {
-		try {
-			Files.deleteIfExists(failedEmployeesLogFilePath);
-		} catch (IOException exception) {
-			// TODO exception message 설정
-			throw new RuntimeException("Failed to delete failed log file: " + failedEmployeesLogFilePath.getFileName(), exception);
-		}
-	}
-
 	private Path resolveFileName() {
 		String fileName = DATE_FORMATTER.format(LocalDate.now());
 		return DIRECTORY.resolve(fileName).resolve(FileExtension.LOG.getDescription());
@@ -0,0 +1,56 @@
+package com.project.hrbank.util.storage;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 쓰는 동안 바이트 수와 SHA-256 을 함께 계산하는 출력 스트림.
+ * 저장이 끝난 뒤 파일을 다시 읽지 않고 크기와 체크섬을 얻기 위해 사용한다.
+ */
+final class ChecksumOutputStream extends FilterOutputStream {
+
+	private final MessageDigest digest;
+	private long size;
+	private String checksum;
+
+	ChecksumOutputStream(OutputStream out) {
+		super(out);
+		try {
+			this.digest = MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		out.write(b);
+		digest.update((byte)b);
+		size++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		out.write(b, off, len);
+		digest.update(b, off, len);
+		size += len;
+	}
+
+	long getSize() {
+		return size;
+	}
+
+	/**
+	 * @return 지금까지 쓴 내용의 SHA-256 (hex). 처음 호출한 뒤에는 더 쓰더라도 값이 바뀌지 않는다.
+	 */
+	String getChecksum() {
+		if (checksum == null) {
+			checksum = HexFormat.of().formatHex(digest.digest());
+		}
+		return checksum;
+	}
+}
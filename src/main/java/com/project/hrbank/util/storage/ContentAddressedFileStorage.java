@@ -0,0 +1,277 @@
+package com.project.hrbank.util.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.repository.FileRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용의 SHA-256 을 이름으로 blob 을 저장하는 저장소. (blobs/objects/ab/cd/abcd...)
+ * 같은 내용은 한 번만 저장되며, 이름 충돌 확인 없이 한 번의 rename 으로 저장이 끝난다.
+ * files 행이 checksum 으로 blob 을 참조하고, 어떤 행도 참조하지 않는 blob 은 {@link #sweepUnreferenced()} 가 지운다.
+ * blob 디렉터리 밖의 파일(백업 파일처럼 저장소를 거치지 않고 쓴 파일, 전환 전에 저장된 파일)은 삭제 요청 시 바로 지운다.
+ */
+@Slf4j
+public class ContentAddressedFileStorage implements FileStorage {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final int SWEEP_BATCH_SIZE = 500;
+	private static final int SHARD_DEPTH = 2;
+
+	/**
+	 * 저장 직후 files 행이 커밋되기 전의 blob 을 지우지 않도록, 이 시간 안에 쓰이거나 재사용된 blob 은 정리하지 않는다.
+	 */
+	private static final Duration SWEEP_GRACE_PERIOD = Duration.ofHours(1);
+
+	private final FileRepository fileRepository;
+	private final Path objectsDirectory;
+	private final Path tempDirectory;
+
+	public ContentAddressedFileStorage(FileRepository fileRepository, String fileDirectory) {
+		this.fileRepository = fileRepository;
+		Path blobDirectory = Paths.get(System.getProperty("user.dir")).resolve(fileDirectory).resolve("blobs");
+		this.objectsDirectory = blobDirectory.resolve("objects").normalize();
+		this.tempDirectory = blobDirectory.resolve("tmp");
+		try {
+			Files.createDirectories(objectsDirectory);
+			Files.createDirectories(tempDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public FileEntity saveFile(Long id, String fileName, String contentType, ContentWriter contentWriter) {
+		if (fileName == null || fileName.isBlank()) {
+			fileName = "unknown_file";
+		}
+
+		Path tempFilePath = null;
+		try {
+			tempFilePath = Files.createTempFile(tempDirectory, "upload-", ".tmp");
+			ChecksumOutputStream outputStream = new ChecksumOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(tempFilePath), BUFFER_SIZE));
+			try (outputStream) {
+				contentWriter.writeTo(outputStream);
+			}
+
+			String checksum = outputStream.getChecksum();
+			Path blobPath = resolveBlob(checksum);
+			if (touch(blobPath)) {
+				// 이미 있는 내용이면 새로 쓴 파일은 버린다. 시각을 갱신했으므로 정리 작업이 지우지 않는다
+				Files.delete(tempFilePath);
+			} else {
+				Files.createDirectories(blobPath.getParent());
+				Files.move(tempFilePath, blobPath, StandardCopyOption.ATOMIC_MOVE);
+			}
+
+			return new FileEntity(id, fileName, contentType, outputStream.getSize(), blobPath.toString(), checksum);
+		} catch (IOException e) {
+			deleteQuietly(tempFilePath);
+			throw new RuntimeException("파일 저장 실패", e);
+		} catch (RuntimeException e) {
+			deleteQuietly(tempFilePath);
+			throw e;
+		}
+	}
+
+	@Override
+	public InputStream get(Long id) {
+		return getFileStream(id);
+	}
+
+	@Override
+	public InputStream getFileStream(Long id) {
+		FileEntity fileEntity = fileRepository.findById(id)
+			.orElseThrow(() -> new NoSuchElementException("파일을 찾을 수 없습니다: " + id));
+		try {
+			return load(fileEntity).getInputStream();
+		} catch (IOException e) {
+			throw new RuntimeException("파일 스트림 생성 실패", e);
+		}
+	}
+
+	@Override
+	public Resource load(FileEntity fileEntity) {
+		String filePathStr = fileEntity.getFilePath();
+		if (filePathStr == null || filePathStr.isBlank() || !Files.isReadable(Paths.get(filePathStr))) {
+			throw new NoSuchElementException("파일이 존재하지 않습니다: " + fileEntity.getId());
+		}
+		return new FileSystemResource(Paths.get(filePathStr));
+	}
+
+	@Override
+	public boolean delete(Long id) {
+		return fileRepository.findById(id)
+			.map(this::delete)
+			.orElse(false);
+	}
+
+	/**
+	 * blob 은 다른 files 행과 공유될 수 있으므로 바로 지우지 않는다. 참조가 모두 사라지면 정리 작업이 지운다.
+	 * blob 디렉터리 밖의 파일은 공유되지 않으므로 바로 지운다.
+	 * @return blob 디렉터리 밖의 파일을 지웠는지 여부 (blob 은 항상 false)
+	 */
+	@Override
+	public boolean delete(FileEntity fileEntity) {
+		String filePathStr = fileEntity.getFilePath();
+		if (filePathStr == null || filePathStr.isBlank()) {
+			return false;
+		}
+		Path filePath = Paths.get(filePathStr).toAbsolutePath().normalize();
+		if (filePath.startsWith(objectsDirectory)) {
+			return false;
+		}
+		return deleteQuietly(filePath);
+	}
+
+	/**
+	 * 어떤 files 행도 참조하지 않는 blob 과 중단된 업로드의 임시 파일을 지운다.
+	 * 유예 시간 안에 쓰이거나 재사용된 파일은 건너뛴다.
+	 * @return 지운 파일 수
+	 */
+	@Override
+	public int sweepUnreferenced() {
+		Instant threshold = Instant.now().minus(SWEEP_GRACE_PERIOD);
+		int deletedCount = 0;
+
+		try (Stream<Path> tempFiles = Files.find(tempDirectory, 1,
+			(path, attributes) -> attributes.isRegularFile() && isOlderThan(attributes, threshold))) {
+			for (Path tempFile : (Iterable<Path>)tempFiles::iterator) {
+				deletedCount += deleteQuietly(tempFile) ? 1 : 0;
+			}
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("임시 파일 정리 실패", e);
+		}
+
+		try (Stream<Path> blobs = Files.find(objectsDirectory, SHARD_DEPTH + 1,
+			(path, attributes) -> attributes.isRegularFile() && isOlderThan(attributes, threshold))) {
+			Iterator<Path> iterator = blobs.iterator();
+			List<Path> batch = new ArrayList<>(SWEEP_BATCH_SIZE);
+			while (iterator.hasNext()) {
+				batch.add(iterator.next());
+				if (batch.size() == SWEEP_BATCH_SIZE || !iterator.hasNext()) {
+					deletedCount += deleteUnreferenced(batch, threshold);
+					batch.clear();
+				}
+			}
+		} catch (IOException | UncheckedIOException e) {
+			log.warn("blob 정리 실패", e);
+		}
+		return deletedCount;
+	}
+
+	/**
+	 * 참조되지 않은 blob 을 먼저 임시 디렉터리로 옮긴 뒤, 참조와 수정 시각을 다시 확인하고 지운다.
+	 * 옮기기 전에 같은 내용이 저장되었다면 시각이 갱신되어 있거나 files 행이 생겨 있으므로 되돌린다.
+	 * 옮긴 뒤에 저장되는 경우에는 저장 쪽에서 blob 이 없음을 보고 새로 쓴다.
+	 */
+	private int deleteUnreferenced(List<Path> blobs, Instant threshold) throws IOException {
+		List<String> checksums = blobs.stream().map(blob -> blob.getFileName().toString()).toList();
+		Set<String> referencedChecksums = new HashSet<>(fileRepository.findReferencedChecksums(checksums));
+
+		List<Path> candidates = new ArrayList<>();
+		for (Path blob : blobs) {
+			if (!referencedChecksums.contains(blob.getFileName().toString()) && isOlderThan(blob, threshold)) {
+				candidates.add(blob);
+			}
+		}
+
+		List<Path> movedBlobs = new ArrayList<>(candidates.size());
+		for (Path blob : candidates) {
+			try {
+				Files.move(blob, sweepPath(blob), StandardCopyOption.ATOMIC_MOVE);
+				movedBlobs.add(blob);
+			} catch (NoSuchFileException e) {
+				// 다른 정리 작업이 먼저 옮겼다
+			}
+		}
+		if (movedBlobs.isEmpty()) {
+			return 0;
+		}
+
+		List<String> movedChecksums = movedBlobs.stream().map(blob -> blob.getFileName().toString()).toList();
+		Set<String> stillReferenced = new HashSet<>(fileRepository.findReferencedChecksums(movedChecksums));
+
+		int deletedCount = 0;
+		for (Path blob : movedBlobs) {
+			Path sweepPath = sweepPath(blob);
+			if (stillReferenced.contains(blob.getFileName().toString()) || !isOlderThan(sweepPath, threshold)) {
+				// 같은 내용이므로 그 사이 저장 쪽에서 새로 썼더라도 덮어써도 된다
+				Files.move(sweepPath, blob, StandardCopyOption.ATOMIC_MOVE);
+			} else if (deleteQuietly(sweepPath)) {
+				deletedCount++;
+			}
+		}
+		return deletedCount;
+	}
+
+	private Path sweepPath(Path blob) {
+		return tempDirectory.resolve("sweep-" + blob.getFileName());
+	}
+
+	/**
+	 * blob 의 수정 시각을 지금으로 갱신한다.
+	 * @return blob 이 있었는지 여부 (없으면 정리 작업이 지웠거나 옮긴 것이므로 새로 써야 한다)
+	 */
+	private static boolean touch(Path blobPath) throws IOException {
+		try {
+			Files.setLastModifiedTime(blobPath, FileTime.from(Instant.now()));
+			return true;
+		} catch (NoSuchFileException e) {
+			return false;
+		}
+	}
+
+	private static boolean isOlderThan(Path path, Instant threshold) throws IOException {
+		return Files.getLastModifiedTime(path).toInstant().isBefore(threshold);
+	}
+
+	private Path resolveBlob(String checksum) {
+		Path shardDirectory = objectsDirectory;
+		for (int depth = 0; depth < SHARD_DEPTH; depth++) {
+			shardDirectory = shardDirectory.resolve(checksum.substring(depth * 2, depth * 2 + 2));
+		}
+		return shardDirectory.resolve(checksum);
+	}
+
+	private static boolean isOlderThan(BasicFileAttributes attributes, Instant threshold) {
+		return attributes.lastModifiedTime().toInstant().isBefore(threshold);
+	}
+
+	private static boolean deleteQuietly(Path path) {
+		if (path == null) {
+			return false;
+		}
+		try {
+			return Files.deleteIfExists(path);
+		} catch (IOException e) {
+			log.warn("파일 삭제 실패: {}", path, e);
+			return false;
+		}
+	}
+}
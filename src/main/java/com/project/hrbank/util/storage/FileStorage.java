@@ -1,11 +1,51 @@
 package com.project.hrbank.util.storage;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+
+import org.springframework.core.io.Resource;
 
 import com.project.hrbank.entity.FileEntity;
 
 public interface FileStorage {
 
+	/**
+	 * 파일 내용을 스트림으로 저장한다. 내용 전체를 메모리에 올리지 않으며, 크기와 체크섬은 쓰는 동안 계산한다.
+	 * 저장 도중 실패하면 일부만 쓰인 파일은 남지 않는다.
+	 * @param id 파일 ID (없다면 null 가능)
+	 * @param fileName 저장할 파일 이름
+	 * @param contentType 저장할 파일 타입
+	 * @param contentWriter 저장할 내용을 출력 스트림에 쓰는 함수
+	 * @return 파일 메타데이터(FileEntity)
+	 */
+	FileEntity saveFile(Long id, String fileName, String contentType, ContentWriter contentWriter);
+
+	/**
+	 * @param id 파일 ID (없다면 null 가능)
+	 * @param content 저장할 파일 내용 (닫지 않는다)
+	 * @param fileName 저장할 파일 이름
+	 * @param contentType 저장할 파일 타입
+	 * @return 파일 메타데이터(FileEntity)
+	 */
+	default FileEntity saveFile(Long id, InputStream content, String fileName, String contentType) {
+		return saveFile(id, fileName, contentType, content::transferTo);
+	}
+
+	/**
+	 * @param id 파일 ID (없다면 null 가능)
+	 * @param content 저장할 파일 내용 (닫지 않는다)
+	 * @param fileName 저장할 파일 이름
+	 * @param contentType 저장할 파일 타입
+	 * @return 파일 메타데이터(FileEntity)
+	 */
+	default FileEntity saveFile(Long id, ReadableByteChannel content, String fileName, String contentType) {
+		return saveFile(id, Channels.newInputStream(content), fileName, contentType);
+	}
+
 	/**
 	 *
 	 * @param id 파일 ID (없다면 null 가능)
@@ -14,7 +54,9 @@ public interface FileStorage {
 	 * @param contentType 저장할 파일 타입
 	 * @return 파일 메타데이터(FileEntity)
 	 */
-	FileEntity saveFile(Long id, byte[] fileData, String fileName, String contentType);
+	default FileEntity saveFile(Long id, byte[] fileData, String fileName, String contentType) {
+		return saveFile(id, new ByteArrayInputStream(fileData), fileName, contentType);
+	}
 
 	/**
 	 * 저장된 파일을 가져오기
@@ -30,10 +72,43 @@ public interface FileStorage {
 	 */
 	InputStream getFileStream(Long id);
 
+	/**
+	 * 저장된 파일을 경로 기반 Resource 로 가져온다. 메타데이터는 다시 조회하지 않고 fileEntity 의 경로만 사용한다.
+	 * 스트림을 미리 열지 않으므로 Range 요청이면 필요한 구간만 읽는다.
+	 * @param fileEntity 조회한 파일 메타데이터
+	 * @return 파일 Resource
+	 * @throws java.util.NoSuchElementException 저장소에 파일이 없는 경우
+	 */
+	Resource load(FileEntity fileEntity);
+
 	/**
 	 * 파일 삭제
 	 * @param id 파일의 ID
 	 * @return 삭제 성공 여부
 	 */
 	boolean delete(Long id);
+
+	/**
+	 * 조회해 둔 메타데이터로 파일 삭제 (files 행은 이미 지워졌을 수 있다)
+	 * @param fileEntity 삭제할 파일 메타데이터
+	 * @return 삭제 성공 여부
+	 */
+	boolean delete(FileEntity fileEntity);
+
+	/**
+	 * 어떤 files 행도 참조하지 않는 저장 파일을 정리한다. 파일을 행과 함께 바로 지우는 저장소는 할 일이 없다.
+	 * @return 지운 파일 수
+	 */
+	default int sweepUnreferenced() {
+		return 0;
+	}
+
+	@FunctionalInterface
+	interface ContentWriter {
+
+		/**
+		 * @param out 저장소가 연 출력 스트림 (닫지 않아도 된다)
+		 */
+		void writeTo(OutputStream out) throws IOException;
+	}
 }
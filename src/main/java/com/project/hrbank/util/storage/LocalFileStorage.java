@@ -1,30 +1,49 @@
 package com.project.hrbank.util.storage;
 
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.NoSuchElementException;
 
-
-import org.springframework.stereotype.Service;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 
 import com.project.hrbank.util.factory.FileHandlerFactory;
 import com.project.hrbank.entity.FileEntity;
 import com.project.hrbank.repository.FileRepository;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
-@Service
-@RequiredArgsConstructor
+/**
+ * 파일 이름을 그대로 유지해 확장자별 디렉터리에 저장하는 저장소. 이름이 겹치면 name(1).ext 처럼 번호를 붙인다.
+ */
+@Slf4j
 public class LocalFileStorage implements FileStorage {
-	private static final String STORAGE_PATH = "files/";
+	private static final String TEMP_FILE_PREFIX = ".upload-";
+	private static final String TEMP_FILE_SUFFIX = ".tmp";
+	private static final int BUFFER_SIZE = 64 * 1024;
 	private final FileHandlerFactory fileHandlerFactory;
 	private final FileRepository fileRepository;
+	private final Path storageDirectory;
+
+	/**
+	 * @param fileDirectory 저장 디렉터리 (hrBank.repository.file-directory, 상대 경로면 실행 디렉터리 기준)
+	 */
+	public LocalFileStorage(FileHandlerFactory fileHandlerFactory, FileRepository fileRepository,
+		String fileDirectory) {
+		this.fileHandlerFactory = fileHandlerFactory;
+		this.fileRepository = fileRepository;
+		this.storageDirectory = Paths.get(System.getProperty("user.dir")).resolve(fileDirectory);
+	}
 
 	@Override
-	public FileEntity saveFile(Long id, byte[] fileData, String fileName, String contentType) {
+	public FileEntity saveFile(Long id, String fileName, String contentType, ContentWriter contentWriter) {
+		Path tempFilePath = null;
 		try {
 			if (fileName == null || fileName.trim().isEmpty()) {
 				fileName = "unknown_file";
@@ -43,18 +62,29 @@ public class LocalFileStorage implements FileStorage {
 				case "jpg", "jpeg", "png" -> "images";
 				default -> "others";
 			};
-			Path directoryPath = Paths.get(STORAGE_PATH, subDirectory);
+			Path directoryPath = storageDirectory.resolve(subDirectory);
 			Files.createDirectories(directoryPath);
 
+			// 같은 디렉터리의 임시 파일에 모두 쓴 뒤 이름만 바꿔, 쓰는 중인 파일이 보이거나 남지 않게 한다
+			tempFilePath = Files.createTempFile(directoryPath, TEMP_FILE_PREFIX, TEMP_FILE_SUFFIX);
+			ChecksumOutputStream outputStream = new ChecksumOutputStream(
+				new BufferedOutputStream(Files.newOutputStream(tempFilePath), BUFFER_SIZE));
+			try (outputStream) {
+				contentWriter.writeTo(outputStream);
+			}
+
 			String uniqueFileName = generateUniqueFileName(baseName, extension, directoryPath.toString());
 			Path filePath = Paths.get(directoryPath.toString(), uniqueFileName);
+			Files.move(tempFilePath, filePath, StandardCopyOption.ATOMIC_MOVE);
 
-			Files.write(filePath, fileData);
-			long fileSize = Files.size(filePath);
-
-			return new FileEntity(id, uniqueFileName, contentType, fileSize, filePath.toString());
+			return new FileEntity(id, uniqueFileName, contentType, outputStream.getSize(), filePath.toString(),
+				outputStream.getChecksum());
 		} catch (IOException e) {
+			deleteQuietly(tempFilePath);
 			throw new RuntimeException("파일 저장 실패", e);
+		} catch (RuntimeException e) {
+			deleteQuietly(tempFilePath);
+			throw e;
 		}
 	}
 
@@ -99,12 +129,24 @@ public class LocalFileStorage implements FileStorage {
 
 
 	@Override
-	public boolean delete(Long id) {
-		try {
+	public Resource load(FileEntity fileEntity) {
+		String filePathStr = fileEntity.getFilePath();
+		if (filePathStr == null || filePathStr.isBlank() || !Files.isReadable(Paths.get(filePathStr))) {
+			throw new NoSuchElementException("파일이 존재하지 않습니다: " + fileEntity.getId());
+		}
+		return new FileSystemResource(Paths.get(filePathStr));
+	}
 
-			FileEntity fileEntity = fileRepository.findById(id)
-				.orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다: " + id));
+	@Override
+	public boolean delete(Long id) {
+		FileEntity fileEntity = fileRepository.findById(id)
+			.orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다: " + id));
+		return delete(fileEntity);
+	}
 
+	@Override
+	public boolean delete(FileEntity fileEntity) {
+		try {
 			String filePathStr = fileEntity.getFilePath();
 			if (filePathStr == null || filePathStr.isBlank()) {
 				throw new IllegalStateException("파일 경로가 유효하지 않습니다.");
@@ -117,6 +159,17 @@ public class LocalFileStorage implements FileStorage {
 		}
 	}
 
+	private static void deleteQuietly(Path tempFilePath) {
+		if (tempFilePath == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(tempFilePath);
+		} catch (IOException e) {
+			log.warn("임시 파일 삭제 실패: {}", tempFilePath, e);
+		}
+	}
+
 	private static String generateUniqueFileName(String baseName, String extension, String directoryPath) {
 		String newFileName = baseName + "." + extension;
 		Path filePath = Paths.get(directoryPath, newFileName);
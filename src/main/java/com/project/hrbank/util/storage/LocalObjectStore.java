@@ -0,0 +1,146 @@
+package com.project.hrbank.util.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.NoSuchElementException;
+
+import com.project.hrbank.util.storage.FileStorage.ContentWriter;
+
+/**
+ * 디렉터리를 객체 저장소처럼 쓰는 구현. 테스트와 로컬 개발에서 S3 대신 사용한다.
+ * key 의 '/' 는 하위 디렉터리가 되고, 임시 파일에 모두 쓴 뒤 이름을 바꿔 쓰는 중인 객체가 보이지 않게 한다.
+ */
+public class LocalObjectStore implements ObjectStore {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final Path rootDirectory;
+	private final Path tempDirectory;
+
+	public LocalObjectStore(String directory) {
+		this.rootDirectory = Paths.get(System.getProperty("user.dir")).resolve(directory).normalize();
+		this.tempDirectory = rootDirectory.resolve(".tmp");
+		try {
+			Files.createDirectories(tempDirectory);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	@Override
+	public void put(String key, String contentType, ContentWriter contentWriter) throws IOException {
+		Path objectPath = resolve(key);
+		Path tempFilePath = Files.createTempFile(tempDirectory, "put-", ".tmp");
+		try {
+			try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFilePath),
+				BUFFER_SIZE)) {
+				contentWriter.writeTo(outputStream);
+			}
+			Files.createDirectories(objectPath.getParent());
+			Files.move(tempFilePath, objectPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(tempFilePath);
+		}
+	}
+
+	@Override
+	public InputStream get(String key) throws IOException {
+		Path objectPath = resolve(key);
+		if (!Files.isReadable(objectPath)) {
+			throw new NoSuchElementException("객체가 존재하지 않습니다: " + key);
+		}
+		return Files.newInputStream(objectPath);
+	}
+
+	@Override
+	public InputStream get(String key, long start, long end) throws IOException {
+		Path objectPath = resolve(key);
+		if (!Files.isReadable(objectPath)) {
+			throw new NoSuchElementException("객체가 존재하지 않습니다: " + key);
+		}
+		SeekableByteChannel channel = Files.newByteChannel(objectPath).position(start);
+		return new RangeInputStream(Channels.newInputStream(channel), end - start + 1);
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.isRegularFile(resolve(key));
+	}
+
+	@Override
+	public boolean delete(String key) throws IOException {
+		return Files.deleteIfExists(resolve(key));
+	}
+
+	private Path resolve(String key) {
+		Path objectPath = rootDirectory.resolve(key).normalize();
+		if (key.isBlank() || !objectPath.startsWith(rootDirectory) || objectPath.startsWith(tempDirectory)) {
+			throw new IllegalArgumentException("잘못된 객체 key: " + key);
+		}
+		return objectPath;
+	}
+
+	/**
+	 * 정해진 길이까지만 읽는 스트림
+	 */
+	private static final class RangeInputStream extends FilterInputStream {
+
+		private long remaining;
+
+		private RangeInputStream(InputStream in, long length) {
+			super(in);
+			this.remaining = length;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int b = in.read();
+			if (b >= 0) {
+				remaining--;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (remaining <= 0) {
+				return -1;
+			}
+			int read = in.read(b, off, (int)Math.min(len, remaining));
+			if (read > 0) {
+				remaining -= read;
+			}
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = in.skip(Math.min(n, remaining));
+			remaining -= skipped;
+			return skipped;
+		}
+
+		@Override
+		public int available() throws IOException {
+			return (int)Math.min(in.available(), remaining);
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.project.hrbank.util.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.project.hrbank.util.storage.FileStorage.ContentWriter;
+
+/**
+ * key 로 객체를 저장하고 읽는 저장소 (S3 호환 API 또는 로컬 디렉터리).
+ * 여러 노드가 같은 저장소를 바라보므로 파일이 특정 노드의 디스크에 묶이지 않는다.
+ */
+public interface ObjectStore {
+
+	/**
+	 * 내용을 스트림으로 올린다. 내용 전체를 메모리에 올리지 않으며, 쓰는 도중 실패하면 객체가 만들어지지 않는다.
+	 * @param key 객체 key
+	 * @param contentType 객체 타입
+	 * @param contentWriter 올릴 내용을 출력 스트림에 쓰는 함수
+	 */
+	void put(String key, String contentType, ContentWriter contentWriter) throws IOException;
+
+	/**
+	 * @param key 객체 key
+	 * @return 객체 내용 스트림 (호출한 쪽에서 닫는다)
+	 * @throws java.util.NoSuchElementException 객체가 없는 경우
+	 */
+	InputStream get(String key) throws IOException;
+
+	/**
+	 * 객체의 일부만 읽는다. (Range 요청에 필요한 구간만 받아 오며, 앞부분을 읽고 버리지 않는다)
+	 * @param key 객체 key
+	 * @param start 시작 위치
+	 * @param end 끝 위치 (포함)
+	 * @return start 부터 end 까지의 내용 스트림 (호출한 쪽에서 닫는다)
+	 * @throws java.util.NoSuchElementException 객체가 없는 경우
+	 */
+	InputStream get(String key, long start, long end) throws IOException;
+
+	boolean exists(String key) throws IOException;
+
+	/**
+	 * @return 객체가 있었고 지웠는지 여부 (S3 는 존재 여부를 알려주지 않으므로 항상 true)
+	 */
+	boolean delete(String key) throws IOException;
+}
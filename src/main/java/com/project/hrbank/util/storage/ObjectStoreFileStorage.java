@@ -0,0 +1,222 @@
+package com.project.hrbank.util.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.repository.FileRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 객체 저장소에 파일을 두는 저장소. 파일이 한 노드의 디스크에 묶이지 않아 어느 노드에서든 같은 파일을 읽는다.
+ * 객체 저장소에 있는 파일의 file_path 는 "object:{key}" 이고, 그 밖의 경로는 로컬 파일로 읽는다.
+ * <ul>
+ *     <li>object-store: 새 파일을 바로 객체 저장소에 올린다.</li>
+ *     <li>tiered: 새 파일은 hotStorage(로컬)에 쓰고, 객체 저장소에는 오래된 백업 파일만 둔다.</li>
+ * </ul>
+ * object-store 방식은 백업 파일도 바로 객체 저장소에 올리므로, {@link #ageOutBackups} 로 옮기는 것은 tiered 방식뿐이다.
+ */
+@Slf4j
+public class ObjectStoreFileStorage implements FileStorage {
+
+	public static final String OBJECT_PATH_PREFIX = "object:";
+
+	private static final String UPLOAD_KEY_PREFIX = "files/";
+	private static final String BACKUP_KEY_PREFIX = "backups/";
+
+	private final FileStorage hotStorage;
+	private final ObjectStore objectStore;
+	private final FileRepository fileRepository;
+
+	/**
+	 * 새 파일을 바로 객체 저장소에 올리는 저장소 (object-store)
+	 */
+	public ObjectStoreFileStorage(ObjectStore objectStore, FileRepository fileRepository) {
+		this(null, objectStore, fileRepository);
+	}
+
+	/**
+	 * @param hotStorage 새 파일을 쓸 로컬 저장소 (tiered), null 이면 바로 객체 저장소에 올린다
+	 */
+	public ObjectStoreFileStorage(FileStorage hotStorage, ObjectStore objectStore, FileRepository fileRepository) {
+		this.hotStorage = hotStorage;
+		this.objectStore = objectStore;
+		this.fileRepository = fileRepository;
+	}
+
+	@Override
+	public FileEntity saveFile(Long id, String fileName, String contentType, ContentWriter contentWriter) {
+		if (hotStorage != null) {
+			return hotStorage.saveFile(id, fileName, contentType, contentWriter);
+		}
+		if (fileName == null || fileName.isBlank()) {
+			fileName = "unknown_file";
+		}
+
+		String key = UPLOAD_KEY_PREFIX + UUID.randomUUID();
+		AtomicReference<ChecksumOutputStream> written = new AtomicReference<>();
+		try {
+			objectStore.put(key, contentType, outputStream -> {
+				ChecksumOutputStream checksumOutputStream = new ChecksumOutputStream(outputStream);
+				written.set(checksumOutputStream);
+				contentWriter.writeTo(checksumOutputStream);
+				checksumOutputStream.flush();
+			});
+		} catch (IOException e) {
+			throw new RuntimeException("파일 저장 실패", e);
+		}
+
+		ChecksumOutputStream checksumOutputStream = written.get();
+		return new FileEntity(id, fileName, contentType, checksumOutputStream.getSize(), OBJECT_PATH_PREFIX + key,
+			checksumOutputStream.getChecksum());
+	}
+
+	@Override
+	public InputStream get(Long id) {
+		return getFileStream(id);
+	}
+
+	@Override
+	public InputStream getFileStream(Long id) {
+		FileEntity fileEntity = fileRepository.findById(id)
+			.orElseThrow(() -> new NoSuchElementException("파일을 찾을 수 없습니다: " + id));
+		try {
+			return load(fileEntity).getInputStream();
+		} catch (IOException e) {
+			throw new RuntimeException("파일 스트림 생성 실패", e);
+		}
+	}
+
+	@Override
+	public Resource load(FileEntity fileEntity) {
+		String filePathStr = fileEntity.getFilePath();
+		if (isObjectPath(filePathStr)) {
+			String key = toKey(filePathStr);
+			if (!exists(key)) {
+				throw new NoSuchElementException("파일이 존재하지 않습니다: " + fileEntity.getId());
+			}
+			return new ObjectStoreResource(objectStore, key, fileEntity.getFileName(), fileEntity.getSize());
+		}
+		if (hotStorage != null) {
+			return hotStorage.load(fileEntity);
+		}
+		if (filePathStr == null || filePathStr.isBlank() || !Files.isReadable(Paths.get(filePathStr))) {
+			throw new NoSuchElementException("파일이 존재하지 않습니다: " + fileEntity.getId());
+		}
+		return new FileSystemResource(Paths.get(filePathStr));
+	}
+
+	@Override
+	public boolean delete(Long id) {
+		FileEntity fileEntity = fileRepository.findById(id)
+			.orElseThrow(() -> new IllegalArgumentException("파일을 찾을 수 없습니다: " + id));
+		return delete(fileEntity);
+	}
+
+	@Override
+	public boolean delete(FileEntity fileEntity) {
+		String filePathStr = fileEntity.getFilePath();
+		if (filePathStr == null || filePathStr.isBlank()) {
+			throw new IllegalStateException("파일 경로가 유효하지 않습니다.");
+		}
+		try {
+			if (isObjectPath(filePathStr)) {
+				return objectStore.delete(toKey(filePathStr));
+			}
+			if (hotStorage != null) {
+				return hotStorage.delete(fileEntity);
+			}
+			return Files.deleteIfExists(Paths.get(filePathStr));
+		} catch (IOException e) {
+			throw new RuntimeException("파일 삭제 실패: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public int sweepUnreferenced() {
+		return hotStorage == null ? 0 : hotStorage.sweepUnreferenced();
+	}
+
+	/**
+	 * before 이전에 만들어져 아직 hotStorage 에 있는 백업 파일을 객체 저장소로 옮긴다. (tiered 방식)
+	 * 로컬 파일은 그 파일을 쓴 노드에만 있으므로, 이 노드에서 읽을 수 없는 파일은 다른 노드의 몫으로 보고 건너뛴다.
+	 * 객체를 올리고 files 행의 경로를 바꾼 뒤에 로컬 사본을 지우므로, 중간에 실패해도 파일을 잃지 않는다.
+	 * (남는 것은 참조되지 않는 객체나 로컬 파일뿐이다)
+	 * @param before 기준 시각
+	 * @param batchSize 한 번에 조회할 파일 수
+	 * @return 옮긴 파일 수
+	 */
+	public int ageOutBackups(LocalDateTime before, int batchSize) {
+		if (hotStorage == null) {
+			return 0;
+		}
+		int movedCount = 0;
+		long lastFileId = 0;
+		List<FileEntity> files;
+		do {
+			files = fileRepository.findLocalBackupFiles(lastFileId, before, PageRequest.of(0, batchSize));
+			for (FileEntity fileEntity : files) {
+				lastFileId = fileEntity.getId();
+				movedCount += moveToObjectStore(fileEntity) ? 1 : 0;
+			}
+		} while (files.size() == batchSize);
+		return movedCount;
+	}
+
+	private boolean moveToObjectStore(FileEntity fileEntity) {
+		String localPathStr = fileEntity.getFilePath();
+		Path localPath = Paths.get(localPathStr);
+		if (!Files.isReadable(localPath)) {
+			log.debug("이 노드에 없는 백업 파일은 건너뜁니다: fileId={}, path={}", fileEntity.getId(), localPath);
+			return false;
+		}
+
+		String key = BACKUP_KEY_PREFIX + fileEntity.getId() + "/" + fileEntity.getFileName();
+		try {
+			objectStore.put(key, fileEntity.getContentType(), outputStream -> Files.copy(localPath, outputStream));
+			fileEntity.moveTo(OBJECT_PATH_PREFIX + key);
+			fileRepository.save(fileEntity);
+		} catch (IOException | RuntimeException e) {
+			log.warn("백업 파일을 객체 저장소로 옮기지 못했습니다: fileId={}", fileEntity.getId(), e);
+			return false;
+		}
+
+		// 공유 blob 일 수 있으므로 직접 지우지 않고 hotStorage 에 맡긴다 (blob 은 참조가 없어지면 sweep 이 지운다)
+		try {
+			hotStorage.delete(new FileEntity(fileEntity.getId(), fileEntity.getFileName(), fileEntity.getContentType(),
+				fileEntity.getSize(), localPathStr, fileEntity.getChecksum()));
+		} catch (RuntimeException e) {
+			log.warn("옮긴 백업 파일의 로컬 사본 삭제 실패: {}", localPath, e);
+		}
+		return true;
+	}
+
+	private boolean exists(String key) {
+		try {
+			return objectStore.exists(key);
+		} catch (IOException e) {
+			throw new RuntimeException("파일 조회 실패", e);
+		}
+	}
+
+	private static boolean isObjectPath(String filePath) {
+		return filePath != null && filePath.startsWith(OBJECT_PATH_PREFIX);
+	}
+
+	private static String toKey(String filePath) {
+		return filePath.substring(OBJECT_PATH_PREFIX.length());
+	}
+}
@@ -0,0 +1,110 @@
+package com.project.hrbank.util.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.core.io.AbstractResource;
+
+/**
+ * 객체 저장소의 객체를 가리키는 Resource. 스트림은 getInputStream 을 호출할 때 연다.
+ * 크기는 files 행의 값을 쓰므로 응답을 쓰기 전에 객체를 다시 조회하지 않는다.
+ * Range 응답은 스트림을 연 뒤 시작 위치까지 skip 하므로, 실제 요청은 첫 read 때 skip 한 위치부터 ranged GET 으로 보낸다.
+ */
+class ObjectStoreResource extends AbstractResource {
+
+	private final ObjectStore objectStore;
+	private final String key;
+	private final String fileName;
+	private final long contentLength;
+
+	ObjectStoreResource(ObjectStore objectStore, String key, String fileName, long contentLength) {
+		this.objectStore = objectStore;
+		this.key = key;
+		this.fileName = fileName;
+		this.contentLength = contentLength;
+	}
+
+	@Override
+	public InputStream getInputStream() {
+		return new RangedObjectInputStream();
+	}
+
+	@Override
+	public boolean exists() {
+		return true;
+	}
+
+	@Override
+	public long contentLength() {
+		return contentLength;
+	}
+
+	@Override
+	public String getFilename() {
+		return fileName;
+	}
+
+	@Override
+	public String getDescription() {
+		return "Object [" + key + "]";
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		return this == other || (other instanceof ObjectStoreResource that && key.equals(that.key));
+	}
+
+	@Override
+	public int hashCode() {
+		return key.hashCode();
+	}
+
+	/**
+	 * 첫 read 전까지의 skip 은 시작 위치만 옮기고, 첫 read 에서 그 위치부터 객체를 요청하는 스트림
+	 */
+	private final class RangedObjectInputStream extends InputStream {
+
+		private long position;
+		private InputStream delegate;
+
+		@Override
+		public int read() throws IOException {
+			return open().read();
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return open().read(b, off, len);
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			if (delegate != null) {
+				return delegate.skip(n);
+			}
+			long skipped = Math.max(0, Math.min(n, contentLength - position));
+			position += skipped;
+			return skipped;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (delegate != null) {
+				delegate.close();
+			}
+		}
+
+		private InputStream open() throws IOException {
+			if (delegate == null) {
+				if (position == 0) {
+					delegate = objectStore.get(key);
+				} else if (position >= contentLength) {
+					delegate = InputStream.nullInputStream();
+				} else {
+					delegate = objectStore.get(key, position, contentLength - 1);
+				}
+			}
+			return delegate;
+		}
+	}
+}
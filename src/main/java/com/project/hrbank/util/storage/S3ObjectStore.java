@@ -0,0 +1,218 @@
+package com.project.hrbank.util.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.project.hrbank.util.storage.FileStorage.ContentWriter;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+/**
+ * S3 호환 API (AWS S3, MinIO 등) 를 쓰는 객체 저장소.
+ * 내용을 part 크기만큼만 버퍼에 모으고, part 하나를 넘으면 multipart upload 로 올린다.
+ * 한 part 안에 끝나는 작은 파일은 PutObject 한 번으로 올린다.
+ */
+@Slf4j
+public class S3ObjectStore implements ObjectStore, AutoCloseable {
+
+	/**
+	 * S3 는 마지막 part 를 제외한 part 가 5MB 이상이어야 한다.
+	 */
+	public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+	private static final int NOT_FOUND = 404;
+
+	private final S3Client s3Client;
+	private final String bucket;
+	private final int partSize;
+
+	public S3ObjectStore(S3Client s3Client, String bucket, int partSize) {
+		if (bucket == null || bucket.isBlank()) {
+			throw new IllegalArgumentException("버킷 이름이 필요합니다.");
+		}
+		if (partSize < MIN_PART_SIZE) {
+			throw new IllegalArgumentException("part 크기는 5MB 이상이어야 합니다: " + partSize);
+		}
+		this.s3Client = s3Client;
+		this.bucket = bucket;
+		this.partSize = partSize;
+	}
+
+	@Override
+	public void put(String key, String contentType, ContentWriter contentWriter) throws IOException {
+		MultipartUploadOutputStream outputStream = new MultipartUploadOutputStream(key, contentType);
+		try {
+			contentWriter.writeTo(outputStream);
+			outputStream.complete();
+		} catch (IOException | RuntimeException e) {
+			outputStream.abort();
+			throw e;
+		}
+	}
+
+	@Override
+	public InputStream get(String key) {
+		try {
+			return s3Client.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build());
+		} catch (NoSuchKeyException e) {
+			throw new NoSuchElementException("객체가 존재하지 않습니다: " + key);
+		}
+	}
+
+	@Override
+	public InputStream get(String key, long start, long end) {
+		try {
+			return s3Client.getObject(GetObjectRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.range("bytes=" + start + "-" + end)
+				.build());
+		} catch (NoSuchKeyException e) {
+			throw new NoSuchElementException("객체가 존재하지 않습니다: " + key);
+		}
+	}
+
+	@Override
+	public boolean exists(String key) {
+		try {
+			s3Client.headObject(HeadObjectRequest.builder().bucket(bucket).key(key).build());
+			return true;
+		} catch (NoSuchKeyException e) {
+			return false;
+		} catch (S3Exception e) {
+			if (e.statusCode() == NOT_FOUND) {
+				return false;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public boolean delete(String key) {
+		s3Client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(key).build());
+		return true;
+	}
+
+	@Override
+	public void close() {
+		s3Client.close();
+	}
+
+	/**
+	 * part 크기의 버퍼가 차면 part 하나를 올리는 출력 스트림. 처음 버퍼가 찰 때 multipart upload 를 시작한다.
+	 */
+	private final class MultipartUploadOutputStream extends OutputStream {
+
+		private final String key;
+		private final String contentType;
+		private final byte[] buffer = new byte[partSize];
+		private final List<CompletedPart> completedParts = new ArrayList<>();
+		private int count;
+		private String uploadId;
+
+		private MultipartUploadOutputStream(String key, String contentType) {
+			this.key = key;
+			this.contentType = contentType;
+		}
+
+		@Override
+		public void write(int b) {
+			if (count == buffer.length) {
+				uploadPart();
+			}
+			buffer[count++] = (byte)b;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			while (len > 0) {
+				if (count == buffer.length) {
+					uploadPart();
+				}
+				int length = Math.min(len, buffer.length - count);
+				System.arraycopy(b, off, buffer, count, length);
+				count += length;
+				off += length;
+				len -= length;
+			}
+		}
+
+		private void complete() {
+			if (uploadId == null) {
+				s3Client.putObject(PutObjectRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.contentType(contentType)
+					.build(), RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, count)));
+				return;
+			}
+			if (count > 0) {
+				uploadPart();
+			}
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+				.build());
+		}
+
+		private void uploadPart() {
+			if (uploadId == null) {
+				uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.contentType(contentType)
+					.build()).uploadId();
+			}
+
+			int partNumber = completedParts.size() + 1;
+			String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.partNumber(partNumber)
+				.contentLength((long)count)
+				.build(), RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, count))).eTag();
+			completedParts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+			count = 0;
+		}
+
+		/**
+		 * 올리다 만 part 는 중단하지 않으면 버킷에 남아 비용이 계속 나간다.
+		 */
+		private void abort() {
+			if (uploadId == null) {
+				return;
+			}
+			try {
+				s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.uploadId(uploadId)
+					.build());
+			} catch (RuntimeException e) {
+				log.warn("multipart upload 중단 실패: key={}, uploadId={}", key, uploadId, e);
+			}
+		}
+	}
+}
@@ -0,0 +1,2 @@
+-- content-addressed 저장소에서 files 행이 blob 을 참조한다. blob 정리 시 checksum 으로 참조 여부를 확인한다.
+CREATE INDEX IF NOT EXISTS idx_files_checksum ON files (checksum);
@@ -0,0 +1,4 @@
+-- 진행 중인 백업을 실행하는 노드가 주기적으로 갱신한다.
+-- 갱신이 끊긴 진행 중 백업만 실행하던 노드가 종료된 것으로 보고 실패로 정리한다. (다른 노드가 실행 중인 백업은 건드리지 않는다)
+ALTER TABLE backups
+    ADD COLUMN IF NOT EXISTS heartbeat_at TIMESTAMP;
@@ -0,0 +1,3 @@
+-- 부서별 직원 수는 employee_distribution_rollups 를 부서 단위로 합산해 읽는다.
+-- 직원 변경마다 두 집계 테이블을 갱신하고 따로 바로잡던 중복을 없앤다.
+DROP TABLE IF EXISTS department_headcounts;
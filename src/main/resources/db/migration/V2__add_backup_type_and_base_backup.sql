@@ -0,0 +1,11 @@
+-- 증분 백업(INCREMENTAL)은 기준이 되는 전체 백업(FULL)을 가리킨다. 기존 백업은 모두 전체 백업이다.
+ALTER TABLE backups
+    ADD COLUMN IF NOT EXISTS type           VARCHAR NOT NULL DEFAULT 'FULL',
+    ADD COLUMN IF NOT EXISTS base_backup_id BIGINT;
+
+ALTER TABLE backups
+    DROP CONSTRAINT IF EXISTS fk_backups_base_backup_id;
+
+ALTER TABLE backups
+    ADD CONSTRAINT fk_backups_base_backup_id FOREIGN KEY (base_backup_id)
+        REFERENCES backups (backup_id);
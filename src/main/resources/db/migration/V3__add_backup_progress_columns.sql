@@ -0,0 +1,4 @@
+-- 백그라운드로 실행되는 백업의 진행 상황 (기록한 행 수, 바이트 수)
+ALTER TABLE backups
+    ADD COLUMN IF NOT EXISTS rows_written  BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN IF NOT EXISTS bytes_written BIGINT NOT NULL DEFAULT 0;
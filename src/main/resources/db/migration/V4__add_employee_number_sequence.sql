@@ -0,0 +1,33 @@
+-- 직원 번호 발급용 시퀀스. 애플리케이션이 nextval 한 번으로 50개 번호 블록을 가져간다. (EmployeeNumberGenerator.BLOCK_SIZE)
+CREATE SEQUENCE IF NOT EXISTS employee_number_seq START WITH 1 INCREMENT BY 50;
+
+-- 예전에는 번호가 겹칠 수 있었으므로, 같은 번호는 가장 먼저 등록된 직원만 유지하고 나머지는 기존 번호 뒤의 새 번호를 받는다.
+WITH max_number AS (
+    SELECT COALESCE(MAX(SUBSTRING(employee_number FROM 4)::BIGINT), 0) AS value
+    FROM employees
+    WHERE employee_number ~ '^EMP[0-9]+$'
+),
+duplicates AS (
+    SELECT employee_id, ROW_NUMBER() OVER (ORDER BY employee_id) AS offset_number
+    FROM (
+        SELECT employee_id, ROW_NUMBER() OVER (PARTITION BY employee_number ORDER BY employee_id) AS occurrence
+        FROM employees
+    ) numbered
+    WHERE occurrence > 1
+)
+UPDATE employees e
+SET employee_number = 'EMP' || LPAD(n.value, GREATEST(LENGTH(n.value), 3), '0')
+FROM duplicates d
+CROSS JOIN max_number m
+CROSS JOIN LATERAL (SELECT (m.value + d.offset_number)::TEXT AS value) n
+WHERE e.employee_id = d.employee_id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_employees_employee_number ON employees (employee_number);
+
+-- 다음 블록이 기존 번호 뒤에서 시작하도록 시퀀스를 가장 큰 번호로 맞춘다. (직원이 없으면 1 부터)
+SELECT setval('employee_number_seq', GREATEST(m.value, 1), m.value > 0)
+FROM (
+    SELECT COALESCE(MAX(SUBSTRING(employee_number FROM 4)::BIGINT), 0) AS value
+    FROM employees
+    WHERE employee_number ~ '^EMP[0-9]+$'
+) m;
@@ -0,0 +1,18 @@
+-- DEPARTMENT HEADCOUNT
+-- 부서별 소속 직원 수. 직원 등록/삭제/부서 이동 시 같은 트랜잭션에서 증감하고, 정기적으로 실제 값과 맞춘다.
+CREATE TABLE IF NOT EXISTS department_headcounts
+(
+    department_id  BIGINT NOT NULL,
+    employee_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT pk_department_headcounts_department_id PRIMARY KEY (department_id),
+    CONSTRAINT fk_department_headcounts_department_id
+        FOREIGN KEY (department_id)
+            REFERENCES departments (department_id) ON DELETE CASCADE
+);
+
+INSERT INTO department_headcounts (department_id, employee_count)
+SELECT d.department_id, COUNT(e.employee_id)
+FROM departments d
+LEFT JOIN employees e ON e.department_id = d.department_id
+GROUP BY d.department_id
+ON CONFLICT (department_id) DO UPDATE SET employee_count = EXCLUDED.employee_count;
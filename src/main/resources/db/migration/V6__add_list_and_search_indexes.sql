@@ -0,0 +1,32 @@
+-- 목록(keyset) 정렬과 검색 인덱스
+-- schema.sql 로 만든 기존 DB 에는 이미 있을 수 있으므로 IF NOT EXISTS 로 만든다.
+
+-- 직원 이름/이메일, 변경 이력 메모/IP 부분 일치 검색용 trigram 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 부서 목록은 (정렬 컬럼, department_id) keyset 으로 조회하므로 정렬 기준마다 복합 인덱스를 둔다
+CREATE INDEX IF NOT EXISTS idx_departments_name_id ON departments (name, department_id);
+CREATE INDEX IF NOT EXISTS idx_departments_established_date_id ON departments (established_date, department_id);
+CREATE INDEX IF NOT EXISTS idx_departments_created_at_id ON departments (created_at, department_id);
+
+-- 직원 목록 keyset 정렬 (employee_number 는 유니크 인덱스를 그대로 사용)
+CREATE INDEX IF NOT EXISTS idx_employees_name_id ON employees (name, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_hire_date_id ON employees (hire_date, employee_id);
+CREATE INDEX IF NOT EXISTS idx_employees_department_id ON employees (department_id);
+-- 이름/이메일 앞부분 일치 (LOWER(컬럼) LIKE '검색어%')
+CREATE INDEX IF NOT EXISTS idx_employees_name_prefix ON employees (LOWER(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_email_prefix ON employees (LOWER(email) text_pattern_ops);
+-- 이름/이메일 부분 일치 (컬럼 ILIKE '%검색어%')
+CREATE INDEX IF NOT EXISTS idx_employees_name_trgm ON employees USING gin (name gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employees_email_trgm ON employees USING gin (email gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_backups_started_at_id ON backups (started_at, backup_id);
+
+CREATE INDEX IF NOT EXISTS idx_employee_change_logs_changed_at_id ON employee_change_logs (changed_at, log_id);
+-- 사원 번호/유형은 동등 조건으로 찾고, 기본 정렬(changed_at, log_id)까지 인덱스 순서로 읽는다
+CREATE INDEX IF NOT EXISTS idx_employee_change_logs_employee_number
+    ON employee_change_logs (employee_number, changed_at, log_id);
+CREATE INDEX IF NOT EXISTS idx_employee_change_logs_type ON employee_change_logs (type, changed_at, log_id);
+-- '%검색어%' 는 B-tree 를 쓸 수 없으므로 ILIKE 를 지원하는 trigram GIN 인덱스를 둔다
+CREATE INDEX IF NOT EXISTS idx_employee_change_logs_memo_trgm ON employee_change_logs USING gin (memo gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_employee_change_logs_ip_trgm ON employee_change_logs USING gin (ip gin_trgm_ops);
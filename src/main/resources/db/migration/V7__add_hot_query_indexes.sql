@@ -0,0 +1,25 @@
+-- 저장소 쿼리(@Query, 파생 쿼리, JdbcTemplate)별 인덱스
+-- HotQueryPlanTest 가 각 쿼리의 실행 계획에 Seq Scan 이 없는지 확인한다.
+
+-- 상태별 직원 수(countByStatus), 상태 + 입사일 범위 집계(countEmployees)
+CREATE INDEX IF NOT EXISTS idx_employees_status_hire_date ON employees (status, hire_date);
+-- 상태 + 부서/직급 조건 조회. 부서/직급 분포 통계는 직원 테이블 대신 집계 테이블(employee_distribution_rollups)을 읽는다.
+CREATE INDEX IF NOT EXISTS idx_employees_status_department_id ON employees (status, department_id);
+CREATE INDEX IF NOT EXISTS idx_employees_status_position ON employees (status, position);
+
+-- 마지막 백업(findLastBackup: ORDER BY ended_at DESC LIMIT 1)
+CREATE INDEX IF NOT EXISTS idx_backups_ended_at ON backups (ended_at);
+-- 마지막 완료 백업(findLastCompletedBackup), 마지막 완료 전체 백업(findLastCompletedFullBackup)
+CREATE INDEX IF NOT EXISTS idx_backups_completed_started_at
+    ON backups (started_at, backup_id) WHERE status = 'COMPLETED';
+CREATE INDEX IF NOT EXISTS idx_backups_completed_full_started_at
+    ON backups (started_at, backup_id) WHERE status = 'COMPLETED' AND type = 'FULL';
+-- 증분 백업 체인(countByBaseBackupIdAndStatus, findIncrementalChain). 전체 백업은 base_backup_id 가 NULL 이라 제외한다.
+CREATE INDEX IF NOT EXISTS idx_backups_base_backup_id
+    ON backups (base_backup_id, status, backup_id) WHERE base_backup_id IS NOT NULL;
+-- 실행 노드가 종료된 진행 중 백업의 주기적 정리(updateStaleStatus)
+CREATE INDEX IF NOT EXISTS idx_backups_in_progress ON backups (backup_id) WHERE status = 'IN_PROGRESS';
+
+-- 변경 여부 확인(existsByChangedAtAfter)과 증분 백업 대상 사원 번호 조회를 인덱스만으로 처리한다
+CREATE INDEX IF NOT EXISTS idx_employee_change_logs_changed_at_employee_number
+    ON employee_change_logs (changed_at) INCLUDE (employee_number);
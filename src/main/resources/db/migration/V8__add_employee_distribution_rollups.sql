@@ -0,0 +1,20 @@
+-- EMPLOYEE DISTRIBUTION ROLLUP
+-- (부서, 직급, 상태) 별 직원 수. 직원 등록/수정/삭제 시 같은 트랜잭션에서 증감하고, 정기적으로 실제 값과 맞춘다.
+-- 분포 통계는 직원 테이블 대신 이 테이블을 조합 수만큼만 읽는다.
+CREATE TABLE IF NOT EXISTS employee_distribution_rollups
+(
+    department_id  BIGINT  NOT NULL,
+    position       VARCHAR NOT NULL,
+    status         VARCHAR NOT NULL,
+    employee_count BIGINT  NOT NULL DEFAULT 0,
+    CONSTRAINT pk_employee_distribution_rollups PRIMARY KEY (department_id, position, status),
+    CONSTRAINT fk_employee_distribution_rollups_department_id
+        FOREIGN KEY (department_id)
+            REFERENCES departments (department_id) ON DELETE CASCADE
+);
+
+INSERT INTO employee_distribution_rollups (department_id, position, status, employee_count)
+SELECT department_id, position, status, COUNT(*)
+FROM employees
+GROUP BY department_id, position, status
+ON CONFLICT (department_id, position, status) DO UPDATE SET employee_count = EXCLUDED.employee_count;
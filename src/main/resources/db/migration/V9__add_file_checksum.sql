@@ -0,0 +1,3 @@
+-- 업로드 시 스트림으로 계산한 내용의 SHA-256 (hex). 이전에 저장된 파일은 NULL.
+ALTER TABLE files
+    ADD COLUMN checksum VARCHAR(64);
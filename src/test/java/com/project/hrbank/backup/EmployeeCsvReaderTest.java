@@ -0,0 +1,49 @@
+package com.project.hrbank.backup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.hrbank.util.provider.EmployeeCsvReader;
+import com.project.hrbank.util.provider.EmployeeCsvRowWriter;
+
+class EmployeeCsvReaderTest {
+
+	@Test
+	@DisplayName("백업 CSV 기록 후 다시 읽으면 구분자, 따옴표, 줄바꿈이 포함된 값도 그대로 복원된다")
+	void readRecord_RoundTrip_Success() throws IOException {
+		StringWriter writer = new StringWriter();
+		EmployeeCsvRowWriter rowWriter = new EmployeeCsvRowWriter(writer);
+		rowWriter.writeRecord("1", "EMP001", "홍길동", "3", "대리", "2024-01-02", "ACTIVE");
+		rowWriter.writeRecord("2", "EMP002", "김,\"철수\"", "3", "과장\n팀장", "2024-02-03", "ON_LEAVE");
+		rowWriter.writeRecord("DELETE", null, "EMP003", null);
+
+		try (EmployeeCsvReader reader = new EmployeeCsvReader(new StringReader(writer.toString()))) {
+			assertThat(reader.readRecord())
+				.containsExactly("1", "EMP001", "홍길동", "3", "대리", "2024-01-02", "ACTIVE");
+			assertThat(reader.readRecord())
+				.containsExactly("2", "EMP002", "김,\"철수\"", "3", "과장\n팀장", "2024-02-03", "ON_LEAVE");
+			assertThat(reader.readRecord())
+				.containsExactly("DELETE", "", "EMP003", "");
+			assertThat(reader.readRecord()).isNull();
+		}
+		assertThat(rowWriter.getRowCount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("CRLF 줄바꿈으로 기록된 CSV 도 레코드 단위로 읽는다")
+	void readRecord_CrLf_Success() throws IOException {
+		String content = "ID,직원번호\r\n1,EMP001\r\n";
+
+		try (EmployeeCsvReader reader = new EmployeeCsvReader(new StringReader(content))) {
+			assertThat(reader.readRecord()).containsExactly("ID", "직원번호");
+			assertThat(reader.readRecord()).containsExactly("1", "EMP001");
+			assertThat(reader.readRecord()).isNull();
+		}
+	}
+}
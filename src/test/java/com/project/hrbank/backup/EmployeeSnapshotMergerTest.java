@@ -0,0 +1,66 @@
+package com.project.hrbank.backup;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.hrbank.util.provider.EmployeeCsvReader;
+import com.project.hrbank.util.provider.EmployeeCsvRowWriter;
+import com.project.hrbank.util.provider.EmployeeSnapshotMerger;
+
+class EmployeeSnapshotMergerTest {
+
+	private static final String BASE = """
+		ID,직원번호,이름,부서,직급,입사일,상태
+		1,EMP001,홍길동,1,사원,2024-01-02,ACTIVE
+		2,EMP002,김철수,1,대리,2024-01-03,ACTIVE
+		4,EMP004,이영희,2,과장,2024-01-04,ACTIVE
+		""";
+
+	private static final String FIRST_DELTA = """
+		변경유형,ID,직원번호,이름,부서,직급,입사일,상태
+		UPSERT,2,EMP002,김철수,1,과장,2024-01-03,ACTIVE
+		UPSERT,5,EMP005,박민수,2,사원,2024-02-01,ACTIVE
+		DELETE,,EMP004,,,,,
+		""";
+
+	private static final String SECOND_DELTA = """
+		변경유형,ID,직원번호,이름,부서,직급,입사일,상태
+		UPSERT,2,EMP002,김철수,1,부장,2024-01-03,ON_LEAVE
+		UPSERT,3,EMP003,최지우,1,사원,2024-03-01,ACTIVE
+		""";
+
+	@Test
+	@DisplayName("employee_id 순으로 병합하며 같은 직원은 가장 최근 증분 백업의 행을 쓰고 삭제된 직원은 제외한다")
+	void merge_LatestRecordWinsAndDeletedSkipped() throws IOException {
+		Set<String> deletedEmployeeNumbers = new HashSet<>();
+		EmployeeSnapshotMerger.collectDeletedEmployeeNumbers(reader(FIRST_DELTA), deletedEmployeeNumbers);
+		EmployeeSnapshotMerger.collectDeletedEmployeeNumbers(reader(SECOND_DELTA), deletedEmployeeNumbers);
+
+		StringWriter writer = new StringWriter();
+		EmployeeCsvRowWriter rowWriter = new EmployeeCsvRowWriter(writer);
+		EmployeeSnapshotMerger.merge(reader(BASE), List.of(reader(FIRST_DELTA), reader(SECOND_DELTA)),
+			deletedEmployeeNumbers, rowWriter, rowCount -> {
+			});
+
+		EmployeeCsvReader merged = reader(writer.toString());
+		assertThat(merged.readRecord()).containsExactly("1", "EMP001", "홍길동", "1", "사원", "2024-01-02", "ACTIVE");
+		assertThat(merged.readRecord()).containsExactly("2", "EMP002", "김철수", "1", "부장", "2024-01-03", "ON_LEAVE");
+		assertThat(merged.readRecord()).containsExactly("3", "EMP003", "최지우", "1", "사원", "2024-03-01", "ACTIVE");
+		assertThat(merged.readRecord()).containsExactly("5", "EMP005", "박민수", "2", "사원", "2024-02-01", "ACTIVE");
+		assertThat(merged.readRecord()).isNull();
+		assertThat(rowWriter.getRowCount()).isEqualTo(4);
+	}
+
+	private static EmployeeCsvReader reader(String content) {
+		return new EmployeeCsvReader(new StringReader(content));
+	}
+}
@@ -0,0 +1,79 @@
+package com.project.hrbank.department;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.project.hrbank.config.cache.DepartmentCacheProperties;
+import com.project.hrbank.dto.response.CacheStatsResponse;
+import com.project.hrbank.entity.Department;
+import com.project.hrbank.repository.DepartmentRepository;
+import com.project.hrbank.service.DepartmentCache;
+import com.project.hrbank.util.cache.LocalCacheInvalidationChannel;
+
+class DepartmentCacheTest {
+
+	private final DepartmentRepository departmentRepository = mock(DepartmentRepository.class);
+	private DepartmentCache departmentCache;
+
+	@BeforeEach
+	void setUp() {
+		departmentCache = new DepartmentCache(departmentRepository, new LocalCacheInvalidationChannel(),
+			new DepartmentCacheProperties(2, Duration.ofMinutes(10)));
+	}
+
+	@Test
+	@DisplayName("한 번 조회한 부서는 저장소를 다시 조회하지 않는다")
+	void getById_Cached_Success() {
+		Department department = department(1L, "개발팀");
+		given(departmentRepository.findAllById(List.of(1L))).willReturn(List.of(department));
+
+		departmentCache.getById(1L);
+		assertThat(departmentCache.getById(1L)).map(DepartmentCache.CachedDepartment::name).contains("개발팀");
+		assertThat(departmentCache.getById(1L)).isPresent();
+
+		then(departmentRepository).should(times(1)).findAllById(List.of(1L));
+		CacheStatsResponse stats = departmentCache.getStats();
+		assertThat(stats.hitCount()).isEqualTo(2);
+		assertThat(stats.missCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("무효화되면 다음 조회 시 저장소에서 다시 불러온다")
+	void invalidateAfterCommit_WithoutTransaction_EvictsImmediately() {
+		given(departmentRepository.findAllById(List.of(1L)))
+			.willReturn(List.of(department(1L, "개발팀")), List.of(department(1L, "플랫폼팀")));
+
+		departmentCache.getById(1L);
+		departmentCache.invalidateAfterCommit(1L);
+
+		assertThat(departmentCache.getById(1L)).map(DepartmentCache.CachedDepartment::name).contains("플랫폼팀");
+		assertThat(departmentCache.getStats().invalidationCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 부서부터 제거한다")
+	void getAllById_OverMaxSize_EvictsLeastRecentlyUsed() {
+		given(departmentRepository.findAllById(List.of(1L, 2L, 3L)))
+			.willReturn(List.of(department(1L, "A"), department(2L, "B"), department(3L, "C")));
+
+		departmentCache.getAllById(List.of(1L, 2L, 3L));
+
+		CacheStatsResponse stats = departmentCache.getStats();
+		assertThat(stats.size()).isEqualTo(2);
+		assertThat(stats.evictionCount()).isEqualTo(1);
+	}
+
+	private Department department(Long id, String name) {
+		Department department = mock(Department.class);
+		given(department.getId()).willReturn(id);
+		given(department.getName()).willReturn(name);
+		return department;
+	}
+}
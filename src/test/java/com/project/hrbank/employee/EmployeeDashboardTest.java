@@ -0,0 +1,71 @@
+package com.project.hrbank.employee;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.project.hrbank.dto.response.EmployeeDashboardResponse;
+import com.project.hrbank.dto.response.EmployeeDistributionResponse;
+import com.project.hrbank.dto.response.EmployeeTrendResponse;
+import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.entity.enums.TrendUnit;
+import com.project.hrbank.repository.EmployeeDistributionRepository.GroupCount;
+import com.project.hrbank.repository.EmployeeStatsRepository;
+import com.project.hrbank.repository.EmployeeStatsRepository.DashboardCounts;
+import com.project.hrbank.repository.EmployeeStatsRepository.PeriodCount;
+import com.project.hrbank.service.EmployeeServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeDashboardTest {
+
+	@Mock
+	private EmployeeStatsRepository employeeStatsRepository;
+
+	@InjectMocks
+	private EmployeeServiceImpl employeeService;
+
+	@Test
+	@DisplayName("한 번의 집계 결과로 상태별 수, 입사자 수, 추이, 분포를 함께 만든다")
+	void getEmployeeDashboard_Success() {
+		Map<LocalDate, PeriodCount> hiredByPeriod = new HashMap<>();
+		hiredByPeriod.put(null, new PeriodCount(4, 4));
+		hiredByPeriod.put(LocalDate.of(2025, 2, 1), new PeriodCount(2, 1));
+		given(employeeStatsRepository.countDashboard(TrendUnit.MONTH, LocalDate.of(2025, 1, 1),
+			LocalDate.of(2025, 3, 1), LocalDate.of(2025, 1, 15), LocalDate.of(2025, 3, 1)))
+			.willReturn(new DashboardCounts(
+				Map.of(EmployeeStatus.ACTIVE, 5L, EmployeeStatus.RESIGNED, 1L),
+				Map.of(EmployeeStatus.ACTIVE, List.of(new GroupCount("개발팀", 4), new GroupCount("인사팀", 1))),
+				Map.of(EmployeeStatus.ACTIVE, List.of(new GroupCount("사원", 5))),
+				hiredByPeriod,
+				2L));
+
+		EmployeeDashboardResponse dashboard = employeeService.getEmployeeDashboard(LocalDate.of(2025, 1, 15),
+			LocalDate.of(2025, 2, 28), TrendUnit.MONTH, EmployeeStatus.ACTIVE);
+
+		assertThat(dashboard.totalCount()).isEqualTo(6);
+		assertThat(dashboard.statusCounts()).containsExactlyInAnyOrderEntriesOf(Map.of(
+			EmployeeStatus.ACTIVE, 5L, EmployeeStatus.ON_LEAVE, 0L, EmployeeStatus.RESIGNED, 1L));
+		assertThat(dashboard.hiredCount()).isEqualTo(2);
+		assertThat(dashboard.trend()).containsExactly(
+			new EmployeeTrendResponse(LocalDate.of(2025, 1, 1), 4, 0, 0, 0.0),
+			new EmployeeTrendResponse(LocalDate.of(2025, 2, 1), 5, 2, 1, 25.0)
+		);
+		assertThat(dashboard.departmentDistribution()).containsExactly(
+			new EmployeeDistributionResponse("개발팀", 4, 80.0),
+			new EmployeeDistributionResponse("인사팀", 1, 20.0)
+		);
+		assertThat(dashboard.positionDistribution()).containsExactly(
+			new EmployeeDistributionResponse("사원", 5, 100.0));
+	}
+}
@@ -0,0 +1,71 @@
+package com.project.hrbank.employee;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.project.hrbank.dto.response.EmployeeDistributionResponse;
+import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.repository.EmployeeDistributionRepository;
+import com.project.hrbank.repository.EmployeeDistributionRepository.DistributionKey;
+import com.project.hrbank.repository.EmployeeDistributionRepository.GroupCount;
+import com.project.hrbank.service.EmployeeServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeDistributionTest {
+
+	@Mock
+	private EmployeeDistributionRepository employeeDistributionRepository;
+
+	@InjectMocks
+	private EmployeeServiceImpl employeeService;
+
+	@Test
+	@DisplayName("집계 테이블의 조합별 수만으로 비율을 계산한다")
+	void getEmployeeDistribution_Position_Success() {
+		given(employeeDistributionRepository.countByPosition(EmployeeStatus.ACTIVE))
+			.willReturn(List.of(new GroupCount("사원", 2), new GroupCount("대리", 1)));
+
+		List<EmployeeDistributionResponse> distribution = employeeService.getEmployeeDistribution("position",
+			EmployeeStatus.ACTIVE);
+
+		assertThat(distribution).containsExactly(
+			new EmployeeDistributionResponse("사원", 2, 66.67),
+			new EmployeeDistributionResponse("대리", 1, 33.33)
+		);
+	}
+
+	@Test
+	@DisplayName("지원하지 않는 groupBy 는 IllegalArgumentException 이 발생한다")
+	void getEmployeeDistribution_InvalidGroupBy_Fail() {
+		assertThatThrownBy(() -> employeeService.getEmployeeDistribution("email", EmployeeStatus.ACTIVE))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("조합이 바뀌면 이전 조합 -1, 새 조합 +1 로 한 번에 갱신한다")
+	@SuppressWarnings("unchecked")
+	void move_ChangedKey_IncrementsBoth() {
+		EmployeeDistributionRepository repository = spy(new EmployeeDistributionRepository(null));
+		doNothing().when(repository).incrementAll(any());
+		DistributionKey from = new DistributionKey(1L, "사원", EmployeeStatus.ACTIVE);
+		DistributionKey to = new DistributionKey(1L, "사원", EmployeeStatus.ON_LEAVE);
+
+		repository.move(from, to);
+		repository.move(to, to);
+
+		ArgumentCaptor<Map<DistributionKey, Long>> deltas = ArgumentCaptor.forClass(Map.class);
+		verify(repository).incrementAll(deltas.capture());
+		assertThat(deltas.getValue()).containsExactlyInAnyOrderEntriesOf(Map.of(from, -1L, to, 1L));
+	}
+}
@@ -0,0 +1,52 @@
+package com.project.hrbank.employee;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.project.hrbank.repository.EmployeeNumberSequenceRepository;
+import com.project.hrbank.service.EmployeeNumberGenerator;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeNumberGeneratorTest {
+
+	@Mock
+	private EmployeeNumberSequenceRepository employeeNumberSequenceRepository;
+
+	@InjectMocks
+	private EmployeeNumberGenerator employeeNumberGenerator;
+
+	@Test
+	@DisplayName("시퀀스 값 하나로 받은 블록을 다 쓸 때까지 DB 를 다시 조회하지 않는다")
+	void next_WithinBlock_Success() {
+		given(employeeNumberSequenceRepository.nextValues(1)).willReturn(List.of(1L));
+
+		assertThat(employeeNumberGenerator.next()).isEqualTo("EMP001");
+		assertThat(employeeNumberGenerator.next(2)).containsExactly("EMP002", "EMP003");
+		then(employeeNumberSequenceRepository).should(times(1)).nextValues(1);
+	}
+
+	@Test
+	@DisplayName("남은 블록보다 많이 요청하면 필요한 블록을 한 번에 받아 이어서 발급하고, 999 이후에도 번호가 이어진다")
+	void next_AcrossBlocks_Success() {
+		given(employeeNumberSequenceRepository.nextValues(1)).willReturn(List.of(951L));
+		given(employeeNumberSequenceRepository.nextValues(2)).willReturn(List.of(1001L, 1051L));
+
+		employeeNumberGenerator.next(40);
+		List<String> employeeNumbers = employeeNumberGenerator.next(70);
+
+		assertThat(employeeNumbers).hasSize(70);
+		assertThat(employeeNumbers.get(0)).isEqualTo("EMP991");
+		assertThat(employeeNumbers.get(9)).isEqualTo("EMP1000");
+		assertThat(employeeNumbers.get(10)).isEqualTo("EMP1001");
+		assertThat(employeeNumbers.get(69)).isEqualTo("EMP1060");
+	}
+}
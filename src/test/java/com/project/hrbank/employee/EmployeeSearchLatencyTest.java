@@ -0,0 +1,87 @@
+package com.project.hrbank.employee;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.project.hrbank.dto.response.CursorPageResponse;
+import com.project.hrbank.dto.response.EmployeeResponseDto;
+import com.project.hrbank.service.EmployeeService;
+import com.project.hrbank.util.paging.CountMode;
+import com.project.hrbank.util.paging.MatchMode;
+
+/**
+ * 직원 30만 명 데이터에서 검색 지연 시간 측정 (./gradlew benchmarkTest, 로컬 PostgreSQL 필요)
+ */
+@Tag("benchmark")
+@SpringBootTest
+@Transactional
+@Sql("/benchmark/employee-search-dataset.sql")
+class EmployeeSearchLatencyTest {
+
+	private static final Duration MAX_MEDIAN_LATENCY = Duration.ofMillis(300);
+	private static final int RUNS = 7;
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Test
+	@DisplayName("이름 부분 일치 검색은 trigram 인덱스로 기준 시간 안에 끝난다")
+	void search_ContainsName_WithinLatency() {
+		CursorPageResponse<EmployeeResponseDto> page = measure(() -> search("민준", MatchMode.CONTAINS, null));
+
+		assertThat(page.content()).isNotEmpty()
+			.allSatisfy(employee -> assertThat(employee.getName()).contains("민준"));
+	}
+
+	@Test
+	@DisplayName("이메일 앞부분 일치 검색은 lower 함수 인덱스로 기준 시간 안에 끝난다")
+	void search_PrefixEmail_WithinLatency() {
+		CursorPageResponse<EmployeeResponseDto> page = measure(() -> search("bench.user1234", MatchMode.PREFIX, null));
+
+		assertThat(page.content()).isNotEmpty()
+			.allSatisfy(employee -> assertThat(employee.getEmail()).startsWith("bench.user1234"));
+	}
+
+	@Test
+	@DisplayName("부서 이름으로 거른 목록도 기준 시간 안에 끝난다")
+	void search_DepartmentName_WithinLatency() {
+		CursorPageResponse<EmployeeResponseDto> page = measure(() -> search(null, MatchMode.CONTAINS, "BENCH-부서-7"));
+
+		assertThat(page.content()).isNotEmpty()
+			.allSatisfy(employee -> assertThat(employee.getDepartmentName()).contains("BENCH-부서-7"));
+	}
+
+	private CursorPageResponse<EmployeeResponseDto> search(String nameOrEmail, MatchMode match,
+		String departmentName) {
+		return employeeService.getEmployees(nameOrEmail, match, departmentName, null, null, null, 30, "name", "asc",
+			CountMode.CAPPED);
+	}
+
+	/**
+	 * 첫 실행(연결, 실행 계획 준비)은 버리고 나머지 실행의 중앙값을 기준과 비교한다
+	 */
+	private <T> T measure(Supplier<T> search) {
+		T result = search.get();
+		long[] elapsedNanos = new long[RUNS];
+		for (int run = 0; run < RUNS; run++) {
+			long startedAt = System.nanoTime();
+			result = search.get();
+			elapsedNanos[run] = System.nanoTime() - startedAt;
+		}
+		Arrays.sort(elapsedNanos);
+
+		assertThat(Duration.ofNanos(elapsedNanos[RUNS / 2])).isLessThan(MAX_MEDIAN_LATENCY);
+		return result;
+	}
+}
@@ -0,0 +1,67 @@
+package com.project.hrbank.employee;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.project.hrbank.dto.response.EmployeeTrendResponse;
+import com.project.hrbank.entity.enums.TrendUnit;
+import com.project.hrbank.repository.EmployeeStatsRepository;
+import com.project.hrbank.repository.EmployeeStatsRepository.PeriodCount;
+import com.project.hrbank.service.EmployeeServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeTrendTest {
+
+	@Mock
+	private EmployeeStatsRepository employeeStatsRepository;
+
+	@InjectMocks
+	private EmployeeServiceImpl employeeService;
+
+	@Test
+	@DisplayName("분기 경계로 맞춘 범위를 한 번 조회하고, 입사자가 없는 분기도 이전 인원으로 채우며 퇴사자는 세지 않는다")
+	void getEmployeeTrend_Quarter_Success() {
+		Map<LocalDate, PeriodCount> hiredCounts = new HashMap<>();
+		hiredCounts.put(null, new PeriodCount(12, 10));
+		hiredCounts.put(LocalDate.of(2024, 1, 1), new PeriodCount(5, 5));
+		hiredCounts.put(LocalDate.of(2024, 7, 1), new PeriodCount(3, 2));
+		given(employeeStatsRepository.countHiredByPeriod(TrendUnit.QUARTER, LocalDate.of(2024, 1, 1),
+			LocalDate.of(2025, 1, 1))).willReturn(hiredCounts);
+
+		List<EmployeeTrendResponse> trend = employeeService.getEmployeeTrend(LocalDate.of(2024, 2, 15),
+			LocalDate.of(2024, 12, 31), TrendUnit.QUARTER);
+
+		assertThat(trend).containsExactly(
+			new EmployeeTrendResponse(LocalDate.of(2024, 1, 1), 15, 5, 5, 50.0),
+			new EmployeeTrendResponse(LocalDate.of(2024, 4, 1), 15, 0, 0, 0.0),
+			new EmployeeTrendResponse(LocalDate.of(2024, 7, 1), 17, 3, 2, 13.33),
+			new EmployeeTrendResponse(LocalDate.of(2024, 10, 1), 17, 0, 0, 0.0)
+		);
+	}
+
+	@Test
+	@DisplayName("주 단위는 월요일부터 시작한다")
+	void truncate_Week_StartsOnMonday() {
+		assertThat(TrendUnit.WEEK.truncate(LocalDate.of(2025, 3, 16))).isEqualTo(LocalDate.of(2025, 3, 10));
+	}
+
+	@Test
+	@DisplayName("시작일이 종료일보다 늦으면 IllegalArgumentException 이 발생한다")
+	void getEmployeeTrend_FromAfterTo_Fail() {
+		assertThatThrownBy(() -> employeeService.getEmployeeTrend(LocalDate.of(2025, 2, 1),
+			LocalDate.of(2025, 1, 1), TrendUnit.MONTH))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
@@ -0,0 +1,94 @@
+package com.project.hrbank.employee;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.hrbank.entity.Employee;
+import com.project.hrbank.entity.enums.EmployeeStatus;
+import com.project.hrbank.util.diff.ChangeLogFields;
+import com.project.hrbank.util.diff.ChangeLogJsonWriter;
+
+class FieldDiffEngineTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("값이 바뀐 속성만 문자열 before/after 로 기록하고 대상 엔티티에 반영한다")
+	void apply_ChangedFieldsOnly_Success() throws Exception {
+		Employee existing = Employee.builder()
+			.name("홍길동")
+			.email("hong@example.com")
+			.departmentId(1L)
+			.position("대리")
+			.hireDate(LocalDate.of(2020, 3, 2))
+			.status(EmployeeStatus.ACTIVE)
+			.build();
+		Employee requested = Employee.builder()
+			.name("홍 \"길동\"")
+			.email("hong@example.com")
+			.departmentId(2L)
+			.position("대리")
+			.hireDate(LocalDate.of(2020, 3, 2))
+			.status(EmployeeStatus.ON_LEAVE)
+			.build();
+
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		int changedCount = ChangeLogFields.EMPLOYEE.apply(existing, requested, changedValues);
+		JsonNode json = objectMapper.readTree(changedValues.toJson());
+
+		assertThat(changedCount).isEqualTo(3);
+		assertThat(json).hasSize(3);
+		assertThat(json.get(0).get("propertyName").asText()).isEqualTo("name");
+		assertThat(json.get(0).get("before").asText()).isEqualTo("홍길동");
+		assertThat(json.get(0).get("after").asText()).isEqualTo("홍 \"길동\"");
+		assertThat(json.get(1).get("before").asText()).isEqualTo("1");
+		assertThat(json.get(1).get("after").asText()).isEqualTo("2");
+		assertThat(json.get(2).get("after").asText()).isEqualTo("ON_LEAVE");
+		assertThat(existing.getName()).isEqualTo("홍 \"길동\"");
+		assertThat(existing.getDepartmentId()).isEqualTo(2L);
+		assertThat(existing.getStatus()).isEqualTo(EmployeeStatus.ON_LEAVE);
+	}
+
+	@Test
+	@DisplayName("삭제 시 모든 속성을 after null 로 기록하고, 재사용된 버퍼에 이전 내용이 남지 않는다")
+	void writeDeleted_ReusedBuffer_Success() throws Exception {
+		Employee employee = Employee.builder()
+			.name("홍길동")
+			.email("hong@example.com")
+			.departmentId(1L)
+			.position("대리")
+			.hireDate(LocalDate.of(2020, 3, 2))
+			.status(EmployeeStatus.ACTIVE)
+			.build();
+
+		ChangeLogJsonWriter.acquire().writeChange("name", "이전", "내용");
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		ChangeLogFields.EMPLOYEE.writeDeleted(employee, changedValues);
+		JsonNode json = objectMapper.readTree(changedValues.toJson());
+
+		assertThat(json).hasSize(6);
+		assertThat(json.get(0).get("propertyName").asText()).isEqualTo("hireDate");
+		assertThat(json.get(0).get("before").asText()).isEqualTo("2020-03-02");
+		assertThat(json.get(0).get("after").isNull()).isTrue();
+	}
+
+	@Test
+	@DisplayName("toJson 을 여러 번 호출해도 같은 JSON 을 돌려주고, 그 뒤의 기록은 거부한다")
+	void toJson_CalledTwice_ReturnsSameJson() {
+		ChangeLogJsonWriter changedValues = ChangeLogJsonWriter.acquire();
+		changedValues.writeChange("name", "이전", "이후");
+
+		String first = changedValues.toJson();
+
+		assertThat(changedValues.toJson()).isEqualTo(first).isEqualTo(
+			"[{\"propertyName\":\"name\",\"before\":\"이전\",\"after\":\"이후\"}]");
+		assertThatThrownBy(() -> changedValues.writeChange("email", null, null))
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
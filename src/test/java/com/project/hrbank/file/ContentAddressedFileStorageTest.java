@@ -0,0 +1,98 @@
+package com.project.hrbank.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.repository.FileRepository;
+import com.project.hrbank.util.storage.ContentAddressedFileStorage;
+
+class ContentAddressedFileStorageTest {
+
+	@TempDir
+	Path rootDirectory;
+
+	private FileRepository fileRepository;
+	private ContentAddressedFileStorage storage;
+
+	@BeforeEach
+	void setUp() {
+		fileRepository = mock(FileRepository.class);
+		storage = new ContentAddressedFileStorage(fileRepository, rootDirectory.toString());
+	}
+
+	@Test
+	@DisplayName("같은 내용은 이름이 달라도 하나의 blob 으로 저장")
+	void saveFile_SameContent_Deduplicated() throws IOException {
+		FileEntity first = storage.saveFile(null, "test data".getBytes(), "profile.png", "image/png");
+		FileEntity second = storage.saveFile(null, "test data".getBytes(), "other.png", "image/png");
+
+		assertEquals(first.getFilePath(), second.getFilePath());
+		assertEquals("other.png", second.getFileName());
+		assertEquals(first.getChecksum(), Paths.get(first.getFilePath()).getFileName().toString());
+		assertEquals("test data", Files.readString(Paths.get(first.getFilePath())));
+		try (Stream<Path> blobs = Files.walk(rootDirectory.resolve("blobs"))) {
+			assertEquals(1, blobs.filter(Files::isRegularFile).count());
+		}
+	}
+
+	@Test
+	@DisplayName("참조되지 않고 유예 시간이 지난 blob 만 정리")
+	void sweepUnreferenced_DeletesOnlyOldUnreferencedBlobs() throws IOException {
+		FileEntity referenced = storage.saveFile(null, "referenced".getBytes(), "a.csv", "text/csv");
+		FileEntity unreferenced = storage.saveFile(null, "unreferenced".getBytes(), "b.csv", "text/csv");
+		FileEntity recent = storage.saveFile(null, "recent".getBytes(), "c.csv", "text/csv");
+		FileTime old = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+		Files.setLastModifiedTime(Paths.get(referenced.getFilePath()), old);
+		Files.setLastModifiedTime(Paths.get(unreferenced.getFilePath()), old);
+		when(fileRepository.findReferencedChecksums(anyCollection())).thenReturn(List.of(referenced.getChecksum()));
+
+		int deletedCount = storage.sweepUnreferenced();
+
+		assertEquals(1, deletedCount);
+		assertTrue(Files.exists(Paths.get(referenced.getFilePath())));
+		assertFalse(Files.exists(Paths.get(unreferenced.getFilePath())));
+		assertTrue(Files.exists(Paths.get(recent.getFilePath())));
+	}
+
+	@Test
+	@DisplayName("정리 작업이 지운 blob 과 같은 내용을 저장하면 blob 을 다시 쓴다")
+	void saveFile_BlobSweptConcurrently_RewritesBlob() throws IOException {
+		FileEntity first = storage.saveFile(null, "test data".getBytes(), "a.csv", "text/csv");
+		Files.delete(Paths.get(first.getFilePath()));
+
+		FileEntity second = storage.saveFile(null, "test data".getBytes(), "b.csv", "text/csv");
+
+		assertEquals(first.getFilePath(), second.getFilePath());
+		assertEquals("test data", Files.readString(Paths.get(second.getFilePath())));
+	}
+
+	@Test
+	@DisplayName("blob 은 정리 작업에 맡기고, blob 디렉터리 밖의 파일은 바로 지운다")
+	void delete_OutsideBlobDirectory_DeletesImmediately() throws IOException {
+		FileEntity blob = storage.saveFile(null, "test data".getBytes(), "a.csv", "text/csv");
+		Path backupFile = Files.writeString(rootDirectory.resolve("backup.csv"), "backup");
+		FileEntity backup = new FileEntity("backup.csv", "text/csv", 6L, backupFile.toString());
+
+		assertFalse(storage.delete(blob));
+		assertTrue(storage.delete(backup));
+		assertTrue(Files.exists(Paths.get(blob.getFilePath())));
+		assertFalse(Files.exists(backupFile));
+	}
+}
@@ -0,0 +1,88 @@
+package com.project.hrbank.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.entity.enums.ImageVariant;
+import com.project.hrbank.repository.FileRepository;
+import com.project.hrbank.service.ImageVariantService;
+import com.project.hrbank.util.storage.FileStorage;
+
+class ImageVariantServiceTest {
+
+	@TempDir
+	Path rootDirectory;
+
+	@Test
+	@DisplayName("긴 변을 축소본 크기에 맞추고, 두 번째 요청부터는 캐시를 사용")
+	void getVariant_ResizesOnceAndCaches() throws IOException {
+		Path originalPath = rootDirectory.resolve("original.png");
+		ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB), "png", originalPath.toFile());
+		FileEntity fileEntity = new FileEntity(1L, "original.png", "image/png", 0L, originalPath.toString(), "abc");
+		FileStorage fileStorage = mock(FileStorage.class);
+		when(fileStorage.load(fileEntity)).thenReturn(new FileSystemResource(originalPath));
+		ImageVariantService imageVariantService = new ImageVariantService(fileStorage, mock(FileRepository.class),
+			rootDirectory.toString());
+
+		Resource first = imageVariantService.getVariant(fileEntity, ImageVariant.THUMBNAIL);
+		Resource second = imageVariantService.getVariant(fileEntity, ImageVariant.THUMBNAIL);
+
+		try (InputStream inputStream = second.getInputStream()) {
+			BufferedImage variant = ImageIO.read(inputStream);
+			assertEquals(128, variant.getWidth());
+			assertEquals(64, variant.getHeight());
+		}
+		assertEquals(first.getFile(), second.getFile());
+		verify(fileStorage, times(1)).load(fileEntity);
+	}
+
+	@Test
+	@DisplayName("이미지가 아닌 파일은 IllegalArgumentException")
+	void getVariant_NotImage_Failure() {
+		FileEntity fileEntity = new FileEntity(1L, "backup.csv", "text/csv", 0L, "backup.csv", null);
+		ImageVariantService imageVariantService = new ImageVariantService(mock(FileStorage.class),
+			mock(FileRepository.class), rootDirectory.toString());
+
+		assertThrows(IllegalArgumentException.class,
+			() -> imageVariantService.getVariant(fileEntity, ImageVariant.THUMBNAIL));
+	}
+
+	@Test
+	@DisplayName("같은 체크섬의 원본이 남아 있으면 축소본을 두고, 모두 지워지면 축소본도 지움")
+	void sweepOrphans_DeletesVariantsWithoutSource() throws IOException {
+		Path originalPath = rootDirectory.resolve("original.png");
+		ImageIO.write(new BufferedImage(200, 100, BufferedImage.TYPE_INT_ARGB), "png", originalPath.toFile());
+		FileEntity fileEntity = new FileEntity(1L, "original.png", "image/png", 0L, originalPath.toString(), "abc");
+		FileStorage fileStorage = mock(FileStorage.class);
+		when(fileStorage.load(fileEntity)).thenReturn(new FileSystemResource(originalPath));
+		FileRepository fileRepository = mock(FileRepository.class);
+		ImageVariantService imageVariantService = new ImageVariantService(fileStorage, fileRepository,
+			rootDirectory.toString());
+		Path variantPath = imageVariantService.getVariant(fileEntity, ImageVariant.THUMBNAIL).getFile().toPath();
+
+		when(fileRepository.findExistingChecksums(anyCollection())).thenReturn(List.of("abc"));
+		assertEquals(0, imageVariantService.sweepOrphans());
+		assertTrue(Files.exists(variantPath));
+
+		when(fileRepository.findExistingChecksums(anyCollection())).thenReturn(List.of());
+		assertEquals(1, imageVariantService.sweepOrphans());
+		assertFalse(Files.exists(variantPath));
+	}
+}
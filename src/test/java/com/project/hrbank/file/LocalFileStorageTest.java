@@ -3,17 +3,20 @@ package com.project.hrbank.file;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.repository.FileRepository;
 import com.project.hrbank.util.factory.FileHandlerFactory;
 import com.project.hrbank.util.storage.LocalFileStorage;
 
 import org.junit.jupiter.api.*;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -21,15 +24,18 @@ class LocalFileStorageTest {
 
 	private static final String TEST_STORAGE_PATH = "test-files/";
 
-	@InjectMocks
 	private LocalFileStorage localFileStorage;
 
 	@Mock
 	private FileHandlerFactory fileHandlerFactory;
 
+	@Mock
+	private FileRepository fileRepository;
+
 	@BeforeEach
 	void setUp() throws IOException {
 		MockitoAnnotations.openMocks(this);
+		localFileStorage = new LocalFileStorage(fileHandlerFactory, fileRepository, TEST_STORAGE_PATH);
 		Files.createDirectories(Paths.get(TEST_STORAGE_PATH, "csv"));
 		Files.createDirectories(Paths.get(TEST_STORAGE_PATH, "log"));
 		Files.createDirectories(Paths.get(TEST_STORAGE_PATH, "images"));
@@ -97,4 +103,44 @@ class LocalFileStorageTest {
 
 		assertTrue(exception.getMessage().contains("잘못된 파일명: " + fileName));
 	}
+
+	@Test
+	@DisplayName("파일 저장 테스트 - 스트림으로 저장하며 크기와 체크섬을 함께 계산")
+	void saveFile_Stream_ComputesSizeAndChecksum() throws IOException {
+		String fileName = "stream.csv";
+		when(fileHandlerFactory.getFileExtension(fileName)).thenReturn("csv");
+
+		FileEntity savedFile = localFileStorage.saveFile(null, new ByteArrayInputStream("test data".getBytes()),
+			fileName, "text/csv");
+
+		assertEquals(9L, savedFile.getSize());
+		assertEquals("916f0027a575074ce72a331777c3478d6513f786a591bd892da1a577bf2335f9", savedFile.getChecksum());
+		assertEquals("test data", Files.readString(Paths.get(savedFile.getFilePath())));
+	}
+
+	@Test
+	@DisplayName("파일 저장 실패 테스트 - 쓰는 도중 실패하면 임시 파일을 남기지 않음")
+	void saveFile_WriterFails_LeavesNoTempFile() throws IOException {
+		String fileName = "broken.csv";
+		when(fileHandlerFactory.getFileExtension(fileName)).thenReturn("csv");
+
+		assertThrows(RuntimeException.class, () ->
+			localFileStorage.saveFile(null, fileName, "text/csv", outputStream -> {
+				outputStream.write("partial".getBytes());
+				throw new IOException("연결 끊김");
+			})
+		);
+
+		try (Stream<Path> files = Files.list(Paths.get(TEST_STORAGE_PATH, "csv"))) {
+			assertTrue(files.noneMatch(path -> path.getFileName().toString().startsWith(".upload-")));
+		}
+	}
+
+	@Test
+	@DisplayName("파일 조회 실패 테스트 - 저장소에 파일이 없으면 NoSuchElementException")
+	void load_MissingFile_Failure() {
+		FileEntity fileEntity = new FileEntity(1L, "missing.csv", "text/csv", 0L, "files/csv/missing.csv");
+
+		assertThrows(NoSuchElementException.class, () -> localFileStorage.load(fileEntity));
+	}
 }
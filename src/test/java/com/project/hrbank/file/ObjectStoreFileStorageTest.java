@@ -0,0 +1,106 @@
+package com.project.hrbank.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.project.hrbank.entity.FileEntity;
+import com.project.hrbank.repository.FileRepository;
+import com.project.hrbank.util.storage.ContentAddressedFileStorage;
+import com.project.hrbank.util.storage.LocalObjectStore;
+import com.project.hrbank.util.storage.ObjectStore;
+import com.project.hrbank.util.storage.ObjectStoreFileStorage;
+
+class ObjectStoreFileStorageTest {
+
+	@TempDir
+	Path rootDirectory;
+
+	private FileRepository fileRepository;
+	private ObjectStore objectStore;
+
+	@BeforeEach
+	void setUp() {
+		fileRepository = mock(FileRepository.class);
+		objectStore = new LocalObjectStore(rootDirectory.resolve("object-store").toString());
+	}
+
+	@Test
+	@DisplayName("object-store 방식은 새 파일을 객체 저장소에 올리고 그 key 로 읽고 지움")
+	void saveFile_ObjectStore_RoundTrip() throws IOException {
+		ObjectStoreFileStorage storage = new ObjectStoreFileStorage(objectStore, fileRepository);
+
+		FileEntity savedFile = storage.saveFile(null, "test data".getBytes(), "backup.csv", "text/csv");
+
+		assertTrue(savedFile.getFilePath().startsWith(ObjectStoreFileStorage.OBJECT_PATH_PREFIX));
+		assertEquals(9L, savedFile.getSize());
+		assertEquals("916f0027a575074ce72a331777c3478d6513f786a591bd892da1a577bf2335f9", savedFile.getChecksum());
+		try (InputStream inputStream = storage.load(savedFile).getInputStream()) {
+			assertEquals("test data", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+
+		assertTrue(storage.delete(savedFile));
+		String key = savedFile.getFilePath().substring(ObjectStoreFileStorage.OBJECT_PATH_PREFIX.length());
+		assertFalse(objectStore.exists(key));
+	}
+
+	@Test
+	@DisplayName("tiered 방식은 오래된 백업 파일을 객체 저장소로 옮기고 경로를 바꾼 뒤 로컬 사본을 지움")
+	void ageOutBackups_MovesLocalBackupToObjectStore() throws IOException {
+		ObjectStoreFileStorage storage = new ObjectStoreFileStorage(
+			new ContentAddressedFileStorage(fileRepository, rootDirectory.toString()), objectStore, fileRepository);
+		Path backupPath = Files.writeString(rootDirectory.resolve("employee_backup_1.csv"), "id,name");
+		FileEntity backupFile = new FileEntity(1L, "employee_backup_1.csv", "text/csv", 7L, backupPath.toString());
+		when(fileRepository.findLocalBackupFiles(anyLong(), any(LocalDateTime.class), any()))
+			.thenReturn(List.of(backupFile));
+
+		int movedCount = storage.ageOutBackups(LocalDateTime.now(), 100);
+
+		assertEquals(1, movedCount);
+		assertFalse(Files.exists(backupPath));
+		assertTrue(backupFile.getFilePath().startsWith(ObjectStoreFileStorage.OBJECT_PATH_PREFIX));
+		verify(fileRepository).save(backupFile);
+		try (InputStream inputStream = storage.load(backupFile).getInputStream()) {
+			assertEquals("id,name", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+	}
+
+	@Test
+	@DisplayName("object-store 방식은 백업도 바로 객체 저장소에 쓰므로 옮길 파일을 조회하지 않음")
+	void ageOutBackups_ObjectStore_DoesNothing() {
+		ObjectStoreFileStorage storage = new ObjectStoreFileStorage(objectStore, fileRepository);
+
+		assertEquals(0, storage.ageOutBackups(LocalDateTime.now(), 100));
+		verify(fileRepository, never()).findLocalBackupFiles(anyLong(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Range 응답처럼 skip 한 뒤 읽으면 그 위치부터 필요한 구간만 객체 저장소에 요청")
+	void load_SkipBeforeRead_RequestsRange() throws IOException {
+		ObjectStore spiedObjectStore = spy(objectStore);
+		ObjectStoreFileStorage storage = new ObjectStoreFileStorage(spiedObjectStore, fileRepository);
+		FileEntity savedFile = storage.saveFile(null, "0123456789".getBytes(), "backup.csv", "text/csv");
+		String key = savedFile.getFilePath().substring(ObjectStoreFileStorage.OBJECT_PATH_PREFIX.length());
+
+		try (InputStream inputStream = storage.load(savedFile).getInputStream()) {
+			assertEquals(6L, inputStream.skip(6));
+			assertEquals("6789", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+		}
+
+		verify(spiedObjectStore).get(key, 6L, 9L);
+		verify(spiedObjectStore, never()).get(key);
+	}
+}
@@ -0,0 +1,88 @@
+package com.project.hrbank.file;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.project.hrbank.util.storage.S3ObjectStore;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class S3ObjectStoreTest {
+
+	private static final int PART_SIZE = S3ObjectStore.MIN_PART_SIZE;
+
+	private S3Client s3Client;
+	private S3ObjectStore objectStore;
+
+	@BeforeEach
+	void setUp() {
+		s3Client = mock(S3Client.class);
+		when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+			.thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+		when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+			.thenReturn(UploadPartResponse.builder().eTag("etag").build());
+		objectStore = new S3ObjectStore(s3Client, "bucket", PART_SIZE);
+	}
+
+	@Test
+	@DisplayName("part 하나 안에 끝나는 내용은 PutObject 한 번으로 올림")
+	void put_SmallContent_PutsSingleObject() throws IOException {
+		objectStore.put("files/small", "text/csv", outputStream -> outputStream.write(new byte[1024]));
+
+		ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+		verify(s3Client).putObject(request.capture(), any(RequestBody.class));
+		assertEquals("files/small", request.getValue().key());
+		assertEquals("text/csv", request.getValue().contentType());
+		verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+	}
+
+	@Test
+	@DisplayName("part 크기를 넘는 내용은 multipart upload 로 나눠 올리고 완료")
+	void put_LargeContent_UploadsMultipart() throws IOException {
+		objectStore.put("files/large", "text/csv", outputStream -> outputStream.write(new byte[PART_SIZE + 1]));
+
+		verify(s3Client).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+		verify(s3Client, times(2)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+		ArgumentCaptor<CompleteMultipartUploadRequest> request =
+			ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+		verify(s3Client).completeMultipartUpload(request.capture());
+		assertEquals("upload-1", request.getValue().uploadId());
+		assertEquals(2, request.getValue().multipartUpload().parts().size());
+		verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+		verify(s3Client, never()).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	}
+
+	@Test
+	@DisplayName("part 를 올린 뒤 쓰기가 실패하면 multipart upload 를 중단하고 예외를 그대로 던짐")
+	void put_WriterFailsAfterFirstPart_AbortsUpload() {
+		IOException failure = new IOException("write failed");
+
+		IOException thrown = assertThrows(IOException.class, () -> objectStore.put("files/failed", "text/csv",
+			outputStream -> {
+				outputStream.write(new byte[PART_SIZE + 1]);
+				throw failure;
+			}));
+
+		assertSame(failure, thrown);
+		ArgumentCaptor<AbortMultipartUploadRequest> request = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+		verify(s3Client).abortMultipartUpload(request.capture());
+		assertEquals("upload-1", request.getValue().uploadId());
+		verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	}
+}
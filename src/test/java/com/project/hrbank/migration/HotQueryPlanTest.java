@@ -0,0 +1,106 @@
+package com.project.hrbank.migration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 자주 실행되는 쿼리가 인덱스를 쓸 수 있는지 확인 (로컬 PostgreSQL 필요)
+ * enable_seqscan 을 끄면 플래너는 쓸 수 있는 인덱스가 있을 때 반드시 인덱스를 고르므로,
+ * 데이터 양과 관계없이 실행 계획에 Seq Scan 이 남아 있다면 그 쿼리를 받쳐 줄 인덱스가 없다는 뜻이다.
+ */
+@SpringBootTest
+@Transactional
+class HotQueryPlanTest {
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	static Stream<Arguments> hotQueries() {
+		return Stream.of(
+			Arguments.of("직원 목록 이름순 keyset",
+				"SELECT e.* FROM employees e WHERE (e.name, e.employee_id) > ('김민준', 10) "
+					+ "ORDER BY e.name, e.employee_id LIMIT 31"),
+			Arguments.of("직원 이름/이메일 부분 일치",
+				"SELECT e.* FROM employees e WHERE (e.name ILIKE '%민준%' OR e.email ILIKE '%민준%') "
+					+ "ORDER BY e.name, e.employee_id LIMIT 31"),
+			Arguments.of("직원 이름/이메일 앞부분 일치",
+				"SELECT e.* FROM employees e WHERE (LOWER(e.name) LIKE 'kim%' OR LOWER(e.email) LIKE 'kim%') "
+					+ "ORDER BY e.name, e.employee_id LIMIT 31"),
+			Arguments.of("부서 소속 직원 존재 여부 (existsByDepartmentId)",
+				"SELECT 1 FROM employees e WHERE e.department_id = 1 LIMIT 1"),
+			Arguments.of("상태별 직원 수 (countByStatus)",
+				"SELECT COUNT(*) FROM employees e WHERE e.status = 'ACTIVE'"),
+			Arguments.of("상태 + 입사일 범위 직원 수 (countEmployees)",
+				"SELECT COUNT(*) FROM employees e WHERE e.status = 'ACTIVE' "
+					+ "AND e.hire_date >= DATE '2024-01-01' AND e.hire_date <= DATE '2024-12-31'"),
+			Arguments.of("입사일 범위 직원 수 (countByHireDateBetween)",
+				"SELECT COUNT(*) FROM employees e WHERE e.hire_date BETWEEN DATE '2024-01-01' AND DATE '2024-12-31'"),
+			Arguments.of("직급별 분포 (employee_distribution_rollups)",
+				"SELECT r.position, SUM(r.employee_count) FROM employee_distribution_rollups r "
+					+ "WHERE r.status = 'ACTIVE' GROUP BY r.position"),
+			Arguments.of("부서 목록 설립일순 keyset",
+				"SELECT d.* FROM departments d WHERE (d.established_date, d.department_id) < (DATE '2020-01-01', 5) "
+					+ "ORDER BY d.established_date DESC, d.department_id DESC LIMIT 31"),
+			Arguments.of("변경 이력 목록 keyset",
+				"SELECT l.* FROM employee_change_logs l "
+					+ "WHERE (l.changed_at, l.log_id) < (TIMESTAMP '2025-03-01 00:00:00', 100) "
+					+ "ORDER BY l.changed_at DESC, l.log_id DESC LIMIT 31"),
+			Arguments.of("사원 번호별 변경 이력",
+				"SELECT l.* FROM employee_change_logs l WHERE l.employee_number = 'EMP001' "
+					+ "ORDER BY l.changed_at DESC, l.log_id DESC LIMIT 31"),
+			Arguments.of("변경 이력 메모 부분 일치",
+				"SELECT l.* FROM employee_change_logs l WHERE l.memo ILIKE '%부서 이동%' "
+					+ "ORDER BY l.changed_at DESC, l.log_id DESC LIMIT 31"),
+			Arguments.of("백업 이후 변경 여부 (existsByChangedAtAfter)",
+				"SELECT 1 FROM employee_change_logs l WHERE l.changed_at > TIMESTAMP '2025-03-01 00:00:00' LIMIT 1"),
+			Arguments.of("증분 백업 대상 직원",
+				"SELECT e.employee_id FROM employees e WHERE e.employee_id > 0 AND e.employee_number IN ("
+					+ "SELECT l.employee_number FROM employee_change_logs l "
+					+ "WHERE l.changed_at > TIMESTAMP '2025-03-01 00:00:00') ORDER BY e.employee_id LIMIT 1000"),
+			Arguments.of("백업 목록 keyset",
+				"SELECT b.* FROM backups b WHERE (b.started_at, b.backup_id) < (TIMESTAMP '2025-03-01 00:00:00', 10) "
+					+ "ORDER BY b.started_at DESC, b.backup_id DESC LIMIT 31"),
+			Arguments.of("마지막 백업 (findLastBackup)",
+				"SELECT * FROM backups ORDER BY ended_at DESC LIMIT 1"),
+			Arguments.of("마지막 완료 백업 (findLastCompletedBackup)",
+				"SELECT * FROM backups WHERE status = 'COMPLETED' ORDER BY started_at DESC, backup_id DESC LIMIT 1"),
+			Arguments.of("마지막 완료 전체 백업 (findLastCompletedFullBackup)",
+				"SELECT * FROM backups WHERE status = 'COMPLETED' AND type = 'FULL' "
+					+ "ORDER BY started_at DESC, backup_id DESC LIMIT 1"),
+			Arguments.of("증분 백업 체인 (findIncrementalChain)",
+				"SELECT * FROM backups b WHERE b.base_backup_id = 1 AND b.status = 'COMPLETED' AND b.backup_id <= 10 "
+					+ "ORDER BY b.backup_id"),
+			Arguments.of("진행 중 백업 존재 여부 (existsByStatus)",
+				"SELECT 1 FROM backups b WHERE b.status = 'IN_PROGRESS' LIMIT 1"),
+			Arguments.of("중단된 백업 정리 (updateStaleStatus)",
+				"SELECT b.backup_id FROM backups b WHERE b.status = 'IN_PROGRESS' "
+					+ "AND (b.heartbeat_at IS NULL OR b.heartbeat_at < TIMESTAMP '2025-03-01 00:00:00')")
+		);
+	}
+
+	@BeforeEach
+	void disableSeqScan() {
+		jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("hotQueries")
+	void hotQuery_UsesIndex(String name, String sql) {
+		List<String> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, String.class);
+
+		assertThat(plan)
+			.as("%s%n%s", name, String.join(System.lineSeparator(), plan))
+			.noneMatch(line -> line.contains("Seq Scan"));
+	}
+}
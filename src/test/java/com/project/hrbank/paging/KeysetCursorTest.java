@@ -0,0 +1,39 @@
+package com.project.hrbank.paging;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import com.project.hrbank.util.paging.KeysetCursor;
+
+class KeysetCursorTest {
+
+	@Test
+	@DisplayName("정렬 값에 구분자가 들어 있어도 토큰을 풀면 원래 커서로 돌아온다")
+	void decode_RoundTrip_Success() {
+		KeysetCursor cursor = new KeysetCursor("name", Sort.Direction.ASC, 42L, "개발,운영");
+
+		assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+	}
+
+	@Test
+	@DisplayName("형식이 맞지 않는 토큰은 IllegalArgumentException 으로 거부한다")
+	void decode_InvalidToken_Fail() {
+		assertThatThrownBy(() -> KeysetCursor.decode("2025-03-01T00:00:00"))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	@DisplayName("정렬 기준이나 방향이 바뀐 요청에는 이전 커서를 쓸 수 없다")
+	void verifySort_ChangedSort_Fail() {
+		KeysetCursor cursor = new KeysetCursor("name", Sort.Direction.ASC, 42L, "개발");
+
+		assertThatCode(() -> cursor.verifySort(Sort.Order.asc("name"))).doesNotThrowAnyException();
+		assertThatThrownBy(() -> cursor.verifySort(Sort.Order.desc("name")))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> cursor.verifySort(Sort.Order.asc("createdAt")))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
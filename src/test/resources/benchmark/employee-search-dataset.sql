@@ -0,0 +1,22 @@
+-- 직원 검색 지연 시간 측정용 데이터 (부서 50개, 직원 300,000명)
+-- EmployeeSearchLatencyTest 가 테스트 트랜잭션 안에서 실행하고, 테스트가 끝나면 롤백된다.
+INSERT INTO departments (name, description, established_date, created_at)
+SELECT 'BENCH-부서-' || g, '검색 성능 측정용 부서 ' || g, DATE '2000-01-01' + g, now()
+FROM generate_series(1, 50) AS g;
+
+INSERT INTO employees (name, email, employee_number, position, hire_date, status, created_at, department_id)
+SELECT (ARRAY ['김', '이', '박', '최', '정', '강', '조', '윤', '장', '임'])[1 + g % 10]
+           || (ARRAY ['민준', '서연', '도윤', '지우', '하준', '서윤', '시우', '지민', '주원', '하은', '예준', '수아'])[1 + (g / 10) % 12]
+           || (g % 1000),
+       'bench.user' || g || '@hrbank.test',
+       'BENCH' || g,
+       (ARRAY ['사원', '주임', '대리', '과장', '차장', '부장'])[1 + g % 6],
+       DATE '2010-01-01' + (g % 5000),
+       CASE WHEN g % 20 = 0 THEN 'RESIGNED' ELSE 'ACTIVE' END,
+       now(),
+       d.department_id
+FROM generate_series(1, 300000) AS g
+         JOIN departments d ON d.name = 'BENCH-부서-' || (1 + g % 50);
+
+ANALYZE departments;
+ANALYZE employees;